@@ -1,10 +1,14 @@
 package mx.poo.pvzproject;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import mx.poo.pvzproject.gameProcess.managers.RenderSystem;
 import mx.poo.pvzproject.ui.screens.GameScreenManager;
+import mx.poo.pvzproject.ui.screens.LoadingScreen;
 import mx.poo.pvzproject.ui.screens.MenuScreen;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.BackgroundMusic;
+import mx.poo.pvzproject.ui.utils.Constants;
 
 /**
  * Clase principal del videojuego.
@@ -33,28 +37,53 @@ public class MainGame extends Game {
     /**
      * Método llamado al iniciar la aplicación.
      * <p>
-     * Inicializa el sistema de renderizado, carga los assets globales
-     * y establece la pantalla inicial del juego (menú principal).
+     * Inicializa el sistema de renderizado y encola la carga de los
+     * assets: primero los del menú, después los comunes de la partida
+     * y los del bioma del nivel actual. Una pantalla de carga espera
+     * solo al menú; el resto se sigue cargando mientras el menú está
+     * visible.
      * </p>
      */
     @Override
     public void create() {
         renderSystem = new RenderSystem();
-        Assets.load();
-        setScreen(new MenuScreen(this));
+        Assets.queue(Assets.Group.MENU);
+        Assets.queue(Assets.Group.GAMEPLAY);
+        Assets.queue(Assets.Group.forLevel(Constants.CURRENT_LEVEL));
+        setScreen(new LoadingScreen(this, Assets.Group.MENU, () -> setScreen(new MenuScreen(this))));
     }
 
     /**
      * Inicia la partida cambiando a la pantalla de juego.
      * <p>
      * Este método es invocado normalmente desde el menú principal
-     * cuando el jugador decide comenzar una nueva partida.
+     * cuando el jugador decide comenzar una nueva partida. Si los
+     * recursos de la partida aún no terminan de cargarse, muestra
+     * antes la pantalla de carga.
      * </p>
      */
     public void startGame() {
+        for (Assets.Group group : new Assets.Group[]{
+            Assets.Group.GAMEPLAY, Assets.Group.forLevel(Constants.CURRENT_LEVEL)}) {
+            if (!Assets.isReady(group)) {
+                setScreen(new LoadingScreen(this, group, this::startGame));
+                return;
+            }
+        }
+        Assets.applyLanguage();
         setScreen(new GameScreenManager(this));
     }
 
+    /**
+     * Avanza la transición de la música, común a todas las pantallas,
+     * y dibuja la pantalla activa.
+     */
+    @Override
+    public void render() {
+        BackgroundMusic.update(Gdx.graphics.getDeltaTime());
+        super.render();
+    }
+
     /**
      * Libera los recursos utilizados por el juego.
      * <p>
@@ -4,6 +4,10 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Clase base abstracta para todos los enemigos del juego.
  *
@@ -23,19 +27,54 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  * y pueden personalizar estadísticas como vida y velocidad.
  * </p>
  *
+ * <p>
+ * Los enemigos se reutilizan mediante {@link EnemyPool}; al volver
+ * a aparecer se reinician con {@link #reset(float, float)}.
+ * </p>
+ *
+ * <p>
+ * Mientras está en juego, el enemigo es una vista sobre su slot en
+ * un {@link EnemyStore}: posición, vida, velocidad, animación y estado
+ * de ataque viven en los arreglos del almacén. Los campos propios solo
+ * se usan cuando no está vinculado (recién creado, retirado o en pruebas),
+ * por lo que las subclases deben leerlos mediante los getters.
+ * </p>
+ *
  * @author SmallJunior
  * @version 1.0
  */
 public abstract class Enemy {
     protected float x, y;
+
+    /** Posición X al inicio del último paso de simulación. */
+    protected float prevX;
+
+    /** Posición X interpolada usada para dibujar. */
+    protected float renderX;
     protected int health;
     protected int maxHealth;
     protected float speed;
 
+    /** Velocidad original, restaurada al reutilizar el enemigo. */
+    private final float baseSpeed;
+
     protected Animation<TextureRegion> animation;
     protected float stateTime = 0f;
 
-    private boolean eating = false;
+    /** Estado de ataque cuando no está vinculado a un almacén. */
+    boolean eating = false;
+
+    /** Almacén al que está vinculado, o null si usa sus propios campos. */
+    EnemyStore store;
+
+    /** Slot dentro del almacén. */
+    int slot = -1;
+
+    /** Veces que el enemigo ha sido reutilizado. */
+    private int generation = 0;
+
+    /** Pool al que pertenece, o null si se creó directamente. */
+    EnemyPool pool;
 
     /**
      * Constructor base para un enemigo.
@@ -48,15 +87,48 @@ public abstract class Enemy {
     public Enemy(float x, float y, int health, float speed) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.renderX = x;
         this.health = health;
         this.maxHealth = health;
         this.speed = speed;
+        this.baseSpeed = speed;
         loadAnimation();
     }
 
     /**
-     * Carga los recursos gráficos y configura la animación del enemigo.
-     * Debe ser implementado por cada subclase.
+     * Reinicia el enemigo para que vuelva a aparecer en el campo.
+     *
+     * <p>
+     * Restaura vida, velocidad, animación y estado de ataque,
+     * e incrementa la generación para invalidar referencias antiguas.
+     * </p>
+     *
+     * @param x nueva posición en X
+     * @param y nueva posición en Y
+     */
+    public void reset(float x, float y) {
+        // Un enemigo reutilizado deja de ser vista de su slot anterior
+        store = null;
+        slot = -1;
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.renderX = x;
+        this.health = maxHealth;
+        this.speed = baseSpeed;
+        this.stateTime = 0f;
+        this.eating = false;
+        generation++;
+    }
+
+    /**
+     * Asigna las animaciones del enemigo.
+     *
+     * <p>
+     * Las subclases deben tomarlas de {@link mx.poo.pvzproject.ui.utils.Assets#animation},
+     * que las comparte entre todas las instancias; la entidad solo guarda su {@code stateTime}.
+     * </p>
      */
     protected abstract void loadAnimation();
 
@@ -66,6 +138,14 @@ public abstract class Enemy {
      * @param delta tiempo transcurrido desde el último frame
      */
     public void update(float delta) {
+        if (store != null) {
+            int i = slot;
+            store.prevX[i] = store.x[i];
+            store.x[i] -= store.speed[i] * store.moveScale[i] * delta;
+            store.stateTime[i] += delta;
+            return;
+        }
+        prevX = x;
         if (!eating) {
             x -= speed * delta;
         }
@@ -78,11 +158,21 @@ public abstract class Enemy {
      * @param batch SpriteBatch utilizado para dibujar
      */
     public void draw(SpriteBatch batch) {
-        TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
+        TextureRegion currentFrame = animation.getKeyFrame(getStateTime(), true);
         float scale = 5f; // slime grande
         float width = currentFrame.getRegionWidth() * scale;
         float height = currentFrame.getRegionHeight() * scale;
-        batch.draw(currentFrame, x - width / 2f, y - height / 2f, width, height);
+        batch.draw(currentFrame, renderX - width / 2f, getY() - height / 2f, width, height);
+    }
+
+    /**
+     * Calcula la posición de dibujo entre el paso anterior y el actual.
+     *
+     * @param alpha fracción del siguiente paso de simulación (0 a 1)
+     */
+    public void interpolate(float alpha) {
+        float from = store != null ? store.prevX[slot] : prevX;
+        renderX = from + (getX() - from) * alpha;
     }
 
     /**
@@ -91,7 +181,20 @@ public abstract class Enemy {
      * @param eating true si está comiendo, false si avanza
      */
     public void setEating(boolean eating) {
-        this.eating = eating;
+        if (store != null) {
+            store.moveScale[slot] = eating ? 0f : 1f;
+        } else {
+            this.eating = eating;
+        }
+    }
+
+    /**
+     * Indica si el enemigo está atacando (comiendo una planta).
+     *
+     * @return true si está comiendo
+     */
+    public boolean isEating() {
+        return store != null ? store.moveScale[slot] == 0f : eating;
     }
 
     /**
@@ -100,7 +203,11 @@ public abstract class Enemy {
      * @param damage cantidad de daño a restar de la vida
      */
     public void takeDamage(int damage) {
-        health -= damage;
+        if (store != null) {
+            store.applyDamage(slot, damage);
+        } else {
+            health -= damage;
+        }
     }
 
     /**
@@ -109,7 +216,7 @@ public abstract class Enemy {
      * @return true si la vida es menor o igual a 0
      */
     public boolean isDead() {
-        return health <= 0;
+        return getHealth() <= 0;
     }
 
     /**
@@ -118,14 +225,79 @@ public abstract class Enemy {
      * @return true si x < -100
      */
     public boolean isOffScreen() {
-        return x < -100;
+        return getX() < EnemyStore.OFF_SCREEN_X;
     }
 
-    public float getX() { return x; }
-    public float getY() { return y; }
+    public float getX() { return store != null ? store.x[slot] : x; }
+    public float getY() { return store != null ? store.y[slot] : y; }
+    public float getStateTime() { return store != null ? store.stateTime[slot] : stateTime; }
+    public float getRenderX() { return renderX; }
+
+    /**
+     * Identifica la vida actual del enemigo dentro de su pool.
+     *
+     * @return número de veces que ha sido reutilizado
+     */
+    public int getGeneration() { return generation; }
 
     // Getters para barra de vida
-    public int getHealth() { return health; }
+    public int getHealth() { return store != null ? store.health[slot] : health; }
     public int getMaxHealth() { return maxHealth; }
 
+    // ===== INSTANTÁNEAS =====
+
+    /**
+     * Escribe el estado variable del enemigo para una instantánea.
+     *
+     * <p>
+     * Lee del almacén si está vinculado. El tipo lo guarda quien llama.
+     * </p>
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        if (store != null) {
+            int i = slot;
+            out.writeFloat(store.x[i]);
+            out.writeFloat(store.prevX[i]);
+            out.writeFloat(store.y[i]);
+            out.writeFloat(store.speed[i]);
+            out.writeFloat(store.stateTime[i]);
+            out.writeInt(store.health[i]);
+            out.writeBoolean(store.moveScale[i] == 0f);
+        } else {
+            out.writeFloat(x);
+            out.writeFloat(prevX);
+            out.writeFloat(y);
+            out.writeFloat(speed);
+            out.writeFloat(stateTime);
+            out.writeInt(health);
+            out.writeBoolean(eating);
+        }
+    }
+
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * <p>
+     * El enemigo debe estar desvinculado (recién obtenido de su pool);
+     * el almacén lo vincula en la siguiente sincronización.
+     * </p>
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura
+     * @throws IllegalStateException si el enemigo sigue vinculado a un almacén
+     */
+    public void readState(DataInput in) throws IOException {
+        if (store != null) throw new IllegalStateException("Enemigo vinculado a un almacén");
+        x = in.readFloat();
+        prevX = in.readFloat();
+        y = in.readFloat();
+        speed = in.readFloat();
+        stateTime = in.readFloat();
+        health = in.readInt();
+        eating = in.readBoolean();
+        renderX = x;
+    }
 }
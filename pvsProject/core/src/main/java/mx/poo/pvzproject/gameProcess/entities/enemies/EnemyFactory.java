@@ -0,0 +1,25 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+/**
+ * Fábrica precompilada de enemigos.
+ *
+ * <p>
+ * Cada tipo de enemigo registra una implementación (normalmente una
+ * referencia a su constructor {@code (x, y)}), de modo que las oleadas
+ * crean instancias sin usar reflexión.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public interface EnemyFactory {
+
+    /**
+     * Crea un enemigo en la posición indicada.
+     *
+     * @param x posición inicial en X
+     * @param y posición inicial en Y
+     * @return nueva instancia del enemigo
+     */
+    Enemy create(float x, float y);
+}
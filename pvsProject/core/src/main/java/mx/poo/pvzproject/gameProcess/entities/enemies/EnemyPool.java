@@ -0,0 +1,91 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.List;
+
+/**
+ * Pool de enemigos de un mismo tipo.
+ *
+ * <p>
+ * Las oleadas obtienen los enemigos de aquí en lugar de construirlos:
+ * tras el calentamiento, los slimes muertos o fuera de pantalla se
+ * reutilizan y generar una oleada no reserva memoria ni vuelve a
+ * cargar animaciones.
+ * </p>
+ *
+ * <p>
+ * Contrato de uso:
+ * </p>
+ * <ul>
+ *     <li>{@link #obtain(float, float)} devuelve un enemigo reiniciado
+ *     con {@link Enemy#reset(float, float)}.</li>
+ *     <li>{@link #release(Enemy)} se llama una sola vez, cuando el enemigo
+ *     sale de la lista activa. Los enemigos creados fuera de un pool
+ *     simplemente se descartan.</li>
+ *     <li>Quien guarde una referencia a un enemigo debe comparar
+ *     {@link Enemy#getGeneration()} para detectar que fue reutilizado.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class EnemyPool extends Pool<Enemy> {
+
+    /** Capacidad máxima de enemigos libres por tipo. */
+    private static final int MAX_FREE = 256;
+
+    /** Fábrica que crea los enemigos cuando el pool está vacío. */
+    private final EnemyFactory factory;
+
+    /**
+     * Constructor del pool.
+     *
+     * @param factory fábrica del tipo de enemigo
+     */
+    public EnemyPool(EnemyFactory factory) {
+        super(16, MAX_FREE);
+        this.factory = factory;
+    }
+
+    @Override
+    protected Enemy newObject() {
+        Enemy e = factory.create(0f, 0f);
+        e.pool = this;
+        return e;
+    }
+
+    /**
+     * Obtiene un enemigo listo para entrar al campo.
+     *
+     * @param x posición inicial en X
+     * @param y posición inicial en Y
+     * @return enemigo reiniciado
+     */
+    public Enemy obtain(float x, float y) {
+        Enemy e = obtain();
+        e.reset(x, y);
+        return e;
+    }
+
+    /**
+     * Devuelve un enemigo al pool del que salió.
+     *
+     * @param e enemigo que dejó de estar activo
+     */
+    public static void release(Enemy e) {
+        if (e.pool != null) e.pool.free(e);
+    }
+
+    /**
+     * Devuelve a sus pools todos los enemigos de una lista y la vacía.
+     *
+     * @param enemies lista de enemigos activos
+     */
+    public static void releaseAll(List<Enemy> enemies) {
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            release(enemies.get(i));
+        }
+        enemies.clear();
+    }
+}
@@ -0,0 +1,309 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Almacén de enemigos en arreglos paralelos (estructura de arreglos).
+ *
+ * <p>
+ * Guarda posición, velocidad, vida, tiempo de animación y estado
+ * de ataque de todos los enemigos activos en arreglos primitivos
+ * contiguos. El movimiento de todo el grupo se actualiza en un solo
+ * recorrido sin llamadas virtuales ({@link #advance(float)}), que la
+ * JVM puede vectorizar.
+ * </p>
+ *
+ * <p>
+ * Cada {@link Enemy} vinculado funciona como una vista sobre su
+ * posición (slot) en el almacén: sus getters y modificadores leen
+ * y escriben directamente en estos arreglos. Un enemigo no vinculado
+ * (por ejemplo, recién creado o en pruebas) usa sus propios campos.
+ * </p>
+ *
+ * <p>
+ * El orden de los slots sigue al de la lista de enemigos activos:
+ * {@link #sync(List)} vincula los enemigos nuevos y refleja las
+ * eliminaciones hechas sobre la lista. {@link #compact()} permite
+ * además eliminar desde el propio almacén los enemigos muertos
+ * o fuera de pantalla.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class EnemyStore {
+
+    /** Límite izquierdo a partir del cual un enemigo sale de pantalla. */
+    static final float OFF_SCREEN_X = -100f;
+
+    // ===== DATOS POR SLOT =====
+
+    float[] x;
+    float[] prevX;
+    float[] y;
+    float[] speed;
+    float[] stateTime;
+
+    /** 1 si el enemigo avanza, 0 si está comiendo (evita ramas al mover). */
+    float[] moveScale;
+
+    int[] health;
+
+    /** Enemigo vinculado a cada slot. */
+    Enemy[] owners;
+
+    /** Número de slots ocupados. */
+    private int size = 0;
+
+    /**
+     * Crea un almacén con capacidad inicial por defecto.
+     */
+    public EnemyStore() {
+        this(64);
+    }
+
+    /**
+     * Crea un almacén con la capacidad inicial indicada.
+     *
+     * @param capacity número de enemigos antes de necesitar crecer
+     */
+    public EnemyStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    // ===== ACTUALIZACIÓN EN BLOQUE =====
+
+    /**
+     * Avanza el movimiento y la animación de todos los enemigos.
+     *
+     * <p>
+     * Equivale a llamar {@link Enemy#update(float)} sobre cada uno.
+     * </p>
+     *
+     * @param delta tiempo del paso de simulación
+     */
+    public void advance(float delta) {
+        advance(0, size, delta);
+    }
+
+    /**
+     * Avanza solo los slots {@code [from, to)}.
+     *
+     * <p>
+     * Cada slot es independiente, por lo que tramos distintos pueden
+     * avanzarse en paralelo con el mismo resultado.
+     * </p>
+     *
+     * @param from  primer slot (inclusivo)
+     * @param to    último slot (exclusivo)
+     * @param delta tiempo del paso de simulación
+     */
+    public void advance(int from, int to, float delta) {
+        final float[] x = this.x;
+        final float[] prevX = this.prevX;
+        final float[] speed = this.speed;
+        final float[] moveScale = this.moveScale;
+        final float[] stateTime = this.stateTime;
+
+        for (int i = from; i < to; i++) {
+            prevX[i] = x[i];
+            x[i] -= speed[i] * moveScale[i] * delta;
+            stateTime[i] += delta;
+        }
+    }
+
+    /**
+     * Resta vida al enemigo de un slot.
+     *
+     * @param index  slot del enemigo
+     * @param amount daño aplicado
+     */
+    public void applyDamage(int index, int amount) {
+        health[index] -= amount;
+    }
+
+    /**
+     * Indica si el enemigo de un slot debe retirarse del juego.
+     *
+     * @param index slot del enemigo
+     * @return true si está muerto o fuera de pantalla
+     */
+    public boolean isFinished(int index) {
+        return health[index] <= 0 || x[index] < OFF_SCREEN_X;
+    }
+
+    // ===== SINCRONIZACIÓN CON LA LISTA =====
+
+    /**
+     * Hace que los slots coincidan, en orden, con la lista de enemigos activos.
+     *
+     * <p>
+     * Los enemigos nuevos se vinculan copiando su estado; los que
+     * siguen en la lista conservan sus datos (desplazados si hubo
+     * eliminaciones antes que ellos) y los que ya no están se
+     * desvinculan, recuperando su estado en sus propios campos.
+     * </p>
+     *
+     * <p>
+     * Supone que la lista solo cambia eliminando elementos (conservando
+     * el orden) y agregando al final, como hace el juego.
+     * </p>
+     *
+     * @param enemies lista de enemigos activos
+     */
+    public void sync(List<Enemy> enemies) {
+        int n = enemies.size();
+        ensureCapacity(n);
+
+        for (int i = 0; i < n; i++) {
+            Enemy e = enemies.get(i);
+            if (e.store == this && e.slot == i) continue;
+
+            // El ocupante anterior del slot ya no está en la lista
+            // o fue desplazado antes; si sigue apuntando aquí, se libera.
+            Enemy previous = i < size ? owners[i] : null;
+            if (previous != null && previous != e && previous.store == this && previous.slot == i) {
+                detach(i);
+            }
+
+            if (e.store == this) {
+                move(e.slot, i);
+            } else {
+                attach(e, i);
+            }
+        }
+
+        for (int i = n; i < size; i++) {
+            Enemy stale = owners[i];
+            if (stale != null && stale.store == this && stale.slot == i) detach(i);
+            owners[i] = null;
+        }
+        size = n;
+    }
+
+    /**
+     * Elimina los enemigos muertos o fuera de pantalla conservando el orden.
+     *
+     * <p>
+     * Los enemigos eliminados quedan desvinculados con su estado final.
+     * </p>
+     *
+     * @return número de enemigos eliminados
+     */
+    public int compact() {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (isFinished(read)) {
+                detach(read);
+                owners[read] = null;
+                continue;
+            }
+            if (write != read) move(read, write);
+            write++;
+        }
+        int removed = size - write;
+        for (int i = write; i < size; i++) owners[i] = null;
+        size = write;
+        return removed;
+    }
+
+    /**
+     * Desvincula todos los enemigos y vacía el almacén.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            Enemy e = owners[i];
+            if (e != null && e.store == this && e.slot == i) detach(i);
+            owners[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Número de enemigos en el almacén.
+     *
+     * @return slots ocupados
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Enemigo vinculado a un slot.
+     *
+     * @param index slot consultado
+     * @return enemigo que ocupa el slot
+     */
+    public Enemy get(int index) {
+        return owners[index];
+    }
+
+    // ===== INTERNOS =====
+
+    /** Copia el estado de un enemigo no vinculado al slot indicado. */
+    private void attach(Enemy e, int i) {
+        x[i] = e.x;
+        prevX[i] = e.prevX;
+        y[i] = e.y;
+        speed[i] = e.speed;
+        stateTime[i] = e.stateTime;
+        moveScale[i] = e.eating ? 0f : 1f;
+        health[i] = e.health;
+        owners[i] = e;
+        e.store = this;
+        e.slot = i;
+    }
+
+    /** Devuelve el estado del slot a los campos del enemigo y lo desvincula. */
+    private void detach(int i) {
+        Enemy e = owners[i];
+        e.x = x[i];
+        e.prevX = prevX[i];
+        e.y = y[i];
+        e.speed = speed[i];
+        e.stateTime = stateTime[i];
+        e.health = health[i];
+        e.eating = moveScale[i] == 0f;
+        e.store = null;
+        e.slot = -1;
+    }
+
+    /** Mueve los datos de un slot a otro anterior y actualiza la vista. */
+    private void move(int from, int to) {
+        x[to] = x[from];
+        prevX[to] = prevX[from];
+        y[to] = y[from];
+        speed[to] = speed[from];
+        stateTime[to] = stateTime[from];
+        moveScale[to] = moveScale[from];
+        health[to] = health[from];
+        Enemy e = owners[from];
+        owners[to] = e;
+        e.slot = to;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= x.length) return;
+        int capacity = Math.max(needed, x.length * 2);
+        x = Arrays.copyOf(x, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        stateTime = Arrays.copyOf(stateTime, capacity);
+        moveScale = Arrays.copyOf(moveScale, capacity);
+        health = Arrays.copyOf(health, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    private void allocate(int capacity) {
+        x = new float[capacity];
+        prevX = new float[capacity];
+        y = new float[capacity];
+        speed = new float[capacity];
+        stateTime = new float[capacity];
+        moveScale = new float[capacity];
+        health = new int[capacity];
+        owners = new Enemy[capacity];
+    }
+}
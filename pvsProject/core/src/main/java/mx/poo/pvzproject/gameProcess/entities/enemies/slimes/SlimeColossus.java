@@ -1,12 +1,11 @@
 package mx.poo.pvzproject.gameProcess.entities.enemies.slimes;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Constants;
 
 /**
  * Enemigo tipo jefe (Slime Coloso).
@@ -42,19 +41,15 @@ public class SlimeColossus extends Enemy {
 
     @Override
     protected void loadAnimation() {
-        Array<TextureRegion> frames = new Array<>();
-        for (Texture frame : Assets.colossusStaticFrames) {
-            frames.add(new TextureRegion(frame));
-        }
-        animation = new Animation<>(0.15f, frames, Animation.PlayMode.LOOP);
+        animation = Assets.animation(AnimationKey.SLIME_COLOSSUS);
     }
 
     @Override
     public void draw(SpriteBatch batch) {
-        TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
-        float scale = 0.1f;
+        TextureRegion currentFrame = animation.getKeyFrame(getStateTime(), true);
+        float scale = 1f / Constants.SPRITE_SUPERSAMPLE;
         float width = currentFrame.getRegionWidth() * scale;
         float height = currentFrame.getRegionHeight() * scale;
-        batch.draw(currentFrame, x - width / 2f, y - height / 2f, width, height);
+        batch.draw(currentFrame, renderX - width / 2f, getY() - height / 2f, width, height);
     }
 }
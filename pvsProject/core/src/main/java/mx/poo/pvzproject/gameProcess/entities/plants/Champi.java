@@ -1,14 +1,17 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -31,6 +34,12 @@ import java.util.List;
  *     <li>SMASH: Ataque y autodestrucción.</li>
  * </ul>
  *
+ * <p>
+ * Si hay varios enemigos en rango, elige el más cercano por delante
+ * (x igual o mayor, de donde llegan); solo si no hay ninguno elige
+ * uno por detrás, el de menor x.
+ * </p>
+ *
  * @author SmallJunior
  * @version 1.0
  */
@@ -46,6 +55,9 @@ public class Champi extends Plant {
 
     private Enemy targetEnemy;
 
+    /** Generación del objetivo al fijarlo; si cambia, el enemigo fue reutilizado. */
+    private int targetGeneration;
+
     private Animation<TextureRegion> idleAnimation;   // 16 frames
     private Animation<TextureRegion> smashAnimation;  // 4 frames
     private TextureRegion alertFrame;                 // 1 frame
@@ -61,51 +73,43 @@ public class Champi extends Plant {
      */
     public Champi(float x, float y) {
         super(x, y);
-        this.cost = 5;
         this.maxResistanceTime = Float.MAX_VALUE; // no muere por tiempo
     }
 
     @Override
     protected void loadAnimation() {
-
-        // IDLE (16 frames)
-        Array<TextureRegion> idleFrames = new Array<>();
-        for (Texture t : Assets.champiNeutralFrames) {
-            idleFrames.add(new TextureRegion(t));
-        }
-        idleAnimation = new Animation<>(0.1f, idleFrames, Animation.PlayMode.LOOP);
-
-        // ALERT (1 frame)
-        alertFrame = new TextureRegion(Assets.champiDetectedTexture);
-
-        // SMASH (4 frames)
-        Array<TextureRegion> smashFrames = new Array<>();
-        for (Texture t : Assets.champiAttackFrames) {
-            smashFrames.add(new TextureRegion(t));
-        }
-        smashAnimation = new Animation<>(0.08f, smashFrames, Animation.PlayMode.NORMAL);
+        idleAnimation = Assets.animation(AnimationKey.CHAMPI_IDLE);
+        alertFrame = Assets.animation(AnimationKey.CHAMPI_ALERT).getKeyFrame(0f);
+        smashAnimation = Assets.animation(AnimationKey.CHAMPI_SMASH);
     }
 
     @Override
-    public void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
 
         if (isDead()) return;
 
         switch (currentState) {
 
             case IDLE:
-                for (Enemy e : enemies) {
-                    float attackRange = 140f;
-
-                    if (!e.isDead() &&
-                        Math.abs(e.getY() - y) < 60 &&
-                        Math.abs(e.getX() - x) <= attackRange) {
+                float attackRange = 140f;
+
+                // Rango inclusivo: |dx| <= attackRange, primero por delante
+                Enemy e = enemies.firstAliveInRange(
+                    Math.nextDown(x),
+                    Math.nextUp(x + attackRange),
+                    y, 60);
+                if (e == null) {
+                    e = enemies.firstAliveInRange(
+                        Math.nextDown(x - attackRange),
+                        x,
+                        y, 60);
+                }
 
-                        targetEnemy = e;
-                        currentState = State.ALERT;
-                        alertTimer = 0f;
-                        break;
-                    }
+                if (e != null) {
+                    targetEnemy = e;
+                    targetGeneration = e.getGeneration();
+                    currentState = State.ALERT;
+                    alertTimer = 0f;
                 }
                 break;
 
@@ -120,8 +124,9 @@ public class Champi extends Plant {
 
             case SMASH:
 
-                // Si el enemigo muere antes, cancelar
-                if (targetEnemy != null && targetEnemy.isDead()) {
+                // Si el enemigo muere (o vuelve a su pool) antes, cancelar
+                if (targetEnemy != null &&
+                    (targetEnemy.isDead() || targetEnemy.getGeneration() != targetGeneration)) {
                     targetEnemy = null;
                 }
 
@@ -168,7 +173,7 @@ public class Champi extends Plant {
 
         //Si está atacando y hay enemigo, dibujar sobre el enemigo
         if (currentState == State.SMASH && targetEnemy != null) {
-            drawX = targetEnemy.getX();
+            drawX = targetEnemy.getRenderX();
             drawY = targetEnemy.getY() + 10f;
         }
 
@@ -179,13 +184,35 @@ public class Champi extends Plant {
             height);
     }
 
-        @Override
-    public Texture getCardTexture() {
-        return Assets.cardChampi;
+    /**
+     * Además del estado base, guarda la fase (IDLE/ALERT/SMASH), el
+     * temporizador de alerta y el objetivo como índice en la lista de
+     * enemigos (-1 si no tiene o si ya fue reutilizado por su pool).
+     */
+    @Override
+    public void writeState(DataOutput out, List<Enemy> enemies) throws IOException {
+        super.writeState(out, enemies);
+        out.writeByte(currentState.ordinal());
+        out.writeFloat(alertTimer);
+
+        int target = -1;
+        if (targetEnemy != null && targetEnemy.getGeneration() == targetGeneration) {
+            target = enemies.indexOf(targetEnemy);
+        }
+        out.writeInt(target);
     }
 
     @Override
-    public float getCooldownTime() {
-        return 10f;
+    public void readState(DataInput in, List<Enemy> enemies) throws IOException {
+        super.readState(in, enemies);
+        int state = in.readUnsignedByte();
+        if (state >= State.values().length) throw new IOException("Estado de Champi inválido: " + state);
+        currentState = State.values()[state];
+        alertTimer = in.readFloat();
+
+        int target = in.readInt();
+        if (target >= enemies.size()) throw new IOException("Objetivo de Champi inválido: " + target);
+        targetEnemy = target >= 0 ? enemies.get(target) : null;
+        targetGeneration = targetEnemy != null ? targetEnemy.getGeneration() : 0;
     }
 }
@@ -1,16 +1,22 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.plants.properties.Disparador;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Constants;
+import mx.poo.pvzproject.ui.utils.Sfx;
+import mx.poo.pvzproject.ui.utils.SoundEffects;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -50,65 +56,54 @@ public class CornShooter extends Plant implements Disparador {
     public CornShooter(float x, float y) {
         super(x, y);
         this.maxResistanceTime = 3f; // ← aguanta 3 segundos de contacto
-        this.cost = 4; // ← CornShooter cuesta 4 agua
     }
 
     @Override
     protected void loadAnimation() {
-        Array<TextureRegion> frames = new Array<>();
-        for (Texture frame : Assets.cornShooterFrames) {
-            frames.add(new TextureRegion(frame));
-        }
-        animation = new Animation<>(0.08f, frames, Animation.PlayMode.LOOP);
+        animation = Assets.animation(AnimationKey.CORN_SHOOTER);
     }
 
     @Override
-    public void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
         shootTimer += delta;
 
         if (shootTimer >= SHOOT_INTERVAL) {
             shootTimer = 0f;
 
-            boolean hasEnemyAhead = false;
-            for (Enemy e : enemies) {
-                if (Math.abs(e.getY() - y) < 50 && (e.getX() > x || Math.abs(e.getX() - x) < 80)) {
-                    hasEnemyAhead = true;
-                    break;
-                }
-            }
-
-            if (hasEnemyAhead) {
+            // Enemigo en su carril delante o a menos de 80px por detrás
+            if (enemies.anyAhead(x - 80, y, 50)) {
                 shoot(projectiles, enemies);
             }
         }
     }
 
     @Override
-    public void shoot(ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void shoot(ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
         // Crea el proyectil
-        projectiles.add(new Projectile(x + 40, y, DAMAGE, 300f)); // ← velocidad maíz (ajusta)
+        projectiles.add(ProjectilePools.obtain(x + 40, y, DAMAGE, 300f)); // ← velocidad maíz (ajusta)
 
-        Assets.cornShootSound.setVolume(0.8f);  // volumen
-        Assets.cornShootSound.play();
+        SoundEffects.play(Sfx.CORN_SHOOT);
 
     }
 
-    @Override
-    public Texture getCardTexture() {
-        return Assets.cardCornShooter;
-    }
-
     @Override
     public void draw(SpriteBatch batch) {
         TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
-        float scale = 0.06f;
+        float scale = 1f / Constants.SPRITE_SUPERSAMPLE;
         float width = currentFrame.getRegionWidth() * scale;
         float height = currentFrame.getRegionHeight() * scale;
         batch.draw(currentFrame, x - width / 2.2f, y - height / 2f, width, height);
     }
 
     @Override
-    public float getCooldownTime() {
-        return 4f;
+    public void writeState(DataOutput out, List<Enemy> enemies) throws IOException {
+        super.writeState(out, enemies);
+        out.writeFloat(shootTimer);
+    }
+
+    @Override
+    public void readState(DataInput in, List<Enemy> enemies) throws IOException {
+        super.readState(in, enemies);
+        shootTimer = in.readFloat();
     }
 }
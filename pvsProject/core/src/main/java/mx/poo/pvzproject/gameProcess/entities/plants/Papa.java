@@ -1,15 +1,13 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
 import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Planta defensiva de alta resistencia (Nuez).
@@ -47,35 +45,17 @@ public class Papa extends Plant {
     public Papa(float x, float y) {
         super(x, y);
         this.maxResistanceTime = 40f; // ← aguanta 40 segundos
-        this.cost = 3; // ← CornShooter cuesta 3 agua
     }
 
     @Override
     protected void loadAnimation() {
-        // Full vida
-        Array<TextureRegion> fullFrames = new Array<>();
-        for (Texture frame : Assets.papaCompletaFrames) {
-            fullFrames.add(new TextureRegion(frame));
-        }
-        fullAnimation = new Animation<>(0.1f, fullFrames, Animation.PlayMode.LOOP);
-
-        // Media vida
-        Array<TextureRegion> comida1Frames = new Array<>();
-        for (Texture frame : Assets.papaComida1Frames) {
-            comida1Frames.add(new TextureRegion(frame));
-        }
-        comida1Animation = new Animation<>(0.1f, comida1Frames, Animation.PlayMode.LOOP);
-
-        // Baja vida
-        Array<TextureRegion> comida2Frames = new Array<>();
-        for (Texture frame : Assets.papaComida2Frames) {
-            comida2Frames.add(new TextureRegion(frame));
-        }
-        comida2Animation = new Animation<>(0.1f, comida2Frames, Animation.PlayMode.LOOP);
+        fullAnimation = Assets.animation(AnimationKey.PAPA_FULL);
+        comida1Animation = Assets.animation(AnimationKey.PAPA_COMIDA1);
+        comida2Animation = Assets.animation(AnimationKey.PAPA_COMIDA2);
     }
 
     @Override
-    public void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
         // Papa no ataca, solo bloquea
     }
 
@@ -99,13 +79,4 @@ public class Papa extends Plant {
         batch.draw(currentFrame, x - width / 2f, y - height / 2f, width, height);
 
     }
-
-    @Override
-    public Texture getCardTexture() {
-        return Assets.cardPapa; // ← retorna su card
-    }
-    @Override
-    public float getCooldownTime() {
-        return 12f;
-    }
 }
@@ -1,12 +1,15 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,7 +22,6 @@ import java.util.List;
  * <ul>
  *     <li>Posición en el grid (x, y).</li>
  *     <li>Sistema de resistencia (vida/tiempo).</li>
- *     <li>Costo de colocación (recurso agua).</li>
  *     <li>Animación y renderizado.</li>
  * </ul>
  *
@@ -28,6 +30,11 @@ import java.util.List;
  * de ataque, animación y propiedades particulares.
  * </p>
  *
+ * <p>
+ * El costo, la recarga y la carta de cada planta están en
+ * {@link PlantSpec}.
+ * </p>
+ *
  * @author SmallJunior
  * @version 1.0
  */
@@ -36,7 +43,6 @@ public abstract class Plant {
     protected float resistanceTimer = 0f;
     protected float maxResistanceTime = 5f; // tiempo resistencia base
     protected boolean dead = false;
-    protected int cost = 2; // ← costo base
 
     protected Animation<TextureRegion> animation;
     protected float stateTime = 0f;
@@ -54,8 +60,12 @@ public abstract class Plant {
     }
 
     /**
-     * Carga los recursos gráficos y configura la animación de la planta.
-     * Debe ser implementado por cada subclase.
+     * Asigna las animaciones de la planta.
+     *
+     * <p>
+     * Las subclases deben tomarlas de {@link mx.poo.pvzproject.ui.utils.Assets#animation},
+     * que las comparte entre todas las instancias; la entidad solo guarda su {@code stateTime}.
+     * </p>
      */
     protected abstract void loadAnimation();
 
@@ -64,9 +74,9 @@ public abstract class Plant {
      *
      * @param delta       tiempo transcurrido desde el último frame
      * @param projectiles lista de proyectiles activos (para disparar)
-     * @param enemies     lista de enemigos activos (para detectar objetivos)
+     * @param enemies     índice por carril de los enemigos activos (para detectar objetivos)
      */
-    public abstract void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies);
+    public abstract void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies);
 
     /**
      * Actualiza el estado interno de la planta (animación, temporizadores).
@@ -124,19 +134,40 @@ public abstract class Plant {
     public float getResistanceTimer() { return resistanceTimer; }
     public float getMaxResistanceTime() { return maxResistanceTime; }
 
-    public int getCost() { return cost; } // ← getter para costo
+    // =============================
+    // Instantáneas
+    // =============================
 
     /**
-     * Obtiene la textura de la carta asociada a esta planta.
+     * Escribe el estado variable de la planta para una instantánea.
      *
-     * @return textura para la UI de selección
+     * <p>
+     * El tipo y la posición los guarda quien llama. Las subclases con
+     * temporizadores o estados propios los agregan después de llamar
+     * a {@code super}, y los leen en el mismo orden en
+     * {@link #readState(DataInput, List)}.
+     * </p>
+     *
+     * @param out     destino
+     * @param enemies enemigos activos (para guardar objetivos como índices)
+     * @throws IOException si falla la escritura
      */
-    public abstract Texture getCardTexture();
+    public void writeState(DataOutput out, List<Enemy> enemies) throws IOException {
+        out.writeFloat(resistanceTimer);
+        out.writeBoolean(dead);
+        out.writeFloat(stateTime);
+    }
 
     /**
-     * Obtiene el tiempo de recarga (cooldown) de esta planta.
+     * Restaura el estado escrito por {@link #writeState(DataOutput, List)}.
      *
-     * @return tiempo en segundos
+     * @param in      origen
+     * @param enemies enemigos ya restaurados, en el mismo orden que al escribir
+     * @throws IOException si falla la lectura
      */
-    public abstract float getCooldownTime();
+    public void readState(DataInput in, List<Enemy> enemies) throws IOException {
+        resistanceTimer = in.readFloat();
+        dead = in.readBoolean();
+        stateTime = in.readFloat();
+    }
 }
@@ -0,0 +1,25 @@
+package mx.poo.pvzproject.gameProcess.entities.plants;
+
+/**
+ * Fábrica precompilada de plantas.
+ *
+ * <p>
+ * Cada {@link PlantSpec} registra una implementación (una referencia
+ * al constructor {@code (x, y)} de la planta), de modo que colocar
+ * una planta no requiere reflexión ni instancias temporales.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public interface PlantFactory {
+
+    /**
+     * Crea una planta en la posición indicada.
+     *
+     * @param x posición en X
+     * @param y posición en Y
+     * @return nueva planta
+     */
+    Plant create(float x, float y);
+}
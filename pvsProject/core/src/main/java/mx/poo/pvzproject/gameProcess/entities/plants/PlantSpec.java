@@ -0,0 +1,163 @@
+package mx.poo.pvzproject.gameProcess.entities.plants;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import mx.poo.pvzproject.ui.utils.Assets;
+
+import java.util.function.Supplier;
+
+/**
+ * Ficha estática de cada tipo de planta seleccionable.
+ *
+ * <p>
+ * Reúne en una tabla los datos que antes se obtenían construyendo
+ * una planta temporal: costo en agua, tiempo de recarga, restricciones
+ * de terreno, la fábrica que crea la planta y la carta del HUD. La
+ * carta se lee de {@link Assets} al dibujar, porque se asigna cuando
+ * termina la carga.
+ * </p>
+ *
+ * <p>
+ * El orden de declaración coincide con el índice de la carta en la
+ * barra de selección ({@link #getSlot()}). La usan:
+ * </p>
+ * <ul>
+ *     <li>{@code PlantPlacer}: validación y colocación.</li>
+ *     <li>{@code CardRenderer}: dibujo de cartas y recargas.</li>
+ *     <li>{@link mx.poo.pvzproject.ui.utils.Cooldowns}: una recarga por ficha.</li>
+ * </ul>
+ *
+ * <p>
+ * Para agregar una planta nueva basta con declarar aquí su ficha.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public enum PlantSpec {
+
+    CORN_SHOOTER(4, 4f, Terrain.NORMAL, CornShooter.class, CornShooter::new, () -> Assets.cardCornShooter),
+    PAPA(3, 12f, Terrain.NORMAL, Papa.class, Papa::new, () -> Assets.cardPapa),
+    WATER_PLANT(2, 3f, Terrain.NORMAL, WaterPlant.class, WaterPlant::new, () -> Assets.cardWaterPlant),
+    RED_BOM(6, 15f, Terrain.NORMAL, RedBom.class, RedBom::new, () -> Assets.cardRedBom),
+    LILY_PAD(2, 3f, Terrain.WATER_SUPPORT, LilyPad.class, LilyPad::new, () -> Assets.cardLilyPad),
+    MACETA(2, 3f, Terrain.STONE_SUPPORT, Maceta.class, Maceta::new, () -> Assets.cardMaceta),
+    CAMPANILLA(12, 7f, Terrain.NORMAL, Campanilla.class, Campanilla::new, () -> Assets.cardCampanilla),
+    CHAMPI(5, 10f, Terrain.NORMAL, Champi.class, Champi::new, () -> Assets.cardChampi);
+
+    /**
+     * Dónde puede colocarse una planta.
+     */
+    public enum Terrain {
+
+        /** Planta normal: celda vacía, o encima de un soporte en agua/piedra. */
+        NORMAL,
+
+        /** Soporte en agua (nenúfar): solo en celdas de agua vacías. */
+        WATER_SUPPORT,
+
+        /** Soporte en piedra (maceta): solo en terreno de piedra vacío. */
+        STONE_SUPPORT
+    }
+
+    /** Todas las fichas, en orden de carta (evita copiar {@code values()}). */
+    private static final PlantSpec[] BY_SLOT = values();
+
+    /** Costo en agua. */
+    private final int cost;
+
+    /** Tiempo de recarga tras colocarla (segundos). */
+    private final float cooldown;
+
+    /** Restricción de terreno. */
+    private final Terrain terrain;
+
+    /** Clase concreta de la planta. */
+    private final Class<? extends Plant> plantClass;
+
+    /** Fábrica de la planta. */
+    private final PlantFactory factory;
+
+    /** Carta del HUD, leída de {@link Assets} al pedirla. */
+    private final Supplier<TextureRegion> card;
+
+    PlantSpec(int cost, float cooldown, Terrain terrain,
+              Class<? extends Plant> plantClass, PlantFactory factory, Supplier<TextureRegion> card) {
+        this.cost = cost;
+        this.cooldown = cooldown;
+        this.terrain = terrain;
+        this.plantClass = plantClass;
+        this.factory = factory;
+        this.card = card;
+    }
+
+    /**
+     * Obtiene la ficha asociada a una carta.
+     *
+     * @param slot índice de la carta seleccionada
+     * @return ficha de la planta, o null si la carta no es una planta (por ejemplo, la pala)
+     */
+    public static PlantSpec forSlot(int slot) {
+        return slot >= 0 && slot < BY_SLOT.length ? BY_SLOT[slot] : null;
+    }
+
+    /**
+     * Busca la ficha de una planta ya creada.
+     *
+     * @param plant planta en el tablero
+     * @return ficha correspondiente
+     * @throws IllegalArgumentException si la clase no está registrada
+     */
+    public static PlantSpec of(Plant plant) {
+        for (PlantSpec spec : BY_SLOT) {
+            if (spec.plantClass == plant.getClass()) return spec;
+        }
+        throw new IllegalArgumentException("Planta no registrada: " + plant.getClass().getName());
+    }
+
+    /**
+     * Número de fichas registradas.
+     *
+     * @return cantidad de plantas seleccionables
+     */
+    public static int count() {
+        return BY_SLOT.length;
+    }
+
+    /**
+     * Crea una planta de este tipo.
+     *
+     * @param x posición en X
+     * @param y posición en Y
+     * @return nueva planta
+     */
+    public Plant create(float x, float y) {
+        return factory.create(x, y);
+    }
+
+    /** @return índice de la carta en la barra de selección */
+    public int getSlot() { return ordinal(); }
+
+    /** @return costo en agua */
+    public int getCost() { return cost; }
+
+    /** @return tiempo de recarga en segundos */
+    public float getCooldown() { return cooldown; }
+
+    /** @return clase concreta de la planta */
+    public Class<? extends Plant> getPlantClass() { return plantClass; }
+
+    /** @return restricción de terreno */
+    public Terrain getTerrain() { return terrain; }
+
+    /** @return true si es un soporte sobre el que se coloca otra planta */
+    public boolean isSupport() { return terrain != Terrain.NORMAL; }
+
+    /**
+     * Región de la carta en el HUD.
+     *
+     * @return región del atlas cargada en {@link Assets}
+     */
+    public TextureRegion getCardTexture() {
+        return card.get();
+    }
+}
@@ -1,17 +1,17 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
 
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Sfx;
+import mx.poo.pvzproject.ui.utils.SoundEffects;
 
 import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Planta explosiva de uso único (Petacereza).
@@ -47,31 +47,23 @@ public class RedBom extends Plant {
     public RedBom(float x, float y) {
         super(x, y);
         this.maxResistanceTime = 100f; // no muere por tiempo
-        this.cost = 6; // costo
     }
 
     @Override
     protected void loadAnimation() {
-        Array<TextureRegion> frames = new Array<>();
-        for (Texture frame : Assets.redBomFrames) {
-            frames.add(new TextureRegion(frame));
-        }
-        animation = new Animation<>(0.1f, frames, Animation.PlayMode.NORMAL);
+        animation = Assets.animation(AnimationKey.RED_BOM);
     }
 
     @Override
-    public void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
         // Avanza animación solo si no ha explotado
         if (!isDead()) {
             stateTime += delta;
 
             // Detección de contacto (explota al tocar slime)
-            for (Enemy e : enemies) {
-                if (Math.abs(e.getX() - x) < 100 && Math.abs(e.getY() - y) < 100) {
-                    explode(enemies);
-                    setDead(true);
-                    break;
-                }
+            if (enemies.anyInRange(x - 100, x + 100, y, 100)) {
+                explode(enemies);
+                setDead(true);
             }
 
             // Si termina animación, explota (por si no toca nada)
@@ -85,24 +77,15 @@ public class RedBom extends Plant {
     /**
      * Ejecuta la lógica de explosión, dañando a enemigos cercanos.
      *
-     * @param enemies lista de enemigos activos
+     * @param enemies índice de enemigos por carril
      */
-    private void explode(List<Enemy> enemies) {
+    private void explode(EnemyLaneIndex enemies) {
 
         float range = 150f;
-        for (Enemy e : enemies) {
-            if (Math.abs(e.getX() - x) < range && Math.abs(e.getY() - y) < range) {
-                e.takeDamage(500);
-            }
-        }
+        enemies.forEachInRange(x - range, x + range, y, range, e -> e.takeDamage(500));
 
-        // SONIDO DE EXPLOSIÓN (corregido para Music)
-        if (Assets.explosionSound != null) {
-            Assets.explosionSound.stop();           // para si está sonando
-            Assets.explosionSound.setVolume(1.0f);  // volumen máximo
-            Assets.explosionSound.setPosition(0f);  // reinicia al inicio
-            Assets.explosionSound.play();
-        }
+        // Varias explosiones pueden sonar a la vez sin cortarse
+        SoundEffects.play(Sfx.EXPLOSION);
     }
 
     @Override
@@ -115,14 +98,4 @@ public class RedBom extends Plant {
         float height = currentFrame.getRegionHeight() * scale;
         batch.draw(currentFrame, x - width / 2f, y - height / 2f, width, height);
     }
-
-    @Override
-    public Texture getCardTexture() {
-        return Assets.cardRedBom;
-    }
-
-    @Override
-    public float getCooldownTime() {
-        return 15f;
-    }
 }
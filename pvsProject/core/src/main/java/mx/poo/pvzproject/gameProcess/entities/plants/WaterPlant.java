@@ -1,15 +1,14 @@
 package mx.poo.pvzproject.gameProcess.entities.plants;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.ui.utils.AnimationKey;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Constants;
 import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Planta generadora de recursos (Girasol de agua).
@@ -44,38 +43,24 @@ public class WaterPlant extends Plant {
     public WaterPlant(float x, float y) {
         super(x, y);
         this.maxResistanceTime = 5f; // aguanta poco (como Girasol)
-        this.cost = 2; // costo bajo
     }
 
     @Override
     protected void loadAnimation() {
-        Array<TextureRegion> frames = new Array<>();
-        for (Texture frame : Assets.waterPlantFrames) {
-            frames.add(new TextureRegion(frame));
-        }
-        animation = new Animation<>(0.08f, frames, Animation.PlayMode.LOOP);
+        animation = Assets.animation(AnimationKey.WATER_PLANT);
     }
 
     @Override
-    public void act(float delta, ArrayList<Projectile> projectiles, List<Enemy> enemies) {
+    public void act(float delta, ArrayList<Projectile> projectiles, EnemyLaneIndex enemies) {
         // No ataca, solo acelera agua (lógica en MainGame)
     }
 
     @Override
     public void draw(SpriteBatch batch) {
         TextureRegion currentFrame = animation.getKeyFrame(stateTime, true);
-        float scale = 0.065f;
+        float scale = 1f / Constants.SPRITE_SUPERSAMPLE;
         float width = currentFrame.getRegionWidth() * scale;
         float height = currentFrame.getRegionHeight() * scale;
         batch.draw(currentFrame, x - width / 2f, y - height / 2f, width, height);
     }
-
-    @Override
-    public Texture getCardTexture() {
-        return Assets.cardWaterPlant; // ← retorna su card
-    }
-    @Override
-    public float getCooldownTime() {
-        return 3f;
-    }
 }
@@ -1,8 +1,7 @@
 package mx.poo.pvzproject.gameProcess.entities.plants.properties;
 
 import java.util.ArrayList;
-import java.util.List;
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
 
 /**
@@ -22,7 +21,7 @@ public interface Disparador {
      * Ejecuta la acción de disparo.
      *
      * @param projectiles lista global de proyectiles donde se añadirá el nuevo
-     * @param enemies     lista de enemigos para calcular dirección o objetivo
+     * @param enemies     índice de enemigos por carril para calcular dirección u objetivo
      */
-    void shoot(ArrayList<Projectile> projectiles, List<Enemy> enemies);
+    void shoot(ArrayList<Projectile> projectiles, EnemyLaneIndex enemies);
 }
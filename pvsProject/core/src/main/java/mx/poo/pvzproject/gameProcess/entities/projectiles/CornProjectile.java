@@ -1,7 +1,7 @@
 package mx.poo.pvzproject.gameProcess.entities.projectiles;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import mx.poo.pvzproject.ui.utils.Assets;
 
 /**
@@ -37,9 +37,9 @@ public class CornProjectile extends Projectile {
 
     @Override
     public void draw(SpriteBatch batch) {
-        TextureRegion frame = new TextureRegion(Assets.cornProjectileTexture);
-        float width = frame.getRegionWidth() * 0.8f;
-        float height = frame.getRegionHeight() * 0.8f;
-        batch.draw(frame, x - width / 2f, y - height / 2f, width, height);
+        Texture texture = Assets.cornProjectileTexture;
+        float width = texture.getWidth() * 0.8f;
+        float height = texture.getHeight() * 0.8f;
+        batch.draw(texture, renderX - width / 2f, y - height / 2f, width, height);
     }
 }
@@ -1,7 +1,7 @@
 package mx.poo.pvzproject.gameProcess.entities.projectiles;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import mx.poo.pvzproject.ui.utils.Assets;
 
 /**
@@ -24,6 +24,9 @@ import mx.poo.pvzproject.ui.utils.Assets;
  */
 public class PetalProjectile extends Projectile {
 
+    /** Velocidad del pétalo. */
+    private static final float SPEED = 350f; // velocidad pétalo (ajusta)
+
     /**
      * Constructor del proyectil de pétalo.
      *
@@ -32,14 +35,31 @@ public class PetalProjectile extends Projectile {
      * @param damage daño que inflige al impactar
      */
     public PetalProjectile(float x, float y, int damage) {
-        super(x, y, damage, 350f); // velocidad pétalo (ajusta)
+        super(x, y, damage, SPEED);
+    }
+
+    /**
+     * Constructor vacío usado por {@link ProjectilePools}.
+     */
+    PetalProjectile() {
+    }
+
+    /**
+     * Inicializa (o reinicializa) el pétalo.
+     *
+     * @param x      posición inicial en X
+     * @param y      posición inicial en Y
+     * @param damage daño que inflige al impactar
+     */
+    public void init(float x, float y, int damage) {
+        init(x, y, damage, SPEED);
     }
 
     @Override
     public void draw(SpriteBatch batch) {
-        TextureRegion frame = new TextureRegion(Assets.petaloTexture); // ← tu textura de pétalo
-        float width = frame.getRegionWidth() * 0.8f;
-        float height = frame.getRegionHeight() * 0.8f;
-        batch.draw(frame, x - width / 2f, y - height / 2f, width, height);
+        Texture texture = Assets.petaloTexture;
+        float width = texture.getWidth() * 0.8f;
+        float height = texture.getHeight() * 0.8f;
+        batch.draw(texture, renderX - width / 2f, y - height / 2f, width, height);
     }
 }
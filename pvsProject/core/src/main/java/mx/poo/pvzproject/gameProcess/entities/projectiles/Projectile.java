@@ -1,8 +1,13 @@
 package mx.poo.pvzproject.gameProcess.entities.projectiles;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Pool;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Clase base para todos los proyectiles del juego.
@@ -22,13 +27,25 @@ import mx.poo.pvzproject.ui.utils.Assets;
  * modificar la velocidad, textura o comportamiento específico.
  * </p>
  *
+ * <p>
+ * Las instancias se reutilizan mediante {@link ProjectilePools}:
+ * se obtienen ya inicializadas y se devuelven al impactar o al
+ * salir de pantalla.
+ * </p>
+ *
  * @author SmallJunior
  * @version 1.0
  */
-public class Projectile {
+public class Projectile implements Pool.Poolable {
     protected float x, y;
+
+    /** Posición X al inicio del último paso de simulación. */
+    protected float prevX;
+
+    /** Posición X interpolada usada para dibujar. */
+    protected float renderX;
     protected float speed;
-    protected final int damage;
+    protected int damage;
 
     /**
      * Constructor base para un proyectil.
@@ -39,37 +56,78 @@ public class Projectile {
      * @param speed  velocidad de desplazamiento
      */
     public Projectile(float startX, float startY, int damage, float speed) {
+        init(startX, startY, damage, speed);
+    }
+
+    /**
+     * Constructor vacío usado por {@link ProjectilePools}.
+     * El proyectil debe inicializarse con {@link #init} antes de usarse.
+     */
+    protected Projectile() {
+    }
+
+    /**
+     * Inicializa (o reinicializa) el proyectil.
+     *
+     * @param startX posición inicial en X
+     * @param startY posición inicial en Y
+     * @param damage daño que inflige al impactar
+     * @param speed  velocidad de desplazamiento
+     */
+    public void init(float startX, float startY, int damage, float speed) {
         this.x = startX;
+        this.prevX = startX;
+        this.renderX = startX;
         this.y = startY;
         this.damage = damage;
         this.speed = speed;
     }
 
+    /**
+     * Limpia el estado al devolver el proyectil a su pool.
+     */
+    @Override
+    public void reset() {
+        x = y = prevX = renderX = 0f;
+        speed = 0f;
+        damage = 0;
+    }
+
     /**
      * Actualiza la posición del proyectil.
      *
      * @param delta tiempo transcurrido desde el último frame
      */
     public void update(float delta) {
+        prevX = x;
         x += speed * delta;
     }
 
+    /**
+     * Calcula la posición de dibujo entre el paso anterior y el actual.
+     *
+     * @param alpha fracción del siguiente paso de simulación (0 a 1)
+     */
+    public void interpolate(float alpha) {
+        renderX = prevX + (x - prevX) * alpha;
+    }
+
     /**
      * Dibuja el proyectil en pantalla.
      *
      * @param batch SpriteBatch utilizado para dibujar
      */
     public void draw(SpriteBatch batch) {
-        Assets.drawProjectile(batch, x, y);
+        Assets.drawProjectile(batch, renderX, y);
     }
 
     /**
      * Verifica si el proyectil ha salido de la pantalla por la derecha.
      *
-     * @return true si x > ancho de pantalla + margen
+     * @return true si x supera el borde derecho del mundo
      */
     public boolean isOffScreen() {
-        return x > Gdx.graphics.getWidth() + 600;
+        return x > Constants.PROJECTILE_MAX_X;
     }
 
     public int getDamage() {
@@ -83,4 +141,33 @@ public class Projectile {
     public float getY() {
         return y;
     }
+
+    /**
+     * Escribe el estado del proyectil para una instantánea.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(x);
+        out.writeFloat(prevX);
+        out.writeFloat(y);
+        out.writeFloat(speed);
+        out.writeInt(damage);
+    }
+
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura
+     */
+    public void readState(DataInput in) throws IOException {
+        x = in.readFloat();
+        prevX = in.readFloat();
+        y = in.readFloat();
+        speed = in.readFloat();
+        damage = in.readInt();
+        renderX = x;
+    }
 }
@@ -0,0 +1,154 @@
+package mx.poo.pvzproject.gameProcess.entities.projectiles;
+
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.List;
+
+/**
+ * Pools compartidos de proyectiles.
+ *
+ * <p>
+ * Evita crear un objeto nuevo en cada disparo: las plantas obtienen
+ * proyectiles ya inicializados de estos pools y la lógica del juego
+ * los devuelve al impactar o al salir de pantalla. En combate estable
+ * no se genera basura de proyectiles.
+ * </p>
+ *
+ * <p>
+ * Contrato de uso:
+ * </p>
+ * <ul>
+ *     <li>{@link #obtain} / {@link #obtainPetal} devuelven un proyectil listo.</li>
+ *     <li>{@link #free(Projectile)} se llama una sola vez, cuando el proyectil
+ *     sale de la lista activa; después no debe volver a usarse.</li>
+ *     <li>{@link Projectile#reset()} limpia el estado al devolverlo.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class ProjectilePools {
+
+    /** Capacidad máxima de objetos libres por pool. */
+    private static final int MAX_FREE = 1024;
+
+    /** Proyectiles básicos (maíz del CornShooter). */
+    private static final Pool<Projectile> projectiles = new Pool<Projectile>(64, MAX_FREE) {
+        @Override
+        protected Projectile newObject() {
+            return new Projectile();
+        }
+    };
+
+    /** Pétalos de la Campanilla. */
+    private static final Pool<PetalProjectile> petals = new Pool<PetalProjectile>(64, MAX_FREE) {
+        @Override
+        protected PetalProjectile newObject() {
+            return new PetalProjectile();
+        }
+    };
+
+    private ProjectilePools() {
+    }
+
+    /**
+     * Obtiene un proyectil básico inicializado.
+     *
+     * @param x      posición inicial en X
+     * @param y      posición inicial en Y
+     * @param damage daño que inflige al impactar
+     * @param speed  velocidad de desplazamiento
+     * @return proyectil listo para usarse
+     */
+    public static Projectile obtain(float x, float y, int damage, float speed) {
+        Projectile p = projectiles.obtain();
+        p.init(x, y, damage, speed);
+        return p;
+    }
+
+    /**
+     * Obtiene un pétalo inicializado.
+     *
+     * @param x      posición inicial en X
+     * @param y      posición inicial en Y
+     * @param damage daño que inflige al impactar
+     * @return pétalo listo para usarse
+     */
+    public static PetalProjectile obtainPetal(float x, float y, int damage) {
+        PetalProjectile p = petals.obtain();
+        p.init(x, y, damage);
+        return p;
+    }
+
+    /**
+     * Devuelve un proyectil a su pool.
+     *
+     * <p>
+     * Los tipos sin pool propio (por ejemplo {@link CornProjectile})
+     * simplemente se descartan.
+     * </p>
+     *
+     * @param p proyectil que dejó de estar activo
+     */
+    public static void free(Projectile p) {
+        if (p instanceof PetalProjectile) {
+            petals.free((PetalProjectile) p);
+        } else if (p.getClass() == Projectile.class) {
+            projectiles.free(p);
+        }
+    }
+
+    /**
+     * Devuelve a los pools todos los proyectiles de una lista y la vacía.
+     *
+     * @param list lista de proyectiles activos
+     */
+    public static void freeAll(List<Projectile> list) {
+        for (int i = 0, n = list.size(); i < n; i++) {
+            free(list.get(i));
+        }
+        list.clear();
+    }
+
+    /**
+     * Precarga los pools según el tamaño esperado de las oleadas.
+     *
+     * <p>
+     * Estimación: con más enemigos en pantalla hay más plantas disparando
+     * a la vez. Se reservan dos proyectiles de maíz y tres pétalos (una
+     * ráfaga de Campanilla) por enemigo de la oleada más grande, con un
+     * mínimo de 32 y sin superar {@link #MAX_FREE}. Solo se crean los
+     * objetos que faltan, así que llamarlo en cada nivel no acumula.
+     * </p>
+     *
+     * @param largestWaveSize enemigos de la oleada más grande del nivel
+     */
+    public static void prewarm(int largestWaveSize) {
+        top(projectiles, Math.min(MAX_FREE, Math.max(32, largestWaveSize * 2)));
+        top(petals, Math.min(MAX_FREE, Math.max(32, largestWaveSize * 3)));
+    }
+
+    /** Rellena un pool hasta tener al menos {@code target} objetos libres. */
+    private static void top(Pool<?> pool, int target) {
+        int missing = target - pool.getFree();
+        if (missing > 0) pool.fill(missing);
+    }
+
+    /**
+     * Objetos libres en el pool de proyectiles básicos.
+     *
+     * @return cantidad de proyectiles disponibles
+     */
+    public static int getFreeProjectiles() {
+        return projectiles.getFree();
+    }
+
+    /**
+     * Objetos libres en el pool de pétalos.
+     *
+     * @return cantidad de pétalos disponibles
+     */
+    public static int getFreePetals() {
+        return petals.getFree();
+    }
+}
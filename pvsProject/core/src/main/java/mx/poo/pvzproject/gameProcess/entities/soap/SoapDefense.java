@@ -2,10 +2,13 @@ package mx.poo.pvzproject.gameProcess.entities.soap;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import mx.poo.pvzproject.ui.screens.IGameContext;
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
 import mx.poo.pvzproject.ui.utils.Assets;
 import mx.poo.pvzproject.ui.utils.Constants;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Representa la defensa de jabón ubicada al inicio de cada carril.
  *
@@ -51,11 +54,8 @@ public class SoapDefense {
      */
     public void tryActivate(IGameContext ctx) {
         if (used) return;
-        for (Enemy e : ctx.getEnemies()) {
-            if (Math.abs(e.getY() - y) < 55f && e.getX() < TRIGGER_X) {
-                activate(ctx);
-                break;
-            }
+        if (ctx.getManagers().enemyIndex.anyInRange(Float.NEGATIVE_INFINITY, TRIGGER_X, y, 55f)) {
+            activate(ctx);
         }
     }
 
@@ -84,4 +84,24 @@ public class SoapDefense {
     public void reset() {
         used = false;
     }
+
+    /**
+     * Escribe el estado de la defensa para una instantánea.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeBoolean(used);
+    }
+
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura
+     */
+    public void readState(DataInput in) throws IOException {
+        used = in.readBoolean();
+    }
 }
@@ -2,9 +2,12 @@ package mx.poo.pvzproject.gameProcess.entities.soap;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import mx.poo.pvzproject.ui.screens.IGameContext;
-import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
 import mx.poo.pvzproject.ui.utils.Assets;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Representa una ola de jabón que recorre una línea del tablero.
  *
@@ -24,6 +27,8 @@ import mx.poo.pvzproject.ui.utils.Assets;
 public class SoapWave {
 
     private float         x;
+    private float         prevX;
+    private float         renderX;
     private final float   y;
     private final float   speed  = 600f;
     private boolean       active = true;
@@ -36,6 +41,8 @@ public class SoapWave {
      */
     public SoapWave(float startX, float laneY) {
         this.x = startX;
+        this.prevX = startX;
+        this.renderX = startX;
         this.y = laneY;
     }
 
@@ -43,18 +50,15 @@ public class SoapWave {
      * Actualiza la posición de la ola y verifica colisiones con enemigos.
      *
      * @param delta tiempo transcurrido desde el último frame
-     * @param ctx   contexto del juego para acceder a la lista de enemigos
+     * @param ctx   contexto del juego para acceder al índice de enemigos
      */
     public void update(float delta, IGameContext ctx) {
         if (!active) return;
 
+        prevX = x;
         x += speed * delta;
 
-        for (Enemy e : ctx.getEnemies()) {
-            if (Math.abs(e.getY() - y) < 55f && Math.abs(e.getX() - x) < 100f) {
-                e.takeDamage(9999);
-            }
-        }
+        ctx.getManagers().enemyIndex.forEachInRange(x - 100f, x + 100f, y, 55f, e -> e.takeDamage(9999));
 
         if (x > 1380f) active = false;
     }
@@ -65,7 +69,16 @@ public class SoapWave {
      * @param batch SpriteBatch utilizado para dibujar
      */
     public void draw(SpriteBatch batch) {
-        if (active) batch.draw(Assets.soapWaveAnimation, x - 40f, y - 80f, 160f, 160f);
+        if (active) batch.draw(Assets.soapWaveAnimation, renderX - 40f, y - 80f, 160f, 160f);
+    }
+
+    /**
+     * Calcula la posición de dibujo entre el paso anterior y el actual.
+     *
+     * @param alpha fracción del siguiente paso de simulación (0 a 1)
+     */
+    public void interpolate(float alpha) {
+        renderX = prevX + (x - prevX) * alpha;
     }
 
     /**
@@ -74,4 +87,38 @@ public class SoapWave {
      * @return true si la ola está activa
      */
     public boolean isActive() { return active; }
+
+    /**
+     * Escribe el estado de la ola para una instantánea.
+     *
+     * <p>
+     * El carril se guarda primero para poder construir la ola con
+     * {@link #read(DataInput)}.
+     * </p>
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(y);
+        out.writeFloat(x);
+        out.writeFloat(prevX);
+        out.writeBoolean(active);
+    }
+
+    /**
+     * Crea una ola a partir del estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @return ola restaurada
+     * @throws IOException si falla la lectura
+     */
+    public static SoapWave read(DataInput in) throws IOException {
+        SoapWave wave = new SoapWave(0f, in.readFloat());
+        wave.x = in.readFloat();
+        wave.prevX = in.readFloat();
+        wave.renderX = wave.x;
+        wave.active = in.readBoolean();
+        return wave;
+    }
 }
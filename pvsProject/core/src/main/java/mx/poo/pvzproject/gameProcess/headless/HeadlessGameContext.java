@@ -0,0 +1,161 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
+import mx.poo.pvzproject.gameProcess.entities.soap.SoapDefense;
+import mx.poo.pvzproject.gameProcess.entities.soap.SoapWave;
+import mx.poo.pvzproject.gameProcess.input.CommandSource;
+import mx.poo.pvzproject.gameProcess.managers.LaneExecutor;
+import mx.poo.pvzproject.gameProcess.managers.RenderSystem;
+import mx.poo.pvzproject.gameProcess.managers.SubBossManager;
+import mx.poo.pvzproject.ui.render.GameRendererManager;
+import mx.poo.pvzproject.ui.screens.IGameContext;
+import mx.poo.pvzproject.ui.utils.Constants;
+import mx.poo.pvzproject.ui.utils.Cooldowns;
+
+import java.util.ArrayList;
+
+/**
+ * Contexto de juego sin ventana ni contexto gráfico.
+ *
+ * <p>
+ * Mantiene el mismo estado que {@link mx.poo.pvzproject.ui.screens.GameScreenManager}
+ * (plantas, enemigos, proyectiles, defensas, cooldowns y managers), pero no
+ * crea renderizadores ni depende de {@code Gdx}. La entrada del jugador
+ * llega a través de la {@link CommandSource} recibida.
+ * </p>
+ *
+ * <p>
+ * {@link #getRenderers()} y {@link #getRenderSystem()} devuelven null:
+ * la lógica de simulación no los utiliza.
+ * </p>
+ *
+ * <p>
+ * El ejecutor del modo paralelo se guarda aquí y no solo en los
+ * managers, porque estos se reconstruyen al reiniciar o cambiar de
+ * nivel.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class HeadlessGameContext implements IGameContext {
+
+    private final CommandSource input;
+
+    private final ArrayList<Plant> plants = new ArrayList<>();
+    private final ArrayList<Enemy> enemies = new ArrayList<>();
+    private final ArrayList<Projectile> projectiles = new ArrayList<>();
+    private final ArrayList<SoapWave> soapWaves = new ArrayList<>();
+    private final ArrayList<SoapDefense> soapDefenses = new ArrayList<>();
+
+    private final Cooldowns cd = new Cooldowns();
+
+    /** Semilla fija de la sesión (se conserva en los reinicios). */
+    private final long seed;
+
+    private SubBossManager managers;
+
+    /** Ejecutor del modo paralelo, o null en modo secuencial. */
+    private LaneExecutor parallel;
+
+    private boolean gameActive = true;
+    private boolean victory = false;
+    private boolean defeat = false;
+    private int selectedPlant = 0;
+
+    /**
+     * Constructor del contexto headless para el nivel actual
+     * definido en {@link Constants#CURRENT_LEVEL}.
+     *
+     * @param input fuente de comandos del jugador
+     * @param seed  semilla de la sesión
+     */
+    public HeadlessGameContext(CommandSource input, long seed) {
+        this.input = input;
+        this.seed = seed;
+
+        float soapX = Constants.GRID_START_X - 80f;
+        for (int i = 0; i < Constants.LANES; i++) {
+            soapDefenses.add(new SoapDefense(soapX, Constants.getPlantY(i), i));
+        }
+
+        managers = new SubBossManager(this, input);
+    }
+
+    /**
+     * Indica si la partida terminó en derrota.
+     *
+     * @return true si algún enemigo alcanzó la casa
+     */
+    @Override public boolean isDefeat() { return defeat; }
+
+    @Override public ArrayList<Plant> getPlants() { return plants; }
+    @Override public ArrayList<Enemy> getEnemies() { return enemies; }
+    @Override public ArrayList<Projectile> getProjectiles() { return projectiles; }
+    @Override public ArrayList<SoapWave> getSoapWaves() { return soapWaves; }
+    @Override public ArrayList<SoapDefense> getSoapDefenses() { return soapDefenses; }
+
+    @Override public boolean isVictory() { return victory; }
+    @Override public boolean isGameActive() { return gameActive; }
+    @Override public int getSelectedPlant() { return selectedPlant; }
+    @Override public Cooldowns getCooldowns() { return cd; }
+    @Override public long getSeed() { return seed; }
+
+    @Override public void setGameActive(boolean a) { this.gameActive = a; }
+    @Override public void setVictory(boolean v) { this.victory = v; }
+    @Override public void setDefeat(boolean d) { this.defeat = d; }
+    @Override public void setSelectedPlant(int p) { this.selectedPlant = p; }
+    @Override public void markGameOverTriggered() { }
+
+    @Override public SubBossManager getManagers() { return managers; }
+    @Override public GameRendererManager getRenderers() { return null; }
+    @Override public RenderSystem getRenderSystem() { return null; }
+
+    /**
+     * Activa el modo paralelo por líneas en los managers actuales y en
+     * los que se creen al reiniciar.
+     *
+     * @param parallel ejecutor de etapas, o null para el modo secuencial
+     */
+    public void setParallelTick(LaneExecutor parallel) {
+        this.parallel = parallel;
+        managers.gameUpdater.setParallelTick(parallel);
+    }
+
+    /**
+     * Avanza al siguiente nivel y reinicia el estado.
+     */
+    @Override
+    public void advanceToNextLevel() {
+        if (Constants.CURRENT_LEVEL < Constants.MAX_LEVEL) {
+            Constants.CURRENT_LEVEL++;
+        }
+        restartAfterGameOver();
+    }
+
+    /**
+     * Reinicia completamente el estado del nivel actual.
+     */
+    @Override
+    public void restartAfterGameOver() {
+        gameActive = true;
+        victory = false;
+        defeat = false;
+
+        plants.clear();
+        EnemyPool.releaseAll(enemies);
+        ProjectilePools.freeAll(projectiles);
+        soapWaves.clear();
+
+        selectedPlant = 0;
+        cd.reset();
+
+        managers = new SubBossManager(this, input);
+        managers.gameUpdater.setParallelTick(parallel);
+        soapDefenses.forEach(SoapDefense::reset);
+    }
+}
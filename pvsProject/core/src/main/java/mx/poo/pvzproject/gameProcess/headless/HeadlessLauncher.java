@@ -0,0 +1,62 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
+import mx.poo.pvzproject.gameProcess.spawn.SeededRandom;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+/**
+ * Punto de entrada de línea de comandos para la simulación headless.
+ *
+ * <p>
+ * Uso: {@code HeadlessLauncher [nivel] [segundosMax] [corn] [hilos] [semilla]}.
+ * Con el argumento {@code corn} se coloca un CornShooter por línea en
+ * la primera columna en cuanto hay agua y cooldown disponibles;
+ * sin él, la partida corre sin defensas. Con {@code hilos} mayor que
+ * cero se usa el modo paralelo por líneas ({@link ParallelTick}).
+ * Sin semilla se genera una nueva, que se muestra para poder repetir
+ * la partida.
+ * </p>
+ *
+ * <p>
+ * Muestra el resultado, el tiempo simulado y la relación entre tiempo
+ * simulado y tiempo real.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class HeadlessLauncher {
+
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        float maxSeconds = args.length > 1 ? Float.parseFloat(args[1]) : 600f;
+        boolean corn = args.length > 2 && args[2].equals("corn");
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : SeededRandom.randomSeed();
+
+        HeadlessSimulation sim = new HeadlessSimulation(level, seed);
+        ParallelTick parallel = threads > 0 ? new ParallelTick(threads) : null;
+        sim.setParallelTick(parallel);
+
+        if (corn) {
+            // Se reintenta la colocación cada segundo; PlantPlacer descarta
+            // los intentos sin agua, con cooldown o en celdas ocupadas.
+            sim.schedule(0, InputCommand.selectCard(0));
+            int ticks = (int) (maxSeconds * Constants.SIM_TICK_RATE);
+            for (int t = 0; t < ticks; t += Constants.SIM_TICK_RATE) {
+                sim.schedule(t, InputCommand.place((t / Constants.SIM_TICK_RATE) % Constants.LANES, 0));
+            }
+        }
+
+        long start = System.nanoTime();
+        HeadlessSimulation.Outcome outcome = sim.run(maxSeconds);
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Nivel %d (semilla %d): %s tras %.1f s simulados (%d pasos)%n",
+            level, seed, outcome, sim.getSimulatedSeconds(), sim.getTick());
+        System.out.printf("Tiempo real: %.3f s (x%.0f)%n",
+            wallSeconds, sim.getSimulatedSeconds() / Math.max(wallSeconds, 1e-9));
+
+        if (parallel != null) parallel.shutdown();
+    }
+}
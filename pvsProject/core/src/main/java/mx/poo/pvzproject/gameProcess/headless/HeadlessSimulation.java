@@ -0,0 +1,187 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
+import mx.poo.pvzproject.gameProcess.input.QueuedCommandSource;
+import mx.poo.pvzproject.gameProcess.managers.GameSnapshot;
+import mx.poo.pvzproject.gameProcess.spawn.SeededRandom;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+/**
+ * Ejecuta un nivel completo sin ventana, tan rápido como permita la CPU.
+ *
+ * <p>
+ * Avanza la simulación en pasos fijos de {@code 1 / SIM_TICK_RATE}
+ * segundos sin esperar al tiempo real, por lo que sirve para barridos
+ * de balance y pruebas de regresión en máquinas sin GPU.
+ * </p>
+ *
+ * <p>
+ * Las acciones del jugador se programan por número de paso con
+ * {@link #schedule(int, InputCommand)} y se entregan a la lógica
+ * del juego justo antes de ejecutar ese paso.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class HeadlessSimulation {
+
+    /** Resultado de una ejecución. */
+    public enum Outcome {
+        VICTORY,
+        DEFEAT,
+        TIMEOUT
+    }
+
+    /** Comando programado para un paso concreto. */
+    private static final class ScheduledCommand {
+        final int tick;
+        final InputCommand command;
+
+        ScheduledCommand(int tick, InputCommand command) {
+            this.tick = tick;
+            this.command = command;
+        }
+    }
+
+    private final QueuedCommandSource input = new QueuedCommandSource();
+    private final HeadlessGameContext ctx;
+
+    /** Comandos programados, ordenados por paso. */
+    private final ArrayList<ScheduledCommand> scheduled = new ArrayList<>();
+    private int nextScheduled = 0;
+
+    /** Pasos de simulación ejecutados. */
+    private int tick = 0;
+
+    /**
+     * Constructor de la simulación con una semilla nueva.
+     *
+     * @param level nivel a simular (1 a {@link Constants#MAX_LEVEL})
+     */
+    public HeadlessSimulation(int level) {
+        this(level, SeededRandom.randomSeed());
+    }
+
+    /**
+     * Constructor de una simulación reproducible.
+     *
+     * <p>
+     * La misma semilla con los mismos comandos programados produce
+     * exactamente la misma partida.
+     * </p>
+     *
+     * @param level nivel a simular (1 a {@link Constants#MAX_LEVEL})
+     * @param seed  semilla de la partida
+     */
+    public HeadlessSimulation(int level, long seed) {
+        Constants.CURRENT_LEVEL = level;
+        this.ctx = new HeadlessGameContext(input, seed);
+    }
+
+    /**
+     * Programa un comando del jugador.
+     *
+     * @param tick    paso en el que se aplica (antes de simularlo)
+     * @param command comando a aplicar
+     */
+    public void schedule(int tick, InputCommand command) {
+        int pos = scheduled.size();
+        while (pos > nextScheduled && scheduled.get(pos - 1).tick > tick) pos--;
+        scheduled.add(pos, new ScheduledCommand(tick, command));
+    }
+
+    /**
+     * Ejecuta un paso fijo de simulación.
+     */
+    public void step() {
+        while (nextScheduled < scheduled.size() && scheduled.get(nextScheduled).tick <= tick) {
+            input.push(scheduled.get(nextScheduled++).command);
+        }
+        ctx.getManagers().step();
+        tick++;
+    }
+
+    /**
+     * Ejecuta la simulación hasta que termine la partida o se alcance
+     * el tiempo simulado máximo.
+     *
+     * @param maxSimulatedSeconds límite de tiempo simulado
+     * @return resultado de la partida
+     */
+    public Outcome run(float maxSimulatedSeconds) {
+        int maxTicks = (int) Math.ceil(maxSimulatedSeconds * Constants.SIM_TICK_RATE);
+        while (ctx.isGameActive() && tick < maxTicks) {
+            step();
+        }
+        return getOutcome();
+    }
+
+    /**
+     * Resultado actual de la partida.
+     *
+     * @return VICTORY, DEFEAT o TIMEOUT si sigue en curso
+     */
+    public Outcome getOutcome() {
+        if (ctx.isVictory()) return Outcome.VICTORY;
+        if (ctx.isDefeat()) return Outcome.DEFEAT;
+        return Outcome.TIMEOUT;
+    }
+
+    /**
+     * Captura el estado completo de la simulación.
+     *
+     * @return instantánea en formato binario
+     * @see GameSnapshot
+     */
+    public byte[] snapshot() {
+        return GameSnapshot.capture(ctx);
+    }
+
+    /**
+     * Continúa la simulación desde una instantánea del mismo nivel.
+     *
+     * <p>
+     * El contador de pasos vuelve al de la instantánea y los comandos
+     * programados para pasos anteriores se descartan, por lo que se
+     * puede saltar a una oleada avanzada o retroceder para depurar.
+     * </p>
+     *
+     * @param snapshot instantánea capturada con {@link #snapshot()}
+     * @throws IOException si la instantánea no es válida para este nivel
+     */
+    public void restore(byte[] snapshot) throws IOException {
+        GameSnapshot.restore(ctx, snapshot);
+        tick = ctx.getManagers().gameUpdater.getTick();
+
+        nextScheduled = 0;
+        while (nextScheduled < scheduled.size() && scheduled.get(nextScheduled).tick < tick) {
+            nextScheduled++;
+        }
+    }
+
+    /**
+     * Activa el modo paralelo por líneas para simulaciones masivas.
+     *
+     * @param parallel ejecutor de etapas, o null para el modo secuencial
+     */
+    public void setParallelTick(ParallelTick parallel) {
+        ctx.setParallelTick(parallel);
+    }
+
+    public HeadlessGameContext getContext() { return ctx; }
+
+    public int getTick() { return tick; }
+
+    /**
+     * Tiempo simulado transcurrido.
+     *
+     * @return segundos simulados
+     */
+    public float getSimulatedSeconds() {
+        return tick / (float) Constants.SIM_TICK_RATE;
+    }
+}
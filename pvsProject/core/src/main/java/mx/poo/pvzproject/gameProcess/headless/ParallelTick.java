@@ -0,0 +1,161 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.managers.LaneExecutor;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ejecución en paralelo de las etapas de un paso de simulación
+ * ({@link LaneExecutor} con hilos).
+ *
+ * <p>
+ * Las líneas del grid son casi independientes: proyectiles, enemigos
+ * y contactos de una línea no afectan a otra. Esta clase reparte ese
+ * trabajo sobre un {@link ForkJoinPool}:
+ * </p>
+ * <ul>
+ *     <li>{@link #forEachLane(LaneTask)}: una tarea por línea.</li>
+ *     <li>{@link #forRange(int, RangeTask)}: un arreglo dividido en tramos
+ *     contiguos, para recorridos elemento a elemento.</li>
+ * </ul>
+ *
+ * <p>
+ * Las tareas solo deben escribir datos de su propia línea o tramo;
+ * los efectos compartidos (pools, listas) se aplican después en un
+ * paso de reducción secuencial y en orden fijo. Así el resultado es
+ * idéntico, bit a bit, al del modo secuencial.
+ * </p>
+ *
+ * <p>
+ * Pensado para simulaciones sin ventana con miles de entidades por
+ * línea; con pocas entidades el costo de coordinación supera la ganancia.
+ * Vive en este paquete porque {@link ForkJoinPool} no existe en GWT.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class ParallelTick implements LaneExecutor {
+
+    /** Elementos mínimos por tramo en {@link #forRange(int, RangeTask)}. */
+    public static final int MIN_CHUNK = 4096;
+
+    /** Pool de hilos usado por las tareas. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un ejecutor con un pool propio.
+     *
+     * @param threads número de hilos de trabajo
+     */
+    public ParallelTick(int threads) {
+        this(new ForkJoinPool(threads));
+    }
+
+    /**
+     * Crea un ejecutor sobre un pool existente.
+     *
+     * @param pool pool de hilos
+     */
+    public ParallelTick(ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("pool no puede ser null");
+        this.pool = pool;
+    }
+
+    /**
+     * Ejecuta una tarea por cada línea del grid y espera a que terminen.
+     *
+     * @param task trabajo de cada línea
+     */
+    @Override
+    public void forEachLane(LaneTask task) {
+        pool.invoke(new LaneAction(task, 0, Constants.LANES));
+    }
+
+    /**
+     * Divide {@code [0, size)} en tramos contiguos y los ejecuta en paralelo.
+     *
+     * <p>
+     * Si el arreglo es pequeño se ejecuta directamente en el hilo actual.
+     * </p>
+     *
+     * @param size número de elementos
+     * @param task trabajo de cada tramo
+     */
+    @Override
+    public void forRange(int size, RangeTask task) {
+        if (size < 2 * MIN_CHUNK) {
+            if (size > 0) task.run(0, size);
+            return;
+        }
+        pool.invoke(new RangeAction(task, 0, size));
+    }
+
+    /**
+     * Número de hilos del pool.
+     *
+     * @return paralelismo configurado
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Detiene los hilos del pool.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // =============================
+    // Tareas
+    // =============================
+
+    private static final class LaneAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final LaneTask task;
+        private final int from, to;
+
+        LaneAction(LaneTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                task.run(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LaneAction(task, from, mid), new LaneAction(task, mid, to));
+        }
+    }
+
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeTask task;
+        private final int from, to;
+
+        RangeAction(RangeTask task, int from, int to) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 * MIN_CHUNK) {
+                task.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, mid), new RangeAction(task, mid, to));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.input.CommandLog;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Reproduce una partida grabada en un {@link CommandLog}.
+ *
+ * <p>
+ * Construye una {@link HeadlessSimulation} con el nivel y la semilla
+ * del registro y programa cada comando en su paso original, por lo que
+ * la partida se repite exactamente. Dos modos:
+ * </p>
+ * <ul>
+ *     <li>{@link #runMaxSpeed(float)}: tan rápido como permita la CPU,
+ *     para regresiones y barridos.</li>
+ *     <li>{@link #runRealTime(float)}: al ritmo de {@code SIM_TICK_RATE}
+ *     pasos por segundo, para observar la sesión con un profiler
+ *     adjunto en las mismas condiciones de tiempo.</li>
+ * </ul>
+ *
+ * <p>
+ * En ambos modos se mide la duración de cada paso y se conserva el
+ * más lento ({@link #getSlowestTick()}), para ubicar el frame lento
+ * de la sesión original.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class ReplayDriver {
+
+    private final CommandLog log;
+    private final HeadlessSimulation sim;
+
+    /** Paso más lento medido y su duración. */
+    private int slowestTick = -1;
+    private long slowestStepNanos = 0L;
+
+    /**
+     * Prepara la reproducción de un registro.
+     *
+     * @param log registro de la partida
+     */
+    public ReplayDriver(CommandLog log) {
+        this.log = log;
+        this.sim = new HeadlessSimulation(log.getLevel(), log.getSeed());
+        for (int i = 0; i < log.size(); i++) {
+            sim.schedule(log.getTick(i), log.getCommand(i));
+        }
+    }
+
+    /**
+     * Reproduce la partida sin esperar al tiempo real.
+     *
+     * @param maxSimulatedSeconds límite de tiempo simulado
+     * @return resultado de la partida
+     */
+    public HeadlessSimulation.Outcome runMaxSpeed(float maxSimulatedSeconds) {
+        return run(maxSimulatedSeconds, false);
+    }
+
+    /**
+     * Reproduce la partida al ritmo real de la simulación.
+     *
+     * @param maxSimulatedSeconds límite de tiempo simulado
+     * @return resultado de la partida
+     */
+    public HeadlessSimulation.Outcome runRealTime(float maxSimulatedSeconds) {
+        return run(maxSimulatedSeconds, true);
+    }
+
+    private HeadlessSimulation.Outcome run(float maxSimulatedSeconds, boolean realTime) {
+        int maxTicks = (int) Math.ceil(maxSimulatedSeconds * Constants.SIM_TICK_RATE);
+        long stepNanos = 1_000_000_000L / Constants.SIM_TICK_RATE;
+        long start = System.nanoTime();
+
+        while (sim.getContext().isGameActive() && sim.getTick() < maxTicks) {
+            if (realTime) {
+                long wait = start + sim.getTick() * stepNanos - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+            }
+
+            int tick = sim.getTick();
+            long before = System.nanoTime();
+            sim.step();
+            long elapsed = System.nanoTime() - before;
+
+            if (elapsed > slowestStepNanos) {
+                slowestStepNanos = elapsed;
+                slowestTick = tick;
+            }
+        }
+        return sim.getOutcome();
+    }
+
+    public HeadlessSimulation getSimulation() { return sim; }
+
+    public CommandLog getLog() { return log; }
+
+    /** @return paso más lento medido, o -1 si no se ejecutó ninguno */
+    public int getSlowestTick() { return slowestTick; }
+
+    /** @return duración del paso más lento en nanosegundos */
+    public long getSlowestStepNanos() { return slowestStepNanos; }
+
+    /**
+     * Punto de entrada de línea de comandos.
+     *
+     * <p>
+     * Uso: {@code ReplayDriver archivo.pvzlog [realtime] [hilos]}.
+     * </p>
+     *
+     * @param args argumentos de línea de comandos
+     * @throws IOException si no se puede leer el registro
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Uso: ReplayDriver archivo.pvzlog [realtime] [hilos]");
+            return;
+        }
+        boolean realTime = args.length > 1 && args[1].equals("realtime");
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        CommandLog log;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]))) {
+            log = CommandLog.read(in);
+        }
+
+        ReplayDriver driver = new ReplayDriver(log);
+        ParallelTick parallel = threads > 0 ? new ParallelTick(threads) : null;
+        driver.getSimulation().setParallelTick(parallel);
+
+        long start = System.nanoTime();
+        HeadlessSimulation.Outcome outcome = realTime ? driver.runRealTime(3600f) : driver.runMaxSpeed(3600f);
+        double wallSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Nivel %d (semilla %d, %d comandos): %s tras %.1f s simulados (%d pasos)%n",
+            log.getLevel(), log.getSeed(), log.size(), outcome,
+            driver.getSimulation().getSimulatedSeconds(), driver.getSimulation().getTick());
+        System.out.printf("Tiempo real: %.3f s; paso más lento: %d (%.3f ms)%n",
+            wallSeconds, driver.getSlowestTick(), driver.getSlowestStepNanos() / 1e6);
+
+        if (parallel != null) parallel.shutdown();
+    }
+}
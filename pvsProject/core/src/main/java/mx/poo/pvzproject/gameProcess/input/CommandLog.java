@@ -0,0 +1,233 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Registro compacto de los comandos del jugador de una partida.
+ *
+ * <p>
+ * Junto con el nivel y la semilla de la partida, la lista de comandos
+ * con el paso de simulación en que se aplicaron basta para reproducir
+ * la partida exactamente: "seleccionar carta N en el paso T",
+ * "colocar en línea/columna en el paso T".
+ * </p>
+ *
+ * <p>
+ * Formato binario (versión {@link #VERSION}):
+ * </p>
+ * <ul>
+ *     <li>Cabecera: {@code "PVZL"}, versión (1 byte), nivel (varint),
+ *     semilla (8 bytes).</li>
+ *     <li>Por comando: pasos desde el comando anterior (varint) y un
+ *     byte de tipo; después la carta, o la línea y la columna (varints).</li>
+ * </ul>
+ *
+ * <p>
+ * Un comando típico ocupa 3 o 4 bytes, por lo que una partida
+ * completa cabe en unos pocos KB.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class CommandLog {
+
+    /** Firma del archivo. */
+    private static final byte[] MAGIC = {'P', 'V', 'Z', 'L'};
+
+    /** Versión del formato. */
+    public static final int VERSION = 1;
+
+    private static final int TYPE_SELECT_CARD = 0;
+    private static final int TYPE_PLACE = 1;
+
+    /** Nivel de la partida. */
+    private final int level;
+
+    /** Semilla de la partida. */
+    private final long seed;
+
+    /** Paso de cada comando, en orden no decreciente. */
+    private int[] ticks = new int[64];
+
+    /** Comandos, en el orden en que se aplicaron. */
+    private InputCommand[] commands = new InputCommand[64];
+
+    private int size = 0;
+
+    /**
+     * Crea un registro vacío.
+     *
+     * @param level nivel de la partida
+     * @param seed  semilla de la partida
+     */
+    public CommandLog(int level, long seed) {
+        this.level = level;
+        this.seed = seed;
+    }
+
+    /**
+     * Agrega un comando al registro.
+     *
+     * @param tick    paso de simulación antes del cual se aplicó
+     * @param command comando aplicado
+     * @throws IllegalArgumentException si el paso es anterior al último registrado
+     */
+    public void record(int tick, InputCommand command) {
+        if (size > 0 && tick < ticks[size - 1]) {
+            throw new IllegalArgumentException("paso " + tick + " anterior a " + ticks[size - 1]);
+        }
+        if (size == ticks.length) {
+            ticks = Arrays.copyOf(ticks, size * 2);
+            commands = Arrays.copyOf(commands, size * 2);
+        }
+        ticks[size] = tick;
+        commands[size] = command;
+        size++;
+    }
+
+    public int getLevel() { return level; }
+
+    public long getSeed() { return seed; }
+
+    /** @return número de comandos registrados */
+    public int size() { return size; }
+
+    /**
+     * Paso de un comando.
+     *
+     * @param index posición en el registro
+     * @return paso de simulación
+     */
+    public int getTick(int index) {
+        checkIndex(index);
+        return ticks[index];
+    }
+
+    /**
+     * Comando registrado.
+     *
+     * @param index posición en el registro
+     * @return comando
+     */
+    public InputCommand getCommand(int index) {
+        checkIndex(index);
+        return commands[index];
+    }
+
+    // =============================
+    // Serialización
+    // =============================
+
+    /**
+     * Escribe el registro en formato binario. No cierra el flujo.
+     *
+     * @param out flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        writeVarInt(data, level);
+        data.writeLong(seed);
+
+        int previousTick = 0;
+        for (int i = 0; i < size; i++) {
+            InputCommand c = commands[i];
+            writeVarInt(data, ticks[i] - previousTick);
+            previousTick = ticks[i];
+
+            if (c.getType() == InputCommand.Type.SELECT_CARD) {
+                data.writeByte(TYPE_SELECT_CARD);
+                writeVarInt(data, c.getSlot());
+            } else {
+                data.writeByte(TYPE_PLACE);
+                writeVarInt(data, c.getLane());
+                writeVarInt(data, c.getColumn());
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Lee un registro en formato binario hasta el final del flujo.
+     *
+     * @param in flujo de entrada
+     * @return registro leído
+     * @throws IOException si el flujo no es un registro válido o falla la lectura
+     */
+    public static CommandLog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) throw new IOException("No es un registro de comandos");
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Versión de registro no soportada: " + version);
+
+        CommandLog log = new CommandLog(readVarInt(data), data.readLong());
+
+        int tick = 0;
+        while (true) {
+            int first = data.read();
+            if (first < 0) break;
+            tick += readVarInt(data, first);
+
+            int type = data.readUnsignedByte();
+            if (type == TYPE_SELECT_CARD) {
+                log.record(tick, InputCommand.selectCard(readVarInt(data)));
+            } else if (type == TYPE_PLACE) {
+                int lane = readVarInt(data);
+                log.record(tick, InputCommand.place(lane, readVarInt(data)));
+            } else {
+                throw new IOException("Tipo de comando desconocido: " + type);
+            }
+        }
+        return log;
+    }
+
+    // =============================
+    // Internos
+    // =============================
+
+    /** Entero sin signo en grupos de 7 bits (LEB128). */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        if (value < 0) throw new IOException("valor negativo en varint: " + value);
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int first = in.read();
+        if (first < 0) throw new EOFException();
+        return readVarInt(in, first);
+    }
+
+    private static int readVarInt(DataInputStream in, int first) throws IOException {
+        int value = first & 0x7F;
+        int shift = 7;
+        int b = first;
+        while ((b & 0x80) != 0) {
+            if (shift > 28) throw new IOException("varint demasiado largo");
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        }
+        return value;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+    }
+}
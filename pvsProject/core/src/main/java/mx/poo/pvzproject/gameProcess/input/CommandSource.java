@@ -0,0 +1,24 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+import java.util.List;
+
+/**
+ * Fuente de comandos del jugador.
+ *
+ * <p>
+ * {@link mx.poo.pvzproject.gameProcess.managers.GameUpdater} la consulta
+ * una vez por frame y aplica los comandos obtenidos en orden.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public interface CommandSource {
+
+    /**
+     * Agrega a la lista los comandos generados desde la última consulta.
+     *
+     * @param out lista donde se depositan los comandos
+     */
+    void poll(List<InputCommand> out);
+}
@@ -0,0 +1,67 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.List;
+
+/**
+ * Fuente de comandos basada en la entrada táctil de LibGDX.
+ *
+ * <p>
+ * Convierte cada toque de pantalla a coordenadas del mundo y lo
+ * traduce a un comando:
+ * </p>
+ * <ul>
+ *     <li>Toque sobre una carta del HUD: {@link InputCommand#selectCard(int)}.</li>
+ *     <li>Toque sobre una celda del grid: {@link InputCommand#place(int, int)}.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class GdxCommandSource implements CommandSource {
+
+    /** Viewport activo para convertir coordenadas de entrada. */
+    private final Viewport viewport;
+
+    /** Vector reutilizado para la conversión de coordenadas. */
+    private final Vector3 touchPos = new Vector3();
+
+    /**
+     * Constructor de la fuente de comandos.
+     *
+     * @param viewport viewport activo
+     */
+    public GdxCommandSource(Viewport viewport) {
+        this.viewport = viewport;
+    }
+
+    @Override
+    public void poll(List<InputCommand> out) {
+        if (!Gdx.input.justTouched()) return;
+
+        touchPos.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+        viewport.unproject(touchPos);
+
+        // Selección de cartas
+        if (touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + Constants.CARD_HEIGHT) {
+            for (int slot = 0; slot < Constants.CARD_XS.length; slot++) {
+                float cardX = Constants.CARD_XS[slot];
+                if (touchPos.x >= cardX && touchPos.x < cardX + Constants.CARD_WIDTH) {
+                    out.add(InputCommand.selectCard(slot));
+                    return;
+                }
+            }
+        }
+
+        // Celda del grid (cálculo directo, sin recorrer las celdas)
+        int lane = Constants.laneAt(touchPos.y);
+        int column = Constants.columnAt(touchPos.x);
+        if (lane >= 0 && column >= 0) {
+            out.add(InputCommand.place(lane, column));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+/**
+ * Acción del jugador expresada en términos del juego.
+ *
+ * <p>
+ * Desacopla la lógica de la fuente de entrada: el juego con ventana
+ * traduce toques de pantalla a comandos, mientras que la simulación
+ * headless (o una repetición) los genera directamente.
+ * </p>
+ *
+ * <p>
+ * Tipos de comando:
+ * </p>
+ * <ul>
+ *     <li>{@link Type#SELECT_CARD}: selecciona una carta del HUD (0-8, 8 = pala).</li>
+ *     <li>{@link Type#PLACE}: usa la carta seleccionada sobre una celda del grid.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class InputCommand {
+
+    /** Tipos de comando disponibles. */
+    public enum Type {
+        SELECT_CARD,
+        PLACE
+    }
+
+    private final Type type;
+    private final int first;
+    private final int second;
+
+    private InputCommand(Type type, int first, int second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Crea un comando de selección de carta.
+     *
+     * @param slot índice de la carta (0-8)
+     * @return comando de selección
+     */
+    public static InputCommand selectCard(int slot) {
+        return new InputCommand(Type.SELECT_CARD, slot, 0);
+    }
+
+    /**
+     * Crea un comando de colocación sobre una celda.
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return comando de colocación
+     */
+    public static InputCommand place(int lane, int column) {
+        return new InputCommand(Type.PLACE, lane, column);
+    }
+
+    public Type getType() { return type; }
+
+    /** @return carta seleccionada (solo {@link Type#SELECT_CARD}) */
+    public int getSlot() { return first; }
+
+    /** @return línea de la celda (solo {@link Type#PLACE}) */
+    public int getLane() { return first; }
+
+    /** @return columna de la celda (solo {@link Type#PLACE}) */
+    public int getColumn() { return second; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof InputCommand)) return false;
+        InputCommand other = (InputCommand) o;
+        return type == other.type && first == other.first && second == other.second;
+    }
+
+    @Override
+    public int hashCode() {
+        return (type.ordinal() * 31 + first) * 31 + second;
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.SELECT_CARD
+            ? "SELECT_CARD(" + first + ")"
+            : "PLACE(" + first + ", " + second + ")";
+    }
+}
@@ -0,0 +1,37 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fuente de comandos alimentada por código.
+ *
+ * <p>
+ * Se usa en la simulación headless y en pruebas: los comandos
+ * encolados con {@link #push(InputCommand)} se entregan en la
+ * siguiente consulta.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class QueuedCommandSource implements CommandSource {
+
+    /** Comandos pendientes de entregar. */
+    private final ArrayList<InputCommand> pending = new ArrayList<>();
+
+    /**
+     * Encola un comando para la siguiente consulta.
+     *
+     * @param command comando a encolar
+     */
+    public void push(InputCommand command) {
+        pending.add(command);
+    }
+
+    @Override
+    public void poll(List<InputCommand> out) {
+        out.addAll(pending);
+        pending.clear();
+    }
+}
@@ -0,0 +1,243 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Resuelve las colisiones entre proyectiles y enemigos.
+ *
+ * <p>
+ * Sustituye la comparación de todos contra todos por una fase amplia
+ * basada en carriles: los enemigos se agrupan por línea y se ordenan
+ * por X mediante {@link EnemyLaneIndex}, y cada proyectil solo revisa
+ * el tramo de X cercano dentro de los carriles que alcanza.
+ * </p>
+ *
+ * <p>
+ * El resultado es idéntico al de la búsqueda lineal original:
+ * </p>
+ * <ul>
+ *     <li>Los proyectiles se procesan en el orden de su lista.</li>
+ *     <li>Cada proyectil impacta al primer enemigo de la lista
+ *     (aún no eliminado) a menos de {@link #HIT_RANGE} en X y en Y.</li>
+ *     <li>El proyectil se elimina al impactar (y vuelve a su pool)
+ *     y el enemigo se elimina si muere por el impacto (y vuelve a su pool).</li>
+ * </ul>
+ *
+ * <p>
+ * Las eliminaciones se marcan durante el recorrido y se aplican
+ * al final en una sola pasada por lista.
+ * </p>
+ *
+ * <p>
+ * Con un {@link LaneExecutor}, cada línea se resuelve en su propia tarea:
+ * un proyectil cuyo alcance vertical cae en una sola línea solo puede
+ * impactar enemigos de esa línea, y dentro de ella se respeta el orden
+ * de la lista. Las devoluciones a los pools se hacen después, en orden
+ * de proyectil, igual que en el modo secuencial. Si algún proyectil
+ * alcanza dos líneas, se usa el modo secuencial.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class CollisionSystem {
+
+    /** Distancia máxima (por eje) para considerar un impacto. */
+    public static final float HIT_RANGE = 50f;
+
+    /** Marcas de proyectiles que impactaron en este frame. */
+    private boolean[] removedProjectiles = new boolean[64];
+
+    /** Marcas de enemigos eliminados por impacto en este frame. */
+    private boolean[] removedEnemies = new boolean[64];
+
+    /** Enemigo eliminado por cada proyectil (-1 si ninguno), en modo paralelo. */
+    private int[] killedBy = new int[64];
+
+    /** Posiciones en la lista de los proyectiles de cada línea, en modo paralelo. */
+    private final int[][] laneProjectiles = new int[Constants.LANES][];
+    private final int[] laneProjectileCounts = new int[Constants.LANES];
+
+    /**
+     * Constructor del sistema de colisiones.
+     */
+    public CollisionSystem() {
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            laneProjectiles[lane] = new int[16];
+        }
+        Arrays.fill(killedBy, -1);
+    }
+
+    /**
+     * Procesa los impactos de todos los proyectiles activos.
+     *
+     * @param projectiles lista de proyectiles activos
+     * @param enemies     lista de enemigos activos
+     * @param index       índice de enemigos, se actualiza con las posiciones actuales
+     */
+    public void resolve(ArrayList<Projectile> projectiles, ArrayList<Enemy> enemies, EnemyLaneIndex index) {
+        int projectileCount = projectiles.size();
+        int enemyCount = enemies.size();
+        if (projectileCount == 0 || enemyCount == 0) return;
+
+        index.refresh(enemies);
+        ensureCapacity(projectileCount, enemyCount);
+        resolveSerial(projectiles, enemies, index);
+    }
+
+    /**
+     * Procesa los impactos repartiendo las líneas en paralelo.
+     *
+     * <p>
+     * Produce exactamente el mismo resultado que
+     * {@link #resolve(ArrayList, ArrayList, EnemyLaneIndex)}.
+     * </p>
+     *
+     * @param projectiles lista de proyectiles activos
+     * @param enemies     lista de enemigos activos
+     * @param index       índice de enemigos, se actualiza con las posiciones actuales
+     * @param parallel    ejecutor de tareas por línea
+     */
+    public void resolve(ArrayList<Projectile> projectiles, ArrayList<Enemy> enemies,
+                        EnemyLaneIndex index, LaneExecutor parallel) {
+        int projectileCount = projectiles.size();
+        int enemyCount = enemies.size();
+        if (projectileCount == 0 || enemyCount == 0) return;
+
+        index.refresh(enemies);
+        ensureCapacity(projectileCount, enemyCount);
+
+        if (!bucketByLane(projectiles)) {
+            resolveSerial(projectiles, enemies, index);
+            return;
+        }
+
+        // Cada línea escribe solo las marcas de sus proyectiles y enemigos
+        parallel.forEachLane(lane -> {
+            int[] laneIndices = laneProjectiles[lane];
+            for (int k = 0, n = laneProjectileCounts[lane]; k < n; k++) {
+                int i = laneIndices[k];
+                Projectile p = projectiles.get(i);
+                int hit = index.firstListIndexNear(p.getX(), p.getY(), HIT_RANGE, removedEnemies);
+                if (hit < 0) continue;
+
+                Enemy e = enemies.get(hit);
+                e.takeDamage(p.getDamage());
+                removedProjectiles[i] = true;
+                if (e.isDead()) {
+                    removedEnemies[hit] = true;
+                    killedBy[i] = hit;
+                }
+            }
+        });
+
+        // Reducción secuencial en orden de proyectil
+        boolean anyHit = false;
+        boolean anyKilled = false;
+        for (int i = 0; i < projectileCount; i++) {
+            if (!removedProjectiles[i]) continue;
+            ProjectilePools.free(projectiles.get(i));
+            anyHit = true;
+            int hit = killedBy[i];
+            if (hit >= 0) {
+                EnemyPool.release(enemies.get(hit));
+                killedBy[i] = -1;
+                anyKilled = true;
+            }
+        }
+
+        if (anyHit) compact(projectiles, removedProjectiles, projectileCount);
+        if (anyKilled) compact(enemies, removedEnemies, enemyCount);
+    }
+
+    /**
+     * Recorrido secuencial de los proyectiles en orden de lista.
+     */
+    private void resolveSerial(ArrayList<Projectile> projectiles, ArrayList<Enemy> enemies, EnemyLaneIndex index) {
+        int projectileCount = projectiles.size();
+
+        boolean anyHit = false;
+        boolean anyKilled = false;
+
+        for (int i = 0; i < projectileCount; i++) {
+            Projectile p = projectiles.get(i);
+            int hit = index.firstListIndexNear(p.getX(), p.getY(), HIT_RANGE, removedEnemies);
+            if (hit < 0) continue;
+
+            Enemy e = enemies.get(hit);
+            e.takeDamage(p.getDamage());
+            removedProjectiles[i] = true;
+            ProjectilePools.free(p);
+            anyHit = true;
+
+            if (e.isDead()) {
+                removedEnemies[hit] = true;
+                EnemyPool.release(e);
+                anyKilled = true;
+            }
+        }
+
+        if (anyHit) compact(projectiles, removedProjectiles, projectileCount);
+        if (anyKilled) compact(enemies, removedEnemies, enemies.size());
+    }
+
+    /**
+     * Agrupa los proyectiles por línea conservando el orden de la lista.
+     *
+     * @return false si algún proyectil puede impactar en más de una línea
+     */
+    private boolean bucketByLane(ArrayList<Projectile> projectiles) {
+        Arrays.fill(laneProjectileCounts, 0);
+        for (int i = 0, n = projectiles.size(); i < n; i++) {
+            float y = projectiles.get(i).getY();
+            int lane = Constants.getLane(y - HIT_RANGE);
+            if (lane != Constants.getLane(y + HIT_RANGE)) return false;
+
+            int count = laneProjectileCounts[lane];
+            if (count == laneProjectiles[lane].length) {
+                laneProjectiles[lane] = Arrays.copyOf(laneProjectiles[lane], count * 2);
+            }
+            laneProjectiles[lane][count] = i;
+            laneProjectileCounts[lane] = count + 1;
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int projectileCount, int enemyCount) {
+        if (removedProjectiles.length < projectileCount) {
+            int capacity = Math.max(projectileCount, removedProjectiles.length * 2);
+            removedProjectiles = new boolean[capacity];
+        }
+        if (killedBy.length < projectileCount) {
+            killedBy = new int[Math.max(projectileCount, killedBy.length * 2)];
+            Arrays.fill(killedBy, -1);
+        }
+        if (removedEnemies.length < enemyCount) {
+            removedEnemies = new boolean[Math.max(enemyCount, removedEnemies.length * 2)];
+        }
+    }
+
+    /**
+     * Elimina de una lista los elementos marcados conservando el orden
+     * y limpia las marcas usadas.
+     */
+    private static <T> void compact(ArrayList<T> list, boolean[] removed, int count) {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (removed[read]) {
+                removed[read] = false;
+                continue;
+            }
+            if (write != read) list.set(write, list.get(read));
+            write++;
+        }
+        list.subList(write, count).clear();
+    }
+}
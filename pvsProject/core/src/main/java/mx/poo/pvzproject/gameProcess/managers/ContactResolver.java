@@ -0,0 +1,286 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import com.badlogic.gdx.utils.ObjectSet;
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resuelve el contacto entre enemigos y plantas en cada carril.
+ *
+ * <p>
+ * Un enemigo que alcanza una planta se detiene a comerla
+ * ({@link Enemy#setEating(boolean)}) y la planta acumula daño por
+ * tiempo de contacto ({@link Plant#increaseResistanceTimer(float)})
+ * hasta agotar su resistencia. Cuando la planta muere o desaparece,
+ * el enemigo vuelve a avanzar.
+ * </p>
+ *
+ * <p>
+ * En lugar de comparar cada enemigo con cada planta, se agrupan
+ * plantas y enemigos por carril, se ordenan por X y se recorren a la
+ * vez en una sola pasada de mezcla: O(P + E) por carril.
+ * </p>
+ *
+ * <p>
+ * Cada carril conserva su orden del paso anterior: al empezar un paso
+ * se quitan en su lugar las entidades muertas o que ya no están en
+ * las listas, se actualiza la X de las demás y las nuevas se agregan
+ * al final. Como los enemigos se mueven poco en un paso, el arreglo
+ * llega casi ordenado y el ordenamiento por inserción es casi lineal,
+ * sin importar el orden de colocación o de aparición.
+ * </p>
+ *
+ * <p>
+ * Reglas:
+ * </p>
+ * <ul>
+ *     <li>Un enemigo toca una planta si la distancia en X entre ambos
+ *     es menor que {@link #CONTACT_RANGE}.</li>
+ *     <li>Si toca varias, come la que encuentra primero al avanzar
+ *     (la de mayor X); en una celda con soporte, come primero la planta
+ *     de arriba y después el soporte.</li>
+ *     <li>Varios enemigos sobre la misma planta suman su daño.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class ContactResolver {
+
+    /** Distancia máxima en X para que un enemigo alcance una planta. */
+    public static final float CONTACT_RANGE = Constants.CELL_WIDTH / 2f;
+
+    /** Capacidad inicial de cada carril. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Plantas vivas de cada carril ordenadas por X. */
+    private final Plant[][] plantLanes = new Plant[Constants.LANES][];
+    private final float[][] plantXs = new float[Constants.LANES][];
+    private final int[] plantCounts = new int[Constants.LANES];
+
+    /** Enemigos vivos de cada carril ordenados por X. */
+    private final Enemy[][] enemyLanes = new Enemy[Constants.LANES][];
+    private final float[][] enemyXs = new float[Constants.LANES][];
+    private final int[] enemyCounts = new int[Constants.LANES];
+
+    /** Enemigos comiendo en cada carril durante el último paso. */
+    private final int[] laneEating = new int[Constants.LANES];
+
+    /** Entidades vivas del paso actual que aún no están en su carril. */
+    private final ObjectSet<Plant> pendingPlants = new ObjectSet<>();
+    private final ObjectSet<Enemy> pendingEnemies = new ObjectSet<>();
+
+    /**
+     * Constructor del resolutor (sin contactos).
+     */
+    public ContactResolver() {
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            plantLanes[lane] = new Plant[INITIAL_CAPACITY];
+            plantXs[lane] = new float[INITIAL_CAPACITY];
+            enemyLanes[lane] = new Enemy[INITIAL_CAPACITY];
+            enemyXs[lane] = new float[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Actualiza el estado de ataque de los enemigos y aplica el daño
+     * por contacto a las plantas.
+     *
+     * @param plants  plantas activas, en orden de colocación
+     * @param enemies enemigos activos
+     * @param delta   tiempo del paso de simulación
+     * @return número de enemigos que están comiendo
+     */
+    public int resolve(List<Plant> plants, List<Enemy> enemies, float delta) {
+        return resolve(plants, enemies, delta, null);
+    }
+
+    /**
+     * Igual que {@link #resolve(List, List, float)}, pero ordena y recorre
+     * cada carril en su propia tarea.
+     *
+     * <p>
+     * Cada carril solo modifica sus propias plantas y enemigos, así que
+     * el resultado es idéntico al del modo secuencial.
+     * </p>
+     *
+     * @param plants   plantas activas, en orden de colocación
+     * @param enemies  enemigos activos
+     * @param delta    tiempo del paso de simulación
+     * @param parallel ejecutor de tareas por línea, o null para el modo secuencial
+     * @return número de enemigos que están comiendo
+     */
+    public int resolve(List<Plant> plants, List<Enemy> enemies, float delta, LaneExecutor parallel) {
+        pendingPlants.clear();
+        for (int i = 0, n = plants.size(); i < n; i++) {
+            Plant p = plants.get(i);
+            if (!p.isDead()) pendingPlants.add(p);
+        }
+        pendingEnemies.clear();
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy e = enemies.get(i);
+            if (!e.isDead()) pendingEnemies.add(e);
+        }
+
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            keepPlants(lane);
+            keepEnemies(lane);
+        }
+
+        // Las que no estaban en su carril se agregan en orden de lista
+        for (int i = 0, n = plants.size(); i < n; i++) {
+            Plant p = plants.get(i);
+            if (pendingPlants.contains(p)) addPlant(Constants.getLane(p.getY()), p);
+        }
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy e = enemies.get(i);
+            if (pendingEnemies.contains(e)) addEnemy(Constants.getLane(e.getY()), e);
+        }
+
+        if (parallel != null) {
+            parallel.forEachLane(lane -> laneEating[lane] = sortAndMerge(lane, delta));
+        } else {
+            for (int lane = 0; lane < Constants.LANES; lane++) {
+                laneEating[lane] = sortAndMerge(lane, delta);
+            }
+        }
+
+        int eating = 0;
+        for (int lane = 0; lane < Constants.LANES; lane++) eating += laneEating[lane];
+        return eating;
+    }
+
+    private int sortAndMerge(int lane, float delta) {
+        sort(plantLanes[lane], plantXs[lane], plantCounts[lane]);
+        sort(enemyLanes[lane], enemyXs[lane], enemyCounts[lane]);
+        return mergeLane(lane, delta);
+    }
+
+    /**
+     * Recorre a la vez las plantas y los enemigos de un carril.
+     *
+     * <p>
+     * Para cada enemigo (en X creciente), el puntero de plantas avanza
+     * hasta la última planta con X menor que {@code ex + CONTACT_RANGE}:
+     * es la primera que el enemigo encuentra al avanzar hacia la
+     * izquierda. Como ambos lados están ordenados, el puntero nunca
+     * retrocede.
+     * </p>
+     */
+    private int mergeLane(int lane, float delta) {
+        Plant[] lanePlants = plantLanes[lane];
+        float[] pxs = plantXs[lane];
+        int np = plantCounts[lane];
+        Enemy[] laneEnemies = enemyLanes[lane];
+        float[] exs = enemyXs[lane];
+        int ne = enemyCounts[lane];
+
+        int eating = 0;
+        int p = -1;
+        for (int i = 0; i < ne; i++) {
+            float ex = exs[i];
+            while (p + 1 < np && pxs[p + 1] < ex + CONTACT_RANGE) p++;
+
+            boolean touching = p >= 0 && pxs[p] > ex - CONTACT_RANGE;
+            laneEnemies[i].setEating(touching);
+            if (touching) {
+                lanePlants[p].increaseResistanceTimer(delta);
+                eating++;
+            }
+        }
+        return eating;
+    }
+
+    // =============================
+    // Internos
+    // =============================
+
+    /**
+     * Quita en su lugar las plantas del carril que ya no están vivas
+     * en la lista, conservando el orden de las demás.
+     */
+    private void keepPlants(int lane) {
+        Plant[] items = plantLanes[lane];
+        float[] xs = plantXs[lane];
+        int n = plantCounts[lane];
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            Plant p = items[i];
+            if (Constants.getLane(p.getY()) == lane && pendingPlants.remove(p)) {
+                items[kept] = p;
+                xs[kept] = p.getX();
+                kept++;
+            }
+        }
+        // Soltar referencias para no retener entidades eliminadas
+        Arrays.fill(items, kept, n, null);
+        plantCounts[lane] = kept;
+    }
+
+    /**
+     * Quita en su lugar los enemigos del carril que ya no están vivos
+     * en la lista y actualiza la X de los demás.
+     */
+    private void keepEnemies(int lane) {
+        Enemy[] items = enemyLanes[lane];
+        float[] xs = enemyXs[lane];
+        int n = enemyCounts[lane];
+        int kept = 0;
+        for (int i = 0; i < n; i++) {
+            Enemy e = items[i];
+            if (Constants.getLane(e.getY()) == lane && pendingEnemies.remove(e)) {
+                items[kept] = e;
+                xs[kept] = e.getX();
+                kept++;
+            }
+        }
+        Arrays.fill(items, kept, n, null);
+        enemyCounts[lane] = kept;
+    }
+
+    private void addPlant(int lane, Plant p) {
+        int n = plantCounts[lane];
+        if (n == plantLanes[lane].length) {
+            plantLanes[lane] = Arrays.copyOf(plantLanes[lane], n * 2);
+            plantXs[lane] = Arrays.copyOf(plantXs[lane], n * 2);
+        }
+        plantLanes[lane][n] = p;
+        plantXs[lane][n] = p.getX();
+        plantCounts[lane] = n + 1;
+    }
+
+    private void addEnemy(int lane, Enemy e) {
+        int n = enemyCounts[lane];
+        if (n == enemyLanes[lane].length) {
+            enemyLanes[lane] = Arrays.copyOf(enemyLanes[lane], n * 2);
+            enemyXs[lane] = Arrays.copyOf(enemyXs[lane], n * 2);
+        }
+        enemyLanes[lane][n] = e;
+        enemyXs[lane][n] = e.getX();
+        enemyCounts[lane] = n + 1;
+    }
+
+    /**
+     * Ordenamiento por inserción estable por X (conserva el orden de
+     * colocación entre plantas de la misma celda). Casi lineal porque
+     * el carril llega ordenado del paso anterior.
+     */
+    private static <T> void sort(T[] items, float[] xs, int n) {
+        for (int i = 1; i < n; i++) {
+            float x = xs[i];
+            T item = items[i];
+            int j = i - 1;
+            while (j >= 0 && xs[j] > x) {
+                xs[j + 1] = xs[j];
+                items[j + 1] = items[j];
+                j--;
+            }
+            xs[j + 1] = x;
+            items[j + 1] = item;
+        }
+    }
+}
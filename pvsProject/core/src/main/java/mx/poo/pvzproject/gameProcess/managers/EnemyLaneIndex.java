@@ -0,0 +1,515 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Índice espacial de enemigos agrupados por carril.
+ *
+ * <p>
+ * Mantiene, para cada línea del grid, los enemigos ordenados por su
+ * coordenada X (de izquierda a derecha). Todas las plantas y defensas
+ * que buscan objetivos consultan este índice en lugar de recorrer la
+ * lista completa de enemigos.
+ * </p>
+ *
+ * <p>
+ * Consultas disponibles:
+ * </p>
+ * <ul>
+ *     <li>Enemigo más adelantado de un carril en O(1).</li>
+ *     <li>Existencia de enemigos en un rango de X en O(log n).</li>
+ *     <li>Recorrido de los enemigos dentro de un rango de X y de carriles,
+ *     visitando solo los que están dentro del rango.</li>
+ * </ul>
+ *
+ * <p>
+ * Se reconstruye una vez por frame desde {@link GameUpdater} y admite
+ * inserciones incrementales para los enemigos generados durante el frame.
+ * Antes de las colisiones, cuando los enemigos ya se movieron, solo se
+ * actualizan las X y se reordena cada carril ({@link #refresh(List)}).
+ * Ninguna de las dos operaciones reserva memoria una vez que los
+ * arreglos internos alcanzan su tamaño de trabajo.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class EnemyLaneIndex {
+
+    /** Capacidad inicial de cada carril. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Enemigos de cada carril ordenados por X. */
+    private final Enemy[][] lanes = new Enemy[Constants.LANES][];
+
+    /** Coordenadas X de cada carril, en el mismo orden que {@link #lanes}. */
+    private final float[][] xs = new float[Constants.LANES][];
+
+    /**
+     * Posición de cada enemigo en la lista recibida por {@link #rebuild(List)},
+     * en el mismo orden que {@link #lanes}. Vale -1 para los enemigos
+     * insertados con {@link #add(Enemy)} sin posición.
+     */
+    private final int[][] listIndices = new int[Constants.LANES][];
+
+    /** Cantidad de enemigos por carril. */
+    private final int[] sizes = new int[Constants.LANES];
+
+    /** Claves auxiliares de ordenamiento (X ordenable + posición). */
+    private long[] keys = new long[INITIAL_CAPACITY];
+
+    /** Copia auxiliar usada al reordenar un carril. */
+    private Enemy[] scratch = new Enemy[INITIAL_CAPACITY];
+
+    /** Copia auxiliar de posiciones usada al reordenar un carril. */
+    private int[] scratchIndices = new int[INITIAL_CAPACITY];
+
+    /**
+     * Constructor del índice vacío.
+     */
+    public EnemyLaneIndex() {
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            lanes[lane] = new Enemy[INITIAL_CAPACITY];
+            xs[lane] = new float[INITIAL_CAPACITY];
+            listIndices[lane] = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    // =============================
+    // Construcción
+    // =============================
+
+    /**
+     * Reconstruye el índice completo a partir de la lista de enemigos.
+     *
+     * @param enemies lista de enemigos activos
+     */
+    public void rebuild(List<Enemy> enemies) {
+        Arrays.fill(sizes, 0);
+
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy e = enemies.get(i);
+            int lane = Constants.getLane(e.getY());
+            ensureCapacity(lane, sizes[lane] + 1);
+            lanes[lane][sizes[lane]] = e;
+            xs[lane][sizes[lane]] = e.getX();
+            listIndices[lane][sizes[lane]] = i;
+            sizes[lane]++;
+        }
+
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            sortLane(lane);
+        }
+    }
+
+    /**
+     * Inserta un enemigo manteniendo el orden de su carril.
+     *
+     * <p>
+     * Se usa para los enemigos generados después de la última
+     * reconstrucción, evitando reconstruir el índice completo.
+     * </p>
+     *
+     * @param e enemigo a insertar
+     */
+    public void add(Enemy e) {
+        add(e, -1);
+    }
+
+    /**
+     * Inserta un enemigo agregado al final de la lista usada en la
+     * última reconstrucción, recordando su posición para que
+     * {@link #firstListIndexNear} y {@link #refresh(List)} lo tengan
+     * en cuenta.
+     *
+     * @param e         enemigo a insertar
+     * @param listIndex posición del enemigo en la lista, o -1 si no está en ella
+     */
+    public void add(Enemy e, int listIndex) {
+        int lane = Constants.getLane(e.getY());
+        int n = sizes[lane];
+        ensureCapacity(lane, n + 1);
+
+        int pos = upperBound(xs[lane], n, e.getX());
+        System.arraycopy(lanes[lane], pos, lanes[lane], pos + 1, n - pos);
+        System.arraycopy(xs[lane], pos, xs[lane], pos + 1, n - pos);
+        System.arraycopy(listIndices[lane], pos, listIndices[lane], pos + 1, n - pos);
+        lanes[lane][pos] = e;
+        xs[lane][pos] = e.getX();
+        listIndices[lane][pos] = listIndex;
+        sizes[lane] = n + 1;
+    }
+
+    /**
+     * Actualiza las X con las posiciones actuales y reordena cada carril
+     * sin reconstruir el índice.
+     *
+     * <p>
+     * En un paso los enemigos avanzan poco y rara vez se adelantan entre
+     * sí, así que cada carril queda casi ordenado y la inserción lo
+     * corrige en tiempo casi lineal. El orden resultante, con empates
+     * por posición en la lista, es el mismo que daría
+     * {@link #rebuild(List)}. Si el índice ya no corresponde a la lista
+     * (enemigos sin posición, altas o bajas no registradas, o cambios
+     * de carril), se reconstruye completo.
+     * </p>
+     *
+     * @param enemies lista de enemigos activos
+     */
+    public void refresh(List<Enemy> enemies) {
+        if (!matches(enemies)) {
+            rebuild(enemies);
+            return;
+        }
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            resortLane(lane);
+        }
+    }
+
+    /**
+     * Vacía el índice sin liberar sus arreglos internos.
+     */
+    public void clear() {
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            Arrays.fill(lanes[lane], 0, sizes[lane], null);
+        }
+        Arrays.fill(sizes, 0);
+    }
+
+    // =============================
+    // Consultas
+    // =============================
+
+    /**
+     * Obtiene el enemigo más adelantado (menor X) de un carril.
+     *
+     * @param lane índice del carril
+     * @return enemigo más cercano a la casa o null si el carril está vacío
+     */
+    public Enemy frontmost(int lane) {
+        return sizes[lane] > 0 ? lanes[lane][0] : null;
+    }
+
+    /**
+     * Cantidad de enemigos indexados en un carril.
+     *
+     * @param lane índice del carril
+     * @return número de enemigos del carril
+     */
+    public int count(int lane) {
+        return sizes[lane];
+    }
+
+    /**
+     * Cantidad total de enemigos indexados.
+     *
+     * @return número de enemigos
+     */
+    public int size() {
+        int total = 0;
+        for (int size : sizes) total += size;
+        return total;
+    }
+
+    /**
+     * Indica si existe algún enemigo cuya X esté en el intervalo abierto
+     * {@code (minX, maxX)} y cuya distancia vertical a {@code y} sea menor
+     * que {@code yRange}.
+     *
+     * @param minX   límite izquierdo (exclusivo)
+     * @param maxX   límite derecho (exclusivo)
+     * @param y      coordenada Y de referencia
+     * @param yRange distancia vertical máxima (exclusiva)
+     * @return true si hay al menos un enemigo en el rango
+     */
+    public boolean anyInRange(float minX, float maxX, float y, float yRange) {
+        int fromLane = Constants.getLane(y - yRange);
+        int toLane = Constants.getLane(y + yRange);
+
+        for (int lane = fromLane; lane <= toLane; lane++) {
+            float[] laneXs = xs[lane];
+            Enemy[] laneEnemies = lanes[lane];
+            int n = sizes[lane];
+            for (int i = upperBound(laneXs, n, minX); i < n && laneXs[i] < maxX; i++) {
+                if (Math.abs(laneEnemies[i].getY() - y) < yRange) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indica si existe algún enemigo delante (a la derecha) de una posición
+     * dentro del rango vertical indicado.
+     *
+     * @param x      coordenada X de referencia (exclusiva)
+     * @param y      coordenada Y de referencia
+     * @param yRange distancia vertical máxima (exclusiva)
+     * @return true si hay un enemigo delante
+     */
+    public boolean anyAhead(float x, float y, float yRange) {
+        return anyInRange(x, Float.POSITIVE_INFINITY, y, yRange);
+    }
+
+    /**
+     * Obtiene el enemigo vivo más adelantado (menor X) dentro del
+     * intervalo abierto {@code (minX, maxX)} y del rango vertical indicado.
+     *
+     * @param minX   límite izquierdo (exclusivo)
+     * @param maxX   límite derecho (exclusivo)
+     * @param y      coordenada Y de referencia
+     * @param yRange distancia vertical máxima (exclusiva)
+     * @return enemigo encontrado o null si no hay ninguno
+     */
+    public Enemy firstAliveInRange(float minX, float maxX, float y, float yRange) {
+        int fromLane = Constants.getLane(y - yRange);
+        int toLane = Constants.getLane(y + yRange);
+
+        Enemy best = null;
+        float bestX = maxX;
+
+        for (int lane = fromLane; lane <= toLane; lane++) {
+            float[] laneXs = xs[lane];
+            Enemy[] laneEnemies = lanes[lane];
+            int n = sizes[lane];
+            for (int i = upperBound(laneXs, n, minX); i < n && laneXs[i] < bestX; i++) {
+                Enemy e = laneEnemies[i];
+                if (!e.isDead() && Math.abs(e.getY() - y) < yRange) {
+                    best = e;
+                    bestX = laneXs[i];
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Recorre los enemigos dentro del intervalo abierto {@code (minX, maxX)}
+     * y del rango vertical indicado.
+     *
+     * @param minX   límite izquierdo (exclusivo)
+     * @param maxX   límite derecho (exclusivo)
+     * @param y      coordenada Y de referencia
+     * @param yRange distancia vertical máxima (exclusiva)
+     * @param action acción aplicada a cada enemigo
+     */
+    public void forEachInRange(float minX, float maxX, float y, float yRange, Consumer<Enemy> action) {
+        int fromLane = Constants.getLane(y - yRange);
+        int toLane = Constants.getLane(y + yRange);
+
+        for (int lane = fromLane; lane <= toLane; lane++) {
+            float[] laneXs = xs[lane];
+            Enemy[] laneEnemies = lanes[lane];
+            int n = sizes[lane];
+            for (int i = upperBound(laneXs, n, minX); i < n && laneXs[i] < maxX; i++) {
+                Enemy e = laneEnemies[i];
+                if (Math.abs(e.getY() - y) < yRange) action.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Recorre los enemigos de los carriles {@code fromLane..toLane}
+     * cuya X esté en el intervalo cerrado {@code [x0, x1]}.
+     *
+     * @param fromLane primer carril (inclusivo)
+     * @param toLane   último carril (inclusivo)
+     * @param x0       límite izquierdo (inclusivo)
+     * @param x1       límite derecho (inclusivo)
+     * @param action   acción aplicada a cada enemigo
+     */
+    public void forEachInLanes(int fromLane, int toLane, float x0, float x1, Consumer<Enemy> action) {
+        fromLane = Math.max(0, fromLane);
+        toLane = Math.min(Constants.LANES - 1, toLane);
+
+        for (int lane = fromLane; lane <= toLane; lane++) {
+            float[] laneXs = xs[lane];
+            Enemy[] laneEnemies = lanes[lane];
+            int n = sizes[lane];
+            for (int i = lowerBound(laneXs, n, x0); i < n && laneXs[i] <= x1; i++) {
+                action.accept(laneEnemies[i]);
+            }
+        }
+    }
+
+    /**
+     * Busca, entre los enemigos cercanos a un punto, el que aparece primero
+     * en la lista usada en la última reconstrucción.
+     *
+     * <p>
+     * Reproduce la búsqueda lineal original (primer enemigo de la lista cuya
+     * distancia en X y en Y sea menor que {@code range}), pero solo revisa
+     * los carriles y el tramo de X que pueden contener coincidencias.
+     * </p>
+     *
+     * @param x        coordenada X del punto
+     * @param y        coordenada Y del punto
+     * @param range    distancia máxima (exclusiva) en cada eje
+     * @param excluded posiciones de la lista que deben ignorarse (puede ser null)
+     * @return posición en la lista del enemigo encontrado o -1 si no hay ninguno
+     */
+    public int firstListIndexNear(float x, float y, float range, boolean[] excluded) {
+        int fromLane = Constants.getLane(y - range);
+        int toLane = Constants.getLane(y + range);
+
+        // Ventana ligeramente más amplia; la comprobación exacta se hace abajo
+        float minX = x - range - 1f;
+        float maxX = x + range + 1f;
+
+        int best = -1;
+        for (int lane = fromLane; lane <= toLane; lane++) {
+            float[] laneXs = xs[lane];
+            Enemy[] laneEnemies = lanes[lane];
+            int[] laneIndices = listIndices[lane];
+            int n = sizes[lane];
+            for (int i = upperBound(laneXs, n, minX); i < n && laneXs[i] < maxX; i++) {
+                int listIndex = laneIndices[i];
+                if (listIndex < 0 || (best >= 0 && listIndex >= best)) continue;
+                if (excluded != null && excluded[listIndex]) continue;
+
+                Enemy e = laneEnemies[i];
+                if (Math.abs(x - e.getX()) < range && Math.abs(y - e.getY()) < range) {
+                    best = listIndex;
+                }
+            }
+        }
+        return best;
+    }
+
+    // =============================
+    // Utilidades internas
+    // =============================
+
+    /**
+     * Indica si cada enemigo indexado sigue en su posición de la lista
+     * y en su carril, y si no falta ninguno.
+     */
+    private boolean matches(List<Enemy> enemies) {
+        if (size() != enemies.size()) return false;
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            Enemy[] laneEnemies = lanes[lane];
+            int[] laneIndices = listIndices[lane];
+            for (int i = 0, n = sizes[lane]; i < n; i++) {
+                int listIndex = laneIndices[i];
+                Enemy e = laneEnemies[i];
+                if (listIndex < 0 || listIndex >= enemies.size() || enemies.get(listIndex) != e) return false;
+                if (Constants.getLane(e.getY()) != lane) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reordena un carril casi ordenado por inserción, leyendo las X
+     * actuales. Los empates se deciden por posición en la lista.
+     *
+     * @param lane índice del carril
+     */
+    private void resortLane(int lane) {
+        Enemy[] laneEnemies = lanes[lane];
+        float[] laneXs = xs[lane];
+        int[] laneIndices = listIndices[lane];
+
+        for (int i = 0, n = sizes[lane]; i < n; i++) {
+            Enemy e = laneEnemies[i];
+            float x = e.getX();
+            int listIndex = laneIndices[i];
+            long key = sortKey(x, listIndex);
+
+            int j = i;
+            while (j > 0 && sortKey(laneXs[j - 1], laneIndices[j - 1]) > key) {
+                laneEnemies[j] = laneEnemies[j - 1];
+                laneXs[j] = laneXs[j - 1];
+                laneIndices[j] = laneIndices[j - 1];
+                j--;
+            }
+            laneEnemies[j] = e;
+            laneXs[j] = x;
+            laneIndices[j] = listIndex;
+        }
+    }
+
+    /** Clave de orden: X ordenable y, en empates, la posición en la lista. */
+    private static long sortKey(float x, int listIndex) {
+        return ((long) sortableBits(x) << 32) | listIndex;
+    }
+
+    /**
+     * Ordena un carril por X conservando el orden de inserción en empates.
+     *
+     * @param lane índice del carril
+     */
+    private void sortLane(int lane) {
+        int n = sizes[lane];
+        if (n < 2) return;
+
+        if (keys.length < n) {
+            keys = new long[Math.max(n, keys.length * 2)];
+            scratch = new Enemy[keys.length];
+            scratchIndices = new int[keys.length];
+        }
+
+        float[] laneXs = xs[lane];
+        Enemy[] laneEnemies = lanes[lane];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) sortableBits(laneXs[i]) << 32) | i;
+        }
+        Arrays.sort(keys, 0, n);
+
+        int[] laneIndices = listIndices[lane];
+        System.arraycopy(laneEnemies, 0, scratch, 0, n);
+        System.arraycopy(laneIndices, 0, scratchIndices, 0, n);
+        for (int i = 0; i < n; i++) {
+            int from = (int) keys[i];
+            Enemy e = scratch[from];
+            laneEnemies[i] = e;
+            laneXs[i] = e.getX();
+            laneIndices[i] = scratchIndices[from];
+        }
+        Arrays.fill(scratch, 0, n, null);
+    }
+
+    /**
+     * Convierte un float en un entero cuyo orden con signo coincide
+     * con el orden numérico del float.
+     */
+    private static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    /** Primer índice cuyo valor es estrictamente mayor que {@code value}. */
+    private static int upperBound(float[] values, int n, float value) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** Primer índice cuyo valor es mayor o igual que {@code value}. */
+    private static int lowerBound(float[] values, int n, float value) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void ensureCapacity(int lane, int capacity) {
+        if (lanes[lane].length >= capacity) return;
+        int newCapacity = Math.max(capacity, lanes[lane].length * 2);
+        lanes[lane] = Arrays.copyOf(lanes[lane], newCapacity);
+        xs[lane] = Arrays.copyOf(xs[lane], newCapacity);
+        listIndices[lane] = Arrays.copyOf(listIndices[lane], newCapacity);
+    }
+}
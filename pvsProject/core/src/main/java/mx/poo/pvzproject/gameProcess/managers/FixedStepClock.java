@@ -0,0 +1,103 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+/**
+ * Reloj de paso fijo para la simulación del juego.
+ *
+ * <p>
+ * Acumula el tiempo real de cada frame y lo convierte en un número
+ * entero de pasos de simulación de duración constante. De esta forma
+ * la lógica avanza igual sin importar la tasa de refresco de la pantalla
+ * ni los tirones puntuales.
+ * </p>
+ *
+ * <p>
+ * Características:
+ * </p>
+ * <ul>
+ *     <li>Frecuencia de simulación configurable (pasos por segundo).</li>
+ *     <li>Límite de pasos por frame para evitar la "espiral de la muerte":
+ *     el tiempo que excede el límite se descarta.</li>
+ *     <li>Factor de interpolación ({@link #getAlpha()}) para suavizar
+ *     el renderizado entre dos pasos.</li>
+ * </ul>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class FixedStepClock {
+
+    /** Duración de cada paso de simulación (segundos). */
+    private final float step;
+
+    /** Número máximo de pasos ejecutados en un solo frame. */
+    private final int maxStepsPerFrame;
+
+    /** Tiempo real acumulado pendiente de simular. */
+    private float accumulator = 0f;
+
+    /**
+     * Constructor del reloj.
+     *
+     * @param tickRate         pasos de simulación por segundo
+     * @param maxStepsPerFrame número máximo de pasos por frame
+     */
+    public FixedStepClock(int tickRate, int maxStepsPerFrame) {
+        if (tickRate <= 0 || maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("tickRate y maxStepsPerFrame deben ser positivos");
+        }
+        this.step = 1f / tickRate;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Registra el tiempo de un frame y calcula cuántos pasos simular.
+     *
+     * @param frameDelta tiempo real transcurrido desde el último frame
+     * @return número de pasos de simulación a ejecutar en este frame
+     */
+    public int advance(float frameDelta) {
+        if (frameDelta > 0f) accumulator += frameDelta;
+
+        int steps = 0;
+        while (accumulator >= step && steps < maxStepsPerFrame) {
+            accumulator -= step;
+            steps++;
+        }
+
+        // Se descarta el atraso que supera el límite de recuperación
+        if (accumulator >= step) {
+            accumulator %= step;
+        }
+        return steps;
+    }
+
+    /**
+     * Duración de cada paso de simulación.
+     *
+     * @return paso fijo en segundos
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Fracción del siguiente paso ya transcurrida.
+     *
+     * <p>
+     * Se usa para interpolar la posición visual de las entidades
+     * entre el paso anterior y el actual.
+     * </p>
+     *
+     * @return valor entre 0 y 1
+     */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    /**
+     * Descarta el tiempo acumulado.
+     */
+    public void reset() {
+        accumulator = 0f;
+    }
+}
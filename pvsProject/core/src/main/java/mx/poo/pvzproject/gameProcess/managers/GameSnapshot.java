@@ -0,0 +1,326 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.entities.plants.PlantSpec;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.CornProjectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.PetalProjectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
+import mx.poo.pvzproject.gameProcess.entities.soap.SoapDefense;
+import mx.poo.pvzproject.gameProcess.entities.soap.SoapWave;
+import mx.poo.pvzproject.gameProcess.spawn.EnemyType;
+import mx.poo.pvzproject.ui.screens.IGameContext;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Instantánea binaria del estado completo de la simulación.
+ *
+ * <p>
+ * Guarda todo lo necesario para continuar la partida exactamente
+ * desde el mismo paso: plantas con sus temporizadores y estados
+ * (fase del Champi, mecha de la RedBom), enemigos, proyectiles,
+ * defensas y olas de jabón, progreso y generadores de las oleadas,
+ * agua, recargas y el contador de pasos.
+ * </p>
+ *
+ * <p>
+ * Usos:
+ * </p>
+ * <ul>
+ *     <li>Guardado rápido de la partida.</li>
+ *     <li>Saltar directamente a una oleada avanzada en mediciones
+ *     de rendimiento, sin simular el inicio del nivel.</li>
+ *     <li>Retroceder a un paso anterior al depurar.</li>
+ * </ul>
+ *
+ * <p>
+ * Formato binario (versión {@link #VERSION}):
+ * </p>
+ * <ul>
+ *     <li>Cabecera: {@code "PVZS"}, versión (1 byte), nivel (4 bytes),
+ *     semilla (8 bytes).</li>
+ *     <li>Estado de la partida, contador de pasos, agua, recargas y oleadas.</li>
+ *     <li>Defensas de jabón, olas, enemigos, proyectiles y plantas, cada
+ *     grupo precedido de su cantidad.</li>
+ * </ul>
+ *
+ * <p>
+ * La composición de las oleadas no se guarda: se restaura sobre un
+ * contexto del mismo nivel y solo se sobrescribe su progreso. Los
+ * índices derivados (censo, grid e índice por carril) se reconstruyen
+ * al restaurar. Un tablero típico ocupa unos pocos KB y se escribe
+ * en microsegundos.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class GameSnapshot {
+
+    /** Firma del archivo. */
+    private static final byte[] MAGIC = {'P', 'V', 'Z', 'S'};
+
+    /** Versión del formato. */
+    public static final int VERSION = 1;
+
+    private static final int PROJECTILE_BASIC = 0;
+    private static final int PROJECTILE_PETAL = 1;
+    private static final int PROJECTILE_CORN = 2;
+
+    private GameSnapshot() {
+    }
+
+    // =============================
+    // Escritura
+    // =============================
+
+    /**
+     * Captura el estado actual en memoria.
+     *
+     * @param ctx contexto de la partida
+     * @return instantánea en formato binario
+     */
+    public static byte[] capture(IGameContext ctx) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try {
+            write(ctx, bytes);
+        } catch (IOException e) {
+            // Un flujo en memoria no falla al escribir
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Escribe el estado actual en formato binario. No cierra el flujo.
+     *
+     * @param ctx contexto de la partida
+     * @param out flujo de salida
+     * @throws IOException si falla la escritura
+     */
+    public static void write(IGameContext ctx, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        SubBossManager managers = ctx.getManagers();
+
+        data.write(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(Constants.CURRENT_LEVEL);
+        data.writeLong(ctx.getSeed());
+
+        // =============================
+        // Estado de la partida
+        // =============================
+
+        data.writeBoolean(ctx.isGameActive());
+        data.writeBoolean(ctx.isVictory());
+        data.writeBoolean(ctx.isDefeat());
+        data.writeInt(ctx.getSelectedPlant());
+
+        managers.gameUpdater.writeState(data);
+        managers.waterManager.writeState(data);
+        ctx.getCooldowns().writeState(data);
+        managers.waveManager.writeState(data);
+
+        // =============================
+        // Jabón
+        // =============================
+
+        ArrayList<SoapDefense> defenses = ctx.getSoapDefenses();
+        data.writeInt(defenses.size());
+        for (SoapDefense d : defenses) d.writeState(data);
+
+        ArrayList<SoapWave> soapWaves = ctx.getSoapWaves();
+        data.writeInt(soapWaves.size());
+        for (SoapWave w : soapWaves) w.writeState(data);
+
+        // =============================
+        // Entidades
+        // =============================
+
+        ArrayList<Enemy> enemies = ctx.getEnemies();
+        data.writeInt(enemies.size());
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy e = enemies.get(i);
+            data.writeByte(EnemyType.of(e.getClass()).ordinal());
+            e.writeState(data);
+        }
+
+        ArrayList<Projectile> projectiles = ctx.getProjectiles();
+        data.writeInt(projectiles.size());
+        for (int i = 0, n = projectiles.size(); i < n; i++) {
+            Projectile p = projectiles.get(i);
+            data.writeByte(projectileKind(p));
+            p.writeState(data);
+        }
+
+        ArrayList<Plant> plants = ctx.getPlants();
+        data.writeInt(plants.size());
+        for (int i = 0, n = plants.size(); i < n; i++) {
+            Plant p = plants.get(i);
+            data.writeByte(PlantSpec.of(p).ordinal());
+            data.writeFloat(p.getX());
+            data.writeFloat(p.getY());
+            p.writeState(data, enemies);
+        }
+
+        data.flush();
+    }
+
+    // =============================
+    // Lectura
+    // =============================
+
+    /**
+     * Restaura una instantánea capturada con {@link #capture(IGameContext)}.
+     *
+     * @param ctx  contexto del mismo nivel
+     * @param data instantánea en formato binario
+     * @throws IOException si los datos no son una instantánea válida para este nivel
+     */
+    public static void restore(IGameContext ctx, byte[] data) throws IOException {
+        read(ctx, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Reemplaza el estado de la partida por el de una instantánea.
+     *
+     * <p>
+     * Las entidades actuales vuelven a sus pools y se sustituyen por
+     * las guardadas. El contexto debe estar en el mismo nivel que la
+     * instantánea; la semilla del contexto no cambia, pero los
+     * generadores de las oleadas continúan donde estaban al capturar.
+     * Si la lectura falla a la mitad, la partida queda incompleta
+     * y debe reiniciarse.
+     * </p>
+     *
+     * @param ctx contexto del mismo nivel
+     * @param in  flujo de entrada
+     * @throws IOException si el flujo no es una instantánea válida para este nivel
+     */
+    public static void read(IGameContext ctx, InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        SubBossManager managers = ctx.getManagers();
+
+        byte[] magic = new byte[MAGIC.length];
+        data.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) throw new IOException("No es una instantánea de partida");
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Versión de instantánea no soportada: " + version);
+        int level = data.readInt();
+        if (level != Constants.CURRENT_LEVEL) {
+            throw new IOException("Instantánea del nivel " + level + ", el actual es " + Constants.CURRENT_LEVEL);
+        }
+        data.readLong(); // semilla original, solo informativa
+
+        // =============================
+        // Estado de la partida
+        // =============================
+
+        boolean active = data.readBoolean();
+        boolean victory = data.readBoolean();
+        boolean defeat = data.readBoolean();
+        ctx.setGameActive(active);
+        ctx.setVictory(victory);
+        ctx.setDefeat(defeat);
+        ctx.setSelectedPlant(data.readInt());
+
+        managers.gameUpdater.readState(data);
+        managers.waterManager.readState(data);
+        ctx.getCooldowns().readState(data);
+        managers.waveManager.readState(data);
+
+        // =============================
+        // Jabón
+        // =============================
+
+        ArrayList<SoapDefense> defenses = ctx.getSoapDefenses();
+        int defenseCount = data.readInt();
+        if (defenseCount != defenses.size()) {
+            throw new IOException("Se esperaban " + defenses.size() + " defensas, no " + defenseCount);
+        }
+        for (SoapDefense d : defenses) d.readState(data);
+
+        ArrayList<SoapWave> soapWaves = ctx.getSoapWaves();
+        soapWaves.clear();
+        for (int i = 0, n = data.readInt(); i < n; i++) {
+            soapWaves.add(SoapWave.read(data));
+        }
+
+        // =============================
+        // Entidades
+        // =============================
+
+        // Desvincular del almacén antes de devolver los enemigos a su pool
+        managers.enemyStore.clear();
+        ArrayList<Enemy> enemies = ctx.getEnemies();
+        EnemyPool.releaseAll(enemies);
+        EnemyType[] enemyTypes = EnemyType.values();
+        for (int i = 0, n = data.readInt(); i < n; i++) {
+            int type = data.readUnsignedByte();
+            if (type >= enemyTypes.length) throw new IOException("Tipo de enemigo desconocido: " + type);
+            Enemy e = enemyTypes[type].obtain(0f, 0f);
+            e.readState(data);
+            enemies.add(e);
+        }
+
+        ArrayList<Projectile> projectiles = ctx.getProjectiles();
+        ProjectilePools.freeAll(projectiles);
+        for (int i = 0, n = data.readInt(); i < n; i++) {
+            Projectile p = newProjectile(data.readUnsignedByte());
+            p.readState(data);
+            projectiles.add(p);
+        }
+
+        ArrayList<Plant> plants = ctx.getPlants();
+        plants.clear();
+        for (int i = 0, n = data.readInt(); i < n; i++) {
+            PlantSpec spec = PlantSpec.forSlot(data.readUnsignedByte());
+            if (spec == null) throw new IOException("Tipo de planta desconocido");
+            float x = data.readFloat();
+            Plant p = spec.create(x, data.readFloat());
+            p.readState(data, enemies);
+            plants.add(p);
+        }
+
+        // =============================
+        // Índices derivados
+        // =============================
+
+        managers.plantCensus.rebuild(plants);
+        managers.grid.rebuild(plants);
+        managers.enemyIndex.rebuild(enemies);
+    }
+
+    // =============================
+    // Internos
+    // =============================
+
+    private static int projectileKind(Projectile p) {
+        if (p instanceof PetalProjectile) return PROJECTILE_PETAL;
+        if (p instanceof CornProjectile) return PROJECTILE_CORN;
+        if (p.getClass() == Projectile.class) return PROJECTILE_BASIC;
+        throw new IllegalArgumentException("Proyectil no registrado: " + p.getClass().getName());
+    }
+
+    private static Projectile newProjectile(int kind) throws IOException {
+        switch (kind) {
+            case PROJECTILE_BASIC: return ProjectilePools.obtain(0f, 0f, 0, 0f);
+            case PROJECTILE_PETAL: return ProjectilePools.obtainPetal(0f, 0f, 0);
+            case PROJECTILE_CORN: return new CornProjectile(0f, 0f, 0);
+            default: throw new IOException("Tipo de proyectil desconocido: " + kind);
+        }
+    }
+}
@@ -1,27 +1,32 @@
 package mx.poo.pvzproject.gameProcess.managers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.viewport.Viewport;
+import mx.poo.pvzproject.gameProcess.input.CommandLog;
+import mx.poo.pvzproject.gameProcess.input.CommandSource;
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
 import mx.poo.pvzproject.gameProcess.entities.soap.SoapDefense;
 import mx.poo.pvzproject.gameProcess.entities.soap.SoapWave;
 import mx.poo.pvzproject.ui.screens.IGameContext;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyStore;
 import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
-import mx.poo.pvzproject.ui.utils.Constants;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 
-import static mx.poo.pvzproject.ui.utils.Constants.CARD_HEIGHT;
-
 /**
  * Encapsula la lógica de actualización del juego en cada frame.
  *
  * <p>
  * Esta clase representa el núcleo del ciclo de actualización (update loop)
- * del juego. Se ejecuta una vez por frame y coordina todos los sistemas
- * lógicos necesarios para mantener el estado dinámico de la partida.
+ * del juego. Se ejecuta una vez por paso fijo de simulación y coordina
+ * todos los sistemas lógicos necesarios para mantener el estado dinámico
+ * de la partida.
  * </p>
  *
  * <p>
@@ -32,14 +37,16 @@ import static mx.poo.pvzproject.ui.utils.Constants.CARD_HEIGHT;
  *     <li>Procesar entrada del jugador.</li>
  *     <li>Gestionar colocación de plantas.</li>
  *     <li>Actualizar plantas, enemigos y proyectiles.</li>
- *     <li>Controlar colisiones.</li>
+ *     <li>Mantener el índice de enemigos por carril.</li>
+ *     <li>Controlar colisiones y el contacto de enemigos con plantas.</li>
  *     <li>Gestionar defensas y olas de jabón.</li>
  *     <li>Determinar condiciones de victoria y derrota.</li>
  * </ul>
  *
  * <p>
- * Depende exclusivamente de {@link IGameContext}, lo que garantiza
- * bajo acoplamiento y facilita pruebas, mantenimiento y extensibilidad.
+ * Depende exclusivamente de {@link IGameContext} y de una
+ * {@link CommandSource}, lo que garantiza bajo acoplamiento y permite
+ * ejecutar la simulación sin ventana ni {@code Gdx.input}.
  * </p>
  *
  * @author SmallJunior
@@ -50,8 +57,26 @@ public class GameUpdater {
     /** Contexto del juego. */
     private final IGameContext ctx;
 
-    /** Viewport activo para convertir coordenadas de entrada. */
-    private final Viewport viewport;
+    /** Fuente de los comandos del jugador. */
+    private final CommandSource input;
+
+    /** Comandos obtenidos en el frame actual (lista reutilizada). */
+    private final ArrayList<InputCommand> pendingCommands = new ArrayList<>();
+
+    /** Resolución de impactos entre proyectiles y enemigos. */
+    private final CollisionSystem collisionSystem = new CollisionSystem();
+
+    /** Contacto entre enemigos y plantas (ataque y bloqueo). */
+    private final ContactResolver contactResolver = new ContactResolver();
+
+    /** Ejecutor de etapas por línea; null para el modo secuencial. */
+    private LaneExecutor parallel;
+
+    /** Registro de los comandos aplicados; null si no se graba. */
+    private CommandLog recorder;
+
+    /** Pasos de simulación ejecutados en esta partida. */
+    private int tick = 0;
 
     /** Temporizador inicial del nivel para controlar la victoria. */
     private float startLevelTimer = 0f;
@@ -59,71 +84,146 @@ public class GameUpdater {
     /**
      * Constructor del actualizador del juego.
      *
-     * @param ctx       contexto del juego
-     * @param viewport  viewport activo
+     * @param ctx   contexto del juego
+     * @param input fuente de comandos del jugador
      */
-    public GameUpdater(IGameContext ctx, Viewport viewport) {
+    public GameUpdater(IGameContext ctx, CommandSource input) {
         this.ctx = ctx;
-        this.viewport = viewport;
+        this.input = input;
     }
 
     /**
-     * Ejecuta la actualización lógica del juego para un frame.
+     * Activa o desactiva el modo paralelo por líneas.
+     *
+     * <p>
+     * En modo paralelo, el movimiento de proyectiles y enemigos, el
+     * contacto con plantas y las colisiones se reparten por línea sobre
+     * el {@link LaneExecutor}. Las acciones de las plantas siguen siendo
+     * secuenciales porque agregan proyectiles a una lista ordenada y usan
+     * pools compartidos. El resultado es idéntico al del modo secuencial.
+     * </p>
      *
-     * @param delta tiempo transcurrido desde el último frame
+     * @param parallel ejecutor de etapas, o null para el modo secuencial
      */
-    public void update(float delta) {
+    public void setParallelTick(LaneExecutor parallel) {
+        this.parallel = parallel;
+    }
 
-        startLevelTimer += delta;
+    /**
+     * Ejecutor del modo paralelo.
+     *
+     * @return ejecutor de etapas, o null en modo secuencial
+     */
+    public LaneExecutor getParallelTick() {
+        return parallel;
+    }
 
-        // =============================
-        // Actualización de recursos
-        // =============================
+    /**
+     * Graba los comandos del jugador con el paso en que se aplican.
+     *
+     * <p>
+     * Un comando grabado en el paso T se aplicó antes de ejecutar el
+     * paso T; reproducirlo en ese mismo paso, con la misma semilla,
+     * repite la partida.
+     * </p>
+     *
+     * @param recorder registro de destino, o null para no grabar
+     */
+    public void setRecorder(CommandLog recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Pasos de simulación ejecutados en esta partida.
+     *
+     * @return número de pasos
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Escribe el contador de pasos y el temporizador del nivel.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(tick);
+        out.writeFloat(startLevelTimer);
+    }
 
-        ctx.getManagers().waterManager.update(delta, ctx.getPlants());
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura
+     */
+    public void readState(DataInput in) throws IOException {
+        tick = in.readInt();
+        startLevelTimer = in.readFloat();
+    }
 
-        ctx.getCooldowns().setCorn(Math.max(0f, ctx.getCooldowns().getCorn() - delta));
-        ctx.getCooldowns().setPapa(Math.max(0f, ctx.getCooldowns().getPapa() - delta));
-        ctx.getCooldowns().setWater(Math.max(0f, ctx.getCooldowns().getWater() - delta));
-        ctx.getCooldowns().setRedBom(Math.max(0f, ctx.getCooldowns().getRedBom() - delta));
-        ctx.getCooldowns().setLilyPad(Math.max(0f, ctx.getCooldowns().getLilyPad() - delta));
-        ctx.getCooldowns().setMaceta(Math.max(0f, ctx.getCooldowns().getMaceta() - delta));
-        ctx.getCooldowns().setCampanilla(Math.max(0f, ctx.getCooldowns().getCampanilla() - delta));
-        ctx.getCooldowns().setChampi(Math.max(0f, ctx.getCooldowns().getChampi() - delta));
+    /**
+     * Procesa la entrada del jugador (selección de cartas y colocación
+     * de plantas) a partir de los comandos de la {@link CommandSource}.
+     *
+     * <p>
+     * Se ejecuta una sola vez por frame, fuera de los pasos de simulación,
+     * para que un toque no se pierda ni se procese dos veces.
+     * </p>
+     */
+    public void handleInput() {
 
-        // =============================
-        // Defensas de jabón
-        // =============================
+        pendingCommands.clear();
+        input.poll(pendingCommands);
 
-        for (SoapDefense soap : ctx.getSoapDefenses()) {
-            soap.tryActivate(ctx);
+        for (int i = 0; i < pendingCommands.size(); i++) {
+            InputCommand command = pendingCommands.get(i);
+            if (recorder != null) recorder.record(tick, command);
+            switch (command.getType()) {
+                case SELECT_CARD:
+                    ctx.setSelectedPlant(command.getSlot());
+                    break;
+                case PLACE:
+                    ctx.getManagers().plantPlacer.place(command.getLane(), command.getColumn());
+                    break;
+            }
         }
+    }
+
+    /**
+     * Ejecuta un paso fijo de la simulación.
+     *
+     * @param delta duración del paso de simulación
+     */
+    public void update(float delta) {
+
+        tick++;
+        startLevelTimer += delta;
 
         // =============================
-        // Entrada: selección de cartas
+        // Índice de enemigos por carril
         // =============================
 
-        if (Gdx.input.justTouched()) {
+        EnemyLaneIndex enemyIndex = ctx.getManagers().enemyIndex;
+        enemyIndex.rebuild(ctx.getEnemies());
 
-            Vector3 touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            viewport.unproject(touchPos);
+        // =============================
+        // Actualización de recursos
+        // =============================
 
-            if      (touchPos.x >= Constants.CARD_X1 && touchPos.x < Constants.CARD_X1 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(0);
-            else if (touchPos.x >= Constants.CARD_X2 && touchPos.x < Constants.CARD_X2 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(1);
-            else if (touchPos.x >= Constants.CARD_X3 && touchPos.x < Constants.CARD_X3 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(2);
-            else if (touchPos.x >= Constants.CARD_X4 && touchPos.x < Constants.CARD_X4 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(3);
-            else if (touchPos.x >= Constants.CARD_X5 && touchPos.x < Constants.CARD_X5 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(4);
-            else if (touchPos.x >= Constants.CARD_X6 && touchPos.x < Constants.CARD_X6 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(5);
-            else if (touchPos.x >= Constants.CARD_X7 && touchPos.x < Constants.CARD_X7 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(6);
-            else if (touchPos.x >= Constants.CARD_X8 && touchPos.x < Constants.CARD_X8 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(7);
-            else if (touchPos.x >= Constants.CARD_X9 && touchPos.x < Constants.CARD_X9 + Constants.CARD_WIDTH && touchPos.y >= Constants.CARDS_Y && touchPos.y < Constants.CARDS_Y + CARD_HEIGHT) ctx.setSelectedPlant(8);
-        }
+        ctx.getManagers().waterManager.update(delta);
+
+        ctx.getCooldowns().tick(delta);
 
         // =============================
-        // Colocación de plantas
+        // Defensas de jabón
         // =============================
 
-        ctx.getManagers().plantPlacer.handleInput();
+        for (SoapDefense soap : ctx.getSoapDefenses()) {
+            soap.tryActivate(ctx);
+        }
 
         // =============================
         // Actualización de entidades
@@ -131,10 +231,14 @@ public class GameUpdater {
 
         for (Plant p : ctx.getPlants()) {
             p.update(delta);
-            p.act(delta, ctx.getProjectiles(), ctx.getEnemies());
+            p.act(delta, ctx.getProjectiles(), enemyIndex);
         }
 
+        int enemiesBeforeSpawn = ctx.getEnemies().size();
         ctx.getManagers().spawner.update(delta, ctx.getEnemies());
+        for (int i = enemiesBeforeSpawn; i < ctx.getEnemies().size(); i++) {
+            enemyIndex.add(ctx.getEnemies().get(i), i);
+        }
 
         Iterator<SoapWave> waveIter = ctx.getSoapWaves().iterator();
         while (waveIter.hasNext()) {
@@ -143,38 +247,44 @@ public class GameUpdater {
             if (!wave.isActive()) waveIter.remove();
         }
 
-        for (Projectile p : ctx.getProjectiles()) p.update(delta);
-        for (Enemy e : ctx.getEnemies()) e.update(delta);
+        // Movimiento de enemigos en bloque sobre el almacén en arreglos
+        EnemyStore enemyStore = ctx.getManagers().enemyStore;
+        enemyStore.sync(ctx.getEnemies());
+
+        if (parallel != null) {
+            ArrayList<Projectile> projectiles = ctx.getProjectiles();
+            parallel.forRange(projectiles.size(), (from, to) -> {
+                for (int i = from; i < to; i++) projectiles.get(i).update(delta);
+            });
+            parallel.forRange(enemyStore.size(), (from, to) -> enemyStore.advance(from, to, delta));
+        } else {
+            for (Projectile p : ctx.getProjectiles()) p.update(delta);
+            enemyStore.advance(delta);
+        }
 
         // =============================
-        // Colisiones
+        // Contacto enemigo-planta
         // =============================
 
-        Iterator<Projectile> projIter = ctx.getProjectiles().iterator();
-        while (projIter.hasNext()) {
-            Projectile p = projIter.next();
-            Iterator<Enemy> enemyIter = ctx.getEnemies().iterator();
-            while (enemyIter.hasNext()) {
-                Enemy e = enemyIter.next();
-                if (Math.abs(p.getX() - e.getX()) < 50 &&
-                    Math.abs(p.getY() - e.getY()) < 50) {
+        contactResolver.resolve(ctx.getPlants(), ctx.getEnemies(), delta, parallel);
 
-                    e.takeDamage(p.getDamage());
-                    projIter.remove();
+        // =============================
+        // Colisiones
+        // =============================
 
-                    if (e.isDead()) enemyIter.remove();
-                    break;
-                }
-            }
+        if (parallel != null) {
+            collisionSystem.resolve(ctx.getProjectiles(), ctx.getEnemies(), enemyIndex, parallel);
+        } else {
+            collisionSystem.resolve(ctx.getProjectiles(), ctx.getEnemies(), enemyIndex);
         }
 
         // =============================
         // Limpieza de entidades
         // =============================
 
-        ctx.getProjectiles().removeIf(Projectile::isOffScreen);
-        ctx.getEnemies().removeIf(e -> e.isOffScreen() || e.isDead());
-        ctx.getPlants().removeIf(Plant::isDead);
+        removeOffScreenProjectiles(ctx.getProjectiles());
+        removeFinishedEnemies(ctx.getEnemies());
+        removeDeadPlants(ctx.getPlants(), ctx.getManagers().plantCensus, ctx.getManagers().grid);
 
         // =============================
         // Condición de victoria
@@ -202,4 +312,71 @@ public class GameUpdater {
             }
         }
     }
+
+    /**
+     * Elimina los proyectiles fuera de pantalla y los devuelve a su pool.
+     *
+     * <p>
+     * Compacta la lista en una sola pasada conservando el orden.
+     * </p>
+     *
+     * @param projectiles lista de proyectiles activos
+     */
+    private static void removeOffScreenProjectiles(ArrayList<Projectile> projectiles) {
+        int count = projectiles.size();
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            Projectile p = projectiles.get(read);
+            if (p.isOffScreen()) {
+                ProjectilePools.free(p);
+                continue;
+            }
+            if (write != read) projectiles.set(write, p);
+            write++;
+        }
+        if (write < count) projectiles.subList(write, count).clear();
+    }
+
+    /**
+     * Elimina los enemigos muertos o fuera de pantalla y los devuelve a su pool.
+     *
+     * @param enemies lista de enemigos activos
+     */
+    private static void removeFinishedEnemies(ArrayList<Enemy> enemies) {
+        int count = enemies.size();
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            Enemy e = enemies.get(read);
+            if (e.isOffScreen() || e.isDead()) {
+                EnemyPool.release(e);
+                continue;
+            }
+            if (write != read) enemies.set(write, e);
+            write++;
+        }
+        if (write < count) enemies.subList(write, count).clear();
+    }
+
+    /**
+     * Elimina las plantas muertas y las retira del censo y del grid.
+     *
+     * @param plants lista de plantas activas
+     * @param census conteo de plantas por tipo
+     * @param grid   ocupación de las celdas
+     */
+    private static void removeDeadPlants(ArrayList<Plant> plants, PlantCensus census, GridModel grid) {
+        int count = plants.size();
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            Plant p = plants.get(read);
+            if (p.isDead()) {
+                census.onRemoved(p);
+                grid.remove(p);
+                continue;
+            }
+            if (write != read) plants.set(write, p);
+            write++;
+        }
+        if (write < count) plants.subList(write, count).clear();
+    }
 }
@@ -0,0 +1,188 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ocupación del grid: qué plantas hay en cada celda.
+ *
+ * <p>
+ * Cada celda (línea, columna) guarda una pila pequeña de plantas
+ * en orden de colocación: primero el soporte (por ejemplo
+ * {@link mx.poo.pvzproject.gameProcess.entities.plants.LilyPad} o
+ * {@link mx.poo.pvzproject.gameProcess.entities.plants.Maceta}) y encima
+ * la planta sembrada. Consultar o modificar una celda es O(1) y no
+ * requiere recorrer la lista de plantas.
+ * </p>
+ *
+ * <p>
+ * Se actualiza al colocar, al usar la pala y al morir una planta.
+ * Además de {@link PlantPlacer}, cualquier sistema (reglas de agua,
+ * contacto con enemigos, HUD) puede consultarlo por celda.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class GridModel {
+
+    /** Capacidad inicial de cada pila (soporte + planta). */
+    private static final int STACK_CAPACITY = 2;
+
+    /** Pilas de plantas por celda, indexadas por {@link #cellIndex(int, int)}. */
+    private final Plant[][] cells = new Plant[Constants.LANES * Constants.COLUMNS][];
+
+    /** Número de plantas en cada celda. */
+    private final int[] sizes = new int[Constants.LANES * Constants.COLUMNS];
+
+    /**
+     * Constructor del modelo (grid vacío).
+     */
+    public GridModel() {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new Plant[STACK_CAPACITY];
+        }
+    }
+
+    /**
+     * Índice lineal de una celda.
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return índice de la celda
+     */
+    public static int cellIndex(int lane, int column) {
+        return lane * Constants.COLUMNS + column;
+    }
+
+    // ===== CONSULTAS =====
+
+    /**
+     * Número de plantas en una celda.
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return plantas apiladas en la celda
+     */
+    public int size(int lane, int column) {
+        return sizes[cellIndex(lane, column)];
+    }
+
+    /**
+     * Indica si una celda está vacía.
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return true si no hay plantas
+     */
+    public boolean isEmpty(int lane, int column) {
+        return sizes[cellIndex(lane, column)] == 0;
+    }
+
+    /**
+     * Planta en la base de la celda (la primera colocada).
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return planta base, o null si la celda está vacía
+     */
+    public Plant base(int lane, int column) {
+        int cell = cellIndex(lane, column);
+        return sizes[cell] > 0 ? cells[cell][0] : null;
+    }
+
+    /**
+     * Planta en la cima de la celda (la última colocada).
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @return planta superior, o null si la celda está vacía
+     */
+    public Plant top(int lane, int column) {
+        int cell = cellIndex(lane, column);
+        return sizes[cell] > 0 ? cells[cell][sizes[cell] - 1] : null;
+    }
+
+    /**
+     * Planta en una posición de la pila de la celda.
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
+     * @param level  posición en la pila (0 = base)
+     * @return planta en esa posición
+     */
+    public Plant get(int lane, int column, int level) {
+        int cell = cellIndex(lane, column);
+        if (level < 0 || level >= sizes[cell]) {
+            throw new IndexOutOfBoundsException("level " + level + " en celda de tamaño " + sizes[cell]);
+        }
+        return cells[cell][level];
+    }
+
+    // ===== MODIFICACIONES =====
+
+    /**
+     * Apila una planta en la celda que ocupa según su posición.
+     *
+     * @param plant planta colocada
+     */
+    public void add(Plant plant) {
+        int cell = cellOf(plant);
+        Plant[] stack = cells[cell];
+        if (sizes[cell] == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+            cells[cell] = stack;
+        }
+        stack[sizes[cell]++] = plant;
+    }
+
+    /**
+     * Retira una planta de su celda conservando el orden del resto.
+     *
+     * @param plant planta eliminada
+     * @return true si la planta estaba en el grid
+     */
+    public boolean remove(Plant plant) {
+        int cell = cellOf(plant);
+        Plant[] stack = cells[cell];
+        int size = sizes[cell];
+        for (int i = 0; i < size; i++) {
+            if (stack[i] == plant) {
+                System.arraycopy(stack, i + 1, stack, i, size - i - 1);
+                stack[--sizes[cell]] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Vacía todas las celdas.
+     */
+    public void clear() {
+        for (int i = 0; i < cells.length; i++) {
+            Arrays.fill(cells[i], null);
+            sizes[i] = 0;
+        }
+    }
+
+    /**
+     * Reconstruye la ocupación a partir de una lista de plantas.
+     *
+     * @param plants plantas activas, en orden de colocación
+     */
+    public void rebuild(List<Plant> plants) {
+        clear();
+        for (int i = 0, n = plants.size(); i < n; i++) {
+            add(plants.get(i));
+        }
+    }
+
+    /** Celda que corresponde a la posición de una planta. */
+    private static int cellOf(Plant plant) {
+        return cellIndex(Constants.getLane(plant.getY()), Constants.getColumn(plant.getX()));
+    }
+}
@@ -0,0 +1,49 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+/**
+ * Ejecutor de las etapas de un paso de simulación que se pueden
+ * repartir por línea o por tramos de un arreglo.
+ *
+ * <p>
+ * Los sistemas de la simulación solo dependen de esta interfaz, de
+ * modo que el núcleo compila también donde no hay hilos (GWT). La
+ * implementación con hilos vive en {@code gameProcess.headless}.
+ * </p>
+ *
+ * <p>
+ * Las tareas solo deben escribir datos de su propia línea o tramo;
+ * los efectos compartidos se aplican después, en un paso secuencial
+ * y en orden fijo, para que el resultado no dependa del ejecutor.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public interface LaneExecutor {
+
+    /** Trabajo sobre una línea del grid. */
+    interface LaneTask {
+        void run(int lane);
+    }
+
+    /** Trabajo sobre el tramo {@code [from, to)} de un arreglo. */
+    interface RangeTask {
+        void run(int from, int to);
+    }
+
+    /**
+     * Ejecuta una tarea por cada línea del grid y espera a que terminen.
+     *
+     * @param task trabajo de cada línea
+     */
+    void forEachLane(LaneTask task);
+
+    /**
+     * Divide {@code [0, size)} en tramos contiguos, los ejecuta y espera
+     * a que terminen.
+     *
+     * @param size número de elementos
+     * @param task trabajo de cada tramo
+     */
+    void forRange(int size, RangeTask task);
+}
@@ -0,0 +1,93 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+
+import java.util.List;
+
+/**
+ * Conteo incremental de plantas por tipo.
+ *
+ * <p>
+ * Se actualiza cada vez que una planta entra o sale del tablero
+ * (colocación, pala, muerte o reinicio), de modo que consultar
+ * cuántas plantas de un tipo hay es O(1) y no requiere recorrer
+ * la lista de plantas en cada frame.
+ * </p>
+ *
+ * <p>
+ * Lo usan el {@link WaterManager} para la regeneración de agua
+ * y puede reutilizarlo el HUD o cualquier planta con efectos pasivos.
+ * Toda alta o baja en la lista de plantas debe notificarse aquí.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class PlantCensus {
+
+    /** Número de plantas activas por clase concreta. */
+    private final ObjectIntMap<Class<? extends Plant>> counts = new ObjectIntMap<>();
+
+    /** Total de plantas activas. */
+    private int total = 0;
+
+    /**
+     * Registra una planta colocada en el tablero.
+     *
+     * @param plant planta agregada
+     */
+    public void onAdded(Plant plant) {
+        counts.getAndIncrement(plant.getClass(), 0, 1);
+        total++;
+    }
+
+    /**
+     * Registra una planta retirada del tablero.
+     *
+     * @param plant planta eliminada
+     */
+    public void onRemoved(Plant plant) {
+        counts.getAndIncrement(plant.getClass(), 0, -1);
+        total--;
+    }
+
+    /**
+     * Obtiene cuántas plantas de un tipo hay en el tablero.
+     *
+     * @param type clase concreta de la planta
+     * @return número de plantas activas de ese tipo
+     */
+    public int count(Class<? extends Plant> type) {
+        return counts.get(type, 0);
+    }
+
+    /**
+     * Obtiene el total de plantas en el tablero.
+     *
+     * @return número de plantas activas
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Reinicia el conteo (tablero vacío).
+     */
+    public void clear() {
+        counts.clear();
+        total = 0;
+    }
+
+    /**
+     * Recalcula el conteo a partir de una lista de plantas.
+     *
+     * @param plants plantas activas
+     */
+    public void rebuild(List<Plant> plants) {
+        clear();
+        for (int i = 0, n = plants.size(); i < n; i++) {
+            onAdded(plants.get(i));
+        }
+    }
+}
@@ -1,32 +1,31 @@
 package mx.poo.pvzproject.gameProcess.managers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.math.Vector3;
-import mx.poo.pvzproject.gameProcess.entities.plants.*;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.entities.plants.PlantSpec;
 import mx.poo.pvzproject.ui.screens.IGameContext;
 import mx.poo.pvzproject.gameProcess.entities.plants.properties.StonePlaceable;
+import mx.poo.pvzproject.gameProcess.entities.plants.properties.SupportsPlant;
+import mx.poo.pvzproject.gameProcess.entities.plants.properties.WaterPlaceable;
 import mx.poo.pvzproject.ui.utils.Constants;
 
-import java.util.ArrayList;
-
 /**
  * Gestiona la colocación de plantas en el tablero.
  *
  * <p>
- * Esta clase procesa la entrada táctil del jugador para determinar
- * en qué celda del tablero se desea colocar una planta y valida
- * si la acción es permitida según las reglas del juego.
+ * Esta clase recibe la celda elegida por el jugador (ya traducida
+ * desde la entrada por una {@link mx.poo.pvzproject.gameProcess.input.CommandSource})
+ * y valida si la acción es permitida según las reglas del juego.
  * </p>
  *
  * <p>
  * Responsabilidades principales:
  * </p>
  * <ul>
- *     <li>Detectar la celda seleccionada mediante coordenadas táctiles.</li>
  *     <li>Validar restricciones de terreno (agua, piedra o normal).</li>
  *     <li>Verificar costos de agua y tiempos de cooldown.</li>
- *     <li>Instanciar y colocar la planta correspondiente.</li>
+ *     <li>Instanciar y colocar la planta correspondiente mediante su {@link PlantSpec}.</li>
  *     <li>Permitir eliminar plantas mediante la pala.</li>
+ *     <li>Mantener actualizados el {@link PlantCensus} y el {@link GridModel}.</li>
  * </ul>
  *
  * <p>
@@ -52,43 +51,24 @@ public class PlantPlacer {
     }
 
     /**
-     * Procesa la entrada del jugador para colocar o eliminar plantas.
+     * Usa la carta seleccionada sobre una celda del grid para colocar
+     * o eliminar plantas.
      *
      * <p>
      * Flujo general:
      * </p>
      * <ol>
-     *     <li>Detectar celda seleccionada.</li>
      *     <li>Verificar restricciones del terreno.</li>
      *     <li>Validar recursos y cooldown.</li>
      *     <li>Instanciar la planta y actualizar estado.</li>
      * </ol>
+     *
+     * @param lane   línea de la celda
+     * @param column columna de la celda
      */
-    public void handleInput() {
-
-        if (!Gdx.input.justTouched()) return;
-
-        Vector3 touchPos = new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-        ctx.getRenderSystem().viewport.unproject(touchPos);
-
-        int lane = -1, column = -1;
-
-        // =============================
-        // Detección de celda seleccionada
-        // =============================
-
-        outer:
-        for (int l = 0; l < Constants.LANES; l++) {
-            for (int c = 0; c < Constants.COLUMNS; c++) {
-                if (Constants.isInCell(touchPos.x, touchPos.y, c, l)) {
-                    lane   = l;
-                    column = c;
-                    break outer;
-                }
-            }
-        }
+    public void place(int lane, int column) {
 
-        if (lane == -1 || column == -1) return;
+        if (lane < 0 || lane >= Constants.LANES || column < 0 || column >= Constants.COLUMNS) return;
 
         float plantX = Constants.getPlantX(column);
         float plantY = Constants.getPlantY(lane);
@@ -97,70 +77,28 @@ public class PlantPlacer {
         // Plantas existentes en celda
         // =============================
 
-        ArrayList<Plant> plantasEnCell = new ArrayList<>();
-        for (Plant p : ctx.getPlants()) {
-            if (Math.abs(p.getX() - plantX) < 50 &&
-                Math.abs(p.getY() - plantY) < 50) {
-                plantasEnCell.add(p);
-            }
-        }
+        GridModel grid = ctx.getManagers().grid;
+        int plantasEnCell = grid.size(lane, column);
 
-        boolean isWaterLane   = (Constants.CURRENT_LEVEL >= 4 && Constants.CURRENT_LEVEL <= 6)
-            && (lane == 0 || lane == 4);
+        boolean isWaterLane = Constants.isWaterLane(lane);
 
         boolean isStoneTerrain = (Constants.CURRENT_LEVEL >= 7);
 
-        Plant basePlant = plantasEnCell.isEmpty() ? null : plantasEnCell.get(0);
+        Plant basePlant = grid.base(lane, column);
 
         // =============================
         // Pala (eliminación)
         // =============================
 
-        if (ctx.getSelectedPlant() == 8) {
-            if (!plantasEnCell.isEmpty()) {
-                ctx.getPlants().remove(plantasEnCell.get(plantasEnCell.size() - 1));
+        if (ctx.getSelectedPlant() == Constants.SHOVEL_SLOT) {
+            if (plantasEnCell > 0) {
+                removePlant(grid.top(lane, column));
             }
             return;
         }
 
-        // =============================
-        // Nenúfar (LilyPad)
-        // =============================
-
-        if (ctx.getSelectedPlant() == 4) {
-
-            if (isWaterLane &&
-                plantasEnCell.isEmpty() &&
-                ctx.getManagers().waterManager.canAfford(2) &&
-                ctx.getCooldowns().getLilyPad() <= 0f) {
-
-                ctx.getManagers().waterManager.spendWater(2);
-                ctx.getPlants().add(new LilyPad(plantX, plantY));
-                ctx.getCooldowns().setLilyPad(3f);
-            }
-            return;
-        }
-
-        // =============================
-        // Maceta (terreno piedra)
-        // =============================
-
-        if (ctx.getSelectedPlant() == 5) {
-
-            if (isStoneTerrain && plantasEnCell.isEmpty()) {
-
-                Maceta tempMaceta = new Maceta(0, 0);
-
-                if (ctx.getManagers().waterManager.canAfford(tempMaceta.getCost()) &&
-                    ctx.getCooldowns().getMaceta() <= 0f) {
-
-                    ctx.getManagers().waterManager.spendWater(tempMaceta.getCost());
-                    ctx.getPlants().add(new Maceta(plantX, plantY));
-                    ctx.getCooldowns().setMaceta(tempMaceta.getCooldownTime());
-                }
-            }
-            return;
-        }
+        PlantSpec spec = PlantSpec.forSlot(ctx.getSelectedPlant());
+        if (spec == null) return;
 
         // =============================
         // Validación de terreno
@@ -168,73 +106,66 @@ public class PlantPlacer {
 
         boolean canPlace;
 
-        if (isWaterLane)
-            canPlace = (basePlant instanceof LilyPad) && plantasEnCell.size() == 1;
-        else if (isStoneTerrain)
-            canPlace = (basePlant instanceof StonePlaceable) && plantasEnCell.size() == 1;
-        else
-            canPlace = plantasEnCell.isEmpty();
+        switch (spec.getTerrain()) {
+            case WATER_SUPPORT:
+                canPlace = isWaterLane && plantasEnCell == 0;
+                break;
+            case STONE_SUPPORT:
+                canPlace = isStoneTerrain && plantasEnCell == 0;
+                break;
+            default:
+                if (isWaterLane)
+                    canPlace = (basePlant instanceof WaterPlaceable) && (basePlant instanceof SupportsPlant) && plantasEnCell == 1;
+                else if (isStoneTerrain)
+                    canPlace = (basePlant instanceof StonePlaceable) && plantasEnCell == 1;
+                else
+                    canPlace = plantasEnCell == 0;
+                break;
+        }
 
         if (!canPlace) return;
 
         // =============================
-        // Creación temporal para validación
+        // Recursos y cooldown (desde la ficha, sin plantas temporales)
         // =============================
 
-        Plant tempPlant = null;
-        float currentCooldown = 0f;
-
-        switch (ctx.getSelectedPlant()) {
-            case 0: tempPlant = new CornShooter(0, 0); currentCooldown = ctx.getCooldowns().getCorn();       break;
-            case 1: tempPlant = new Papa(0, 0);         currentCooldown = ctx.getCooldowns().getPapa();       break;
-            case 2: tempPlant = new WaterPlant(0, 0);   currentCooldown = ctx.getCooldowns().getWater();      break;
-            case 3: tempPlant = new RedBom(0, 0);       currentCooldown = ctx.getCooldowns().getRedBom();     break;
-            case 6: tempPlant = new Campanilla(0, 0);   currentCooldown = ctx.getCooldowns().getCampanilla(); break;
-            case 7: tempPlant = new Champi(0, 0);       currentCooldown = ctx.getCooldowns().getChampi();     break;
-            default: return;
-        }
-
-        float cooldownTime = tempPlant.getCooldownTime();
-        int   cost         = tempPlant.getCost();
-
-        if (!ctx.getManagers().waterManager.canAfford(cost) ||
-            currentCooldown > 0f) return;
+        if (!ctx.getManagers().waterManager.canAfford(spec.getCost()) ||
+            ctx.getCooldowns().get(spec) > 0f) return;
 
         // =============================
         // Colocación definitiva
         // =============================
 
-        ctx.getManagers().waterManager.spendWater(cost);
+        ctx.getManagers().waterManager.spendWater(spec.getCost());
 
-        if (plantasEnCell.size() > 1) {
-            ctx.getPlants().remove(plantasEnCell.get(plantasEnCell.size() - 1));
+        if (plantasEnCell > 1) {
+            removePlant(grid.top(lane, column));
         }
 
-        switch (ctx.getSelectedPlant()) {
-            case 0:
-                ctx.getPlants().add(new CornShooter(plantX, plantY));
-                ctx.getCooldowns().setCorn(cooldownTime);
-                break;
-            case 1:
-                ctx.getPlants().add(new Papa(plantX, plantY));
-                ctx.getCooldowns().setPapa(cooldownTime);
-                break;
-            case 2:
-                ctx.getPlants().add(new WaterPlant(plantX, plantY));
-                ctx.getCooldowns().setWater(cooldownTime);
-                break;
-            case 3:
-                ctx.getPlants().add(new RedBom(plantX, plantY));
-                ctx.getCooldowns().setRedBom(cooldownTime);
-                break;
-            case 6:
-                ctx.getPlants().add(new Campanilla(plantX, plantY));
-                ctx.getCooldowns().setCampanilla(cooldownTime);
-                break;
-            case 7:
-                ctx.getPlants().add(new Champi(plantX, plantY));
-                ctx.getCooldowns().setChampi(cooldownTime);
-                break;
+        addPlant(spec.create(plantX, plantY));
+        ctx.getCooldowns().set(spec, spec.getCooldown());
+    }
+
+    /**
+     * Agrega una planta al tablero y la registra en el censo y en el grid.
+     *
+     * @param plant planta colocada
+     */
+    private void addPlant(Plant plant) {
+        ctx.getPlants().add(plant);
+        ctx.getManagers().plantCensus.onAdded(plant);
+        ctx.getManagers().grid.add(plant);
+    }
+
+    /**
+     * Retira una planta del tablero, del censo y del grid.
+     *
+     * @param plant planta eliminada
+     */
+    private void removePlant(Plant plant) {
+        if (ctx.getPlants().remove(plant)) {
+            ctx.getManagers().plantCensus.onRemoved(plant);
+            ctx.getManagers().grid.remove(plant);
         }
     }
 }
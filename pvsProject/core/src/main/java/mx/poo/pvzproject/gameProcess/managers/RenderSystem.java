@@ -1,10 +1,12 @@
 package mx.poo.pvzproject.gameProcess.managers;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import mx.poo.pvzproject.ui.utils.Constants;
@@ -68,6 +70,14 @@ public class RenderSystem {
     /** Layout auxiliar para medir texto. */
     public final GlyphLayout layout;
 
+    /** Contador de llamadas GL; null si {@link Constants#PROFILE_GL} está apagado. */
+    private final GLProfiler profiler;
+
+    /** Acumulados desde el último registro del profiler. */
+    private int profiledFrames = 0;
+    private long textureBindings = 0L;
+    private long drawCalls = 0L;
+
     /**
      * Constructor del sistema de renderizado.
      *
@@ -94,6 +104,13 @@ public class RenderSystem {
 
         this.viewport.apply();
 
+        if (Constants.PROFILE_GL) {
+            this.profiler = new GLProfiler(Gdx.graphics);
+            this.profiler.enable();
+        } else {
+            this.profiler = null;
+        }
+
         this.camera.position.set(
             Constants.WORLD_WIDTH / 2f,
             Constants.WORLD_HEIGHT / 2f,
@@ -117,6 +134,33 @@ public class RenderSystem {
         shapeRenderer.setProjectionMatrix(camera.combined);
     }
 
+    /**
+     * Marca el inicio de un frame para el profiler GL.
+     */
+    public void beginFrame() {
+        if (profiler != null) profiler.reset();
+    }
+
+    /**
+     * Acumula las llamadas GL del frame y, cada
+     * {@link Constants#PROFILE_GL_FRAMES} frames, registra el promedio
+     * de cambios de textura y draw calls por frame.
+     */
+    public void endFrame() {
+        if (profiler == null) return;
+
+        textureBindings += profiler.getTextureBindings();
+        drawCalls += profiler.getDrawCalls();
+
+        if (++profiledFrames == Constants.PROFILE_GL_FRAMES) {
+            Gdx.app.log("GLProfiler", String.format("por frame: %.1f cambios de textura, %.1f draw calls",
+                textureBindings / (float) profiledFrames, drawCalls / (float) profiledFrames));
+            profiledFrames = 0;
+            textureBindings = 0L;
+            drawCalls = 0L;
+        }
+    }
+
     /**
      * Ajusta el viewport cuando cambia el tamaño de la ventana.
      *
@@ -135,6 +179,7 @@ public class RenderSystem {
      * </p>
      */
     public void dispose() {
+        if (profiler != null) profiler.disable();
         batch.dispose();
         shapeRenderer.dispose();
     }
@@ -1,5 +1,9 @@
 package mx.poo.pvzproject.gameProcess.managers;
 
+import mx.poo.pvzproject.gameProcess.input.CommandSource;
+import mx.poo.pvzproject.gameProcess.input.GdxCommandSource;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyStore;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
 import mx.poo.pvzproject.ui.screens.IGameContext;
 import mx.poo.pvzproject.gameProcess.spawn.LevelFactory;
 import mx.poo.pvzproject.gameProcess.spawn.SlimeSpawner;
@@ -36,7 +40,9 @@ import mx.poo.pvzproject.ui.utils.Constants;
  *     <li>{@link SlimeSpawner} – Genera enemigos según la oleada.</li>
  *     <li>{@link WaterManager} – Administra el recurso agua.</li>
  *     <li>{@link PlantPlacer} – Gestiona la colocación de plantas.</li>
- *     <li>{@link GameUpdater} – Ejecuta la lógica de actualización por frame.</li>
+ *     <li>{@link GameUpdater} – Ejecuta la lógica de actualización por paso de simulación.</li>
+ *     <li>{@link EnemyLaneIndex} – Índice de enemigos por carril para buscar objetivos.</li>
+ *     <li>{@link FixedStepClock} – Convierte el tiempo de cada frame en pasos fijos de simulación.</li>
  * </ul>
  *
  * <p>
@@ -57,12 +63,47 @@ public class SubBossManager {
     /** Administrador del recurso agua. */
     public final WaterManager waterManager;
 
+    /** Conteo por tipo de las plantas del tablero. */
+    public final PlantCensus plantCensus;
+
+    /** Ocupación de las celdas del grid. */
+    public final GridModel grid;
+
     /** Gestor de colocación de plantas. */
     public final PlantPlacer plantPlacer;
 
-    /** Encapsula la lógica de actualización por frame. */
+    /** Encapsula la lógica de actualización por paso de simulación. */
     public final GameUpdater gameUpdater;
 
+    /** Índice de enemigos por carril compartido por plantas y defensas. */
+    public final EnemyLaneIndex enemyIndex;
+
+    /** Almacén en arreglos paralelos del estado de los enemigos activos. */
+    public final EnemyStore enemyStore;
+
+    /** Reloj de paso fijo de la simulación. */
+    public final FixedStepClock clock;
+
+    /** Semilla con la que se construyó el nivel. */
+    public final long seed;
+
+    /** Contexto del juego. */
+    private final IGameContext ctx;
+
+    /**
+     * Constructor del contenedor de managers con entrada táctil.
+     *
+     * <p>
+     * Los comandos del jugador se obtienen de {@code Gdx.input}
+     * a través del viewport del {@link RenderSystem}.
+     * </p>
+     *
+     * @param ctx contexto del juego
+     */
+    public SubBossManager(IGameContext ctx) {
+        this(ctx, new GdxCommandSource(ctx.getRenderSystem().viewport));
+    }
+
     /**
      * Constructor del contenedor de managers.
      *
@@ -72,37 +113,86 @@ public class SubBossManager {
      * actual definido en {@link Constants}.
      * </p>
      *
-     * @param ctx contexto del juego
+     * @param ctx   contexto del juego
+     * @param input fuente de comandos del jugador
      */
-    public SubBossManager(IGameContext ctx) {
+    public SubBossManager(IGameContext ctx, CommandSource input) {
+
+        this.ctx = ctx;
+
+        this.seed = ctx.getSeed();
 
         this.waveManager = new WaveManager(
-            LevelFactory.getLevel(Constants.CURRENT_LEVEL)
+            LevelFactory.getLevel(Constants.CURRENT_LEVEL, seed)
         );
 
         this.spawner = new SlimeSpawner(waveManager);
 
-        this.waterManager = new WaterManager();
+        ProjectilePools.prewarm(waveManager.getLargestWaveSize());
+
+        // Cada partida empieza con el tablero vacío
+        this.plantCensus = new PlantCensus();
+        this.grid = new GridModel();
+
+        this.waterManager = new WaterManager(plantCensus);
 
         this.plantPlacer = new PlantPlacer(ctx);
 
-        this.gameUpdater = new GameUpdater(
-            ctx,
-            ctx.getRenderSystem().viewport
+        this.enemyIndex = new EnemyLaneIndex();
+
+        this.enemyStore = new EnemyStore();
+
+        this.clock = new FixedStepClock(
+            Constants.SIM_TICK_RATE,
+            Constants.MAX_SIM_STEPS_PER_FRAME
         );
+
+        this.gameUpdater = new GameUpdater(ctx, input);
     }
 
     /**
      * Ejecuta la actualización lógica del juego.
      *
      * <p>
-     * Delegación directa al {@link GameUpdater},
-     * manteniendo este manager como fachada simplificada.
+     * La entrada del jugador se procesa una vez por frame. Después, el
+     * tiempo del frame se convierte en pasos fijos mediante el
+     * {@link FixedStepClock} y cada paso se delega al {@link GameUpdater}.
+     * Si la partida termina en un paso, los restantes se omiten.
      * </p>
      *
      * @param delta tiempo transcurrido desde el último frame
      */
     public void update(float delta) {
-        gameUpdater.update(delta);
+        gameUpdater.handleInput();
+
+        int steps = clock.advance(delta);
+        for (int i = 0; i < steps && ctx.isGameActive(); i++) {
+            gameUpdater.update(clock.getStep());
+        }
+    }
+
+    /**
+     * Ejecuta exactamente un paso fijo de simulación, procesando antes
+     * la entrada pendiente.
+     *
+     * <p>
+     * Lo usa la simulación headless, que avanza paso a paso sin
+     * depender del tiempo real.
+     * </p>
+     */
+    public void step() {
+        gameUpdater.handleInput();
+        if (ctx.isGameActive()) {
+            gameUpdater.update(clock.getStep());
+        }
+    }
+
+    /**
+     * Factor de interpolación para el renderizado del frame actual.
+     *
+     * @return fracción entre 0 y 1 del siguiente paso de simulación
+     */
+    public float getInterpolationAlpha() {
+        return clock.getAlpha();
     }
 }
@@ -1,9 +1,11 @@
 package mx.poo.pvzproject.gameProcess.managers; // ajusta si tu package es diferente
 
-import java.util.ArrayList;
-import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
 import mx.poo.pvzproject.gameProcess.entities.plants.WaterPlant;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Gestiona el recurso de agua del jugador.
  *
@@ -27,7 +29,8 @@ import mx.poo.pvzproject.gameProcess.entities.plants.WaterPlant;
  * La regeneración ocurre en intervalos fijos definidos por
  * {@code WATER_REGEN_INTERVAL}. Cada planta de tipo
  * {@link WaterPlant} incrementa la velocidad de regeneración
- * en un 30%.
+ * en un 30%. El número de plantas se lee del {@link PlantCensus},
+ * sin recorrer la lista de plantas.
  * </p>
  *
  * <p>
@@ -53,6 +56,25 @@ public class WaterManager {
     /** Intervalo base (en segundos) para regenerar agua. */
     private final float WATER_REGEN_INTERVAL = 1f;
 
+    /** Conteo de plantas por tipo del tablero. */
+    private final PlantCensus census;
+
+    /**
+     * Constructor con un conteo de plantas propio (tablero vacío).
+     */
+    public WaterManager() {
+        this(new PlantCensus());
+    }
+
+    /**
+     * Constructor del gestor de agua.
+     *
+     * @param census conteo de plantas del tablero
+     */
+    public WaterManager(PlantCensus census) {
+        this.census = census;
+    }
+
     /**
      * Actualiza el sistema de regeneración de agua.
      *
@@ -61,18 +83,11 @@ public class WaterManager {
      * de plantas {@link WaterPlant} activas en el tablero.
      * </p>
      *
-     * @param delta  tiempo transcurrido desde el último frame
-     * @param plants lista actual de plantas en el juego
+     * @param delta tiempo transcurrido desde el último frame
      */
-    public void update(float delta, ArrayList<Plant> plants) {
+    public void update(float delta) {
 
-        int waterPlantCount = 0;
-
-        for (Plant p : plants) {
-            if (p instanceof WaterPlant) {
-                waterPlantCount++;
-            }
-        }
+        int waterPlantCount = census.count(WaterPlant.class);
 
         float waterRegenMultiplier = 1f + 0.3f * waterPlantCount;
 
@@ -112,4 +127,26 @@ public class WaterManager {
     public void spendWater(int cost) {
         currentWater -= cost;
     }
+
+    /**
+     * Escribe el agua disponible y el temporizador de regeneración.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeFloat(currentWater);
+        out.writeFloat(waterTimer);
+    }
+
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura
+     */
+    public void readState(DataInput in) throws IOException {
+        currentWater = in.readFloat();
+        waterTimer = in.readFloat();
+    }
 }
@@ -3,6 +3,9 @@ package mx.poo.pvzproject.gameProcess.managers;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
 import mx.poo.pvzproject.gameProcess.spawn.Wave;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 
 /**
@@ -108,6 +111,19 @@ public class WaveManager {
         return currentWaveIndex + 1;
     }
 
+    /**
+     * Obtiene la cantidad de enemigos de la oleada más grande del nivel.
+     *
+     * @return tamaño de la oleada más grande (0 si no hay oleadas)
+     */
+    public int getLargestWaveSize() {
+        int largest = 0;
+        for (Wave wave : waves) {
+            largest = Math.max(largest, wave.getTotalCount());
+        }
+        return largest;
+    }
+
     /**
      * Obtiene el total de oleadas del nivel.
      *
@@ -116,4 +132,36 @@ public class WaveManager {
     public int getTotalWaves() {
         return waves.size();
     }
+
+    /**
+     * Escribe la oleada actual y el progreso de cada oleada.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(waves.size());
+        out.writeInt(currentWaveIndex);
+        for (Wave wave : waves) {
+            wave.writeState(out);
+        }
+    }
+
+    /**
+     * Restaura el estado escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura o el nivel tiene otras oleadas
+     */
+    public void readState(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count != waves.size()) {
+            throw new IOException("El nivel tiene " + waves.size() + " oleadas, no " + count);
+        }
+        currentWaveIndex = in.readInt();
+        for (Wave wave : waves) {
+            wave.readState(in);
+        }
+        currentWave = currentWaveIndex < waves.size() ? waves.get(currentWaveIndex) : null;
+    }
 }
@@ -0,0 +1,124 @@
+package mx.poo.pvzproject.gameProcess.spawn;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyFactory;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.NormalSlime;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeColossus;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeRapido;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeTanque;
+
+/**
+ * Registro de los tipos de enemigo que pueden aparecer en una oleada.
+ *
+ * <p>
+ * Cada tipo asocia un identificador estable con la {@link EnemyFactory}
+ * que crea sus instancias. Las fábricas son referencias a constructores
+ * resueltas en compilación, por lo que generar un enemigo no requiere
+ * reflexión (compatible con GWT y GraalVM native-image).
+ * </p>
+ *
+ * <p>
+ * Cada tipo mantiene además su {@link EnemyPool}, del que las oleadas
+ * obtienen los enemigos para reutilizarlos.
+ * </p>
+ *
+ * <p>
+ * Para agregar un enemigo nuevo basta con declarar aquí su tipo.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public enum EnemyType {
+
+    /** Enemigo base. */
+    NORMAL(NormalSlime.class, NormalSlime::new),
+
+    /** Mayor resistencia. */
+    TANQUE(SlimeTanque.class, SlimeTanque::new),
+
+    /** Mayor velocidad. */
+    RAPIDO(SlimeRapido.class, SlimeRapido::new),
+
+    /** Mini-jefe de alto impacto. */
+    COLOSSUS(SlimeColossus.class, SlimeColossus::new);
+
+    /** Clase concreta del enemigo. */
+    private final Class<? extends Enemy> enemyClass;
+
+    /** Fábrica que crea las instancias. */
+    private final EnemyFactory factory;
+
+    /** Pool de instancias reutilizables. */
+    private final EnemyPool pool;
+
+    EnemyType(Class<? extends Enemy> enemyClass, EnemyFactory factory) {
+        this.enemyClass = enemyClass;
+        this.factory = factory;
+        this.pool = new EnemyPool(factory);
+    }
+
+    /**
+     * Crea un enemigo de este tipo.
+     *
+     * @param x posición inicial en X
+     * @param y posición inicial en Y
+     * @return nueva instancia del enemigo
+     */
+    public Enemy create(float x, float y) {
+        return factory.create(x, y);
+    }
+
+    /**
+     * Obtiene un enemigo de este tipo desde su pool.
+     *
+     * @param x posición inicial en X
+     * @param y posición inicial en Y
+     * @return enemigo reiniciado, nuevo o reutilizado
+     */
+    public Enemy obtain(float x, float y) {
+        return pool.obtain(x, y);
+    }
+
+    /**
+     * Obtiene el pool de este tipo.
+     *
+     * @return pool de enemigos
+     */
+    public EnemyPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Obtiene la fábrica asociada a este tipo.
+     *
+     * @return fábrica del enemigo
+     */
+    public EnemyFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Obtiene la clase concreta del enemigo.
+     *
+     * @return clase del enemigo
+     */
+    public Class<? extends Enemy> getEnemyClass() {
+        return enemyClass;
+    }
+
+    /**
+     * Busca el tipo registrado para una clase de enemigo.
+     *
+     * @param enemyClass clase del enemigo
+     * @return tipo correspondiente
+     * @throws IllegalArgumentException si la clase no está registrada
+     */
+    public static EnemyType of(Class<? extends Enemy> enemyClass) {
+        for (EnemyType type : values()) {
+            if (type.enemyClass == enemyClass) return type;
+        }
+        throw new IllegalArgumentException("Enemigo no registrado: " + enemyClass.getName());
+    }
+}
@@ -1,10 +1,5 @@
 package mx.poo.pvzproject.gameProcess.spawn;
 
-import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.NormalSlime;
-import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeColossus;
-import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeRapido;
-import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeTanque;
-
 import java.util.ArrayList;
 
 /**
@@ -27,17 +22,17 @@ import java.util.ArrayList;
  * gradualmente nuevos tipos de enemigos:
  * </p>
  * <ul>
- *     <li>{@link NormalSlime} – Enemigo base.</li>
- *     <li>{@link SlimeTanque} – Mayor resistencia.</li>
- *     <li>{@link SlimeRapido} – Mayor velocidad.</li>
- *     <li>{@link SlimeColossus} – Mini-jefe de alto impacto.</li>
+ *     <li>{@link EnemyType#NORMAL} – Enemigo base.</li>
+ *     <li>{@link EnemyType#TANQUE} – Mayor resistencia.</li>
+ *     <li>{@link EnemyType#RAPIDO} – Mayor velocidad.</li>
+ *     <li>{@link EnemyType#COLOSSUS} – Mini-jefe de alto impacto.</li>
  * </ul>
  *
  * <p>
  * La configuración de cada oleada define:
  * </p>
  * <ul>
- *     <li>Tipo de enemigo.</li>
+ *     <li>Tipo de enemigo ({@link EnemyType}).</li>
  *     <li>Cantidad total.</li>
  *     <li>Intervalo de aparición (spawn delay).</li>
  * </ul>
@@ -64,7 +59,25 @@ public class LevelFactory {
      * @return lista ordenada de oleadas para ese nivel
      */
     public static ArrayList<Wave> getLevel(int level) {
+        return getLevel(level, SeededRandom.randomSeed());
+    }
+
+    /**
+     * Construye un nivel reproducible.
+     *
+     * <p>
+     * Cada {@link Wave} recibe un generador derivado de la semilla, en
+     * orden de construcción: la misma semilla produce siempre la misma
+     * secuencia de carriles.
+     * </p>
+     *
+     * @param level número del nivel solicitado
+     * @param seed  semilla de la partida
+     * @return lista ordenada de oleadas para ese nivel
+     */
+    public static ArrayList<Wave> getLevel(int level, long seed) {
 
+        SeededRandom rng = new SeededRandom(seed);
         ArrayList<Wave> waves = new ArrayList<>();
 
         // ─────────────────────────────────────────────────────────────
@@ -72,124 +85,124 @@ public class LevelFactory {
         // ─────────────────────────────────────────────────────────────
 
         if (level == 1) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 8, 5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 8, 5f));
 
-            waves.add(new Wave()
-                .add(NormalSlime.class, 12, 4f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 12, 4f));
         }
 
         else if (level == 2) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 15, 3.5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 15, 3.5f));
 
-            waves.add(new Wave()
-                .add(NormalSlime.class, 12, 3f)
-                .add(SlimeTanque.class, 2, 10f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 12, 3f)
+                .add(EnemyType.TANQUE, 2, 10f));
         }
 
         else if (level == 3) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 18, 3f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 18, 3f));
 
-            waves.add(new Wave()
-                .add(SlimeTanque.class, 4, 7f)
-                .add(NormalSlime.class, 15, 2.5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.TANQUE, 4, 7f)
+                .add(EnemyType.NORMAL, 15, 2.5f));
         }
 
         else if (level == 4) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 20, 2.5f)
-                .add(SlimeTanque.class, 4, 7f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 20, 2.5f)
+                .add(EnemyType.TANQUE, 4, 7f));
 
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 3, 10f)
-                .add(NormalSlime.class, 10, 3f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 3, 10f)
+                .add(EnemyType.NORMAL, 10, 3f));
         }
 
         else if (level == 5) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 25, 2.2f)
-                .add(SlimeTanque.class, 5, 6f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 25, 2.2f)
+                .add(EnemyType.TANQUE, 5, 6f));
 
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 5, 7f)
-                .add(NormalSlime.class, 15, 2.5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 5, 7f)
+                .add(EnemyType.NORMAL, 15, 2.5f));
         }
 
         else if (level == 6) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 30, 2f)
-                .add(SlimeTanque.class, 7, 5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 30, 2f)
+                .add(EnemyType.TANQUE, 7, 5f));
 
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 7, 6f)
-                .add(NormalSlime.class, 15, 2f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 7, 6f)
+                .add(EnemyType.NORMAL, 15, 2f));
         }
 
         else if (level == 7) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 20, 2f)
-                .add(SlimeTanque.class, 5, 5f));
-
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 6, 5f)
-                .add(NormalSlime.class, 15, 2f));
-
-            waves.add(new Wave()
-                .add(NormalSlime.class, 20, 1.8f)
-                .add(SlimeTanque.class, 8, 4f)
-                .add(SlimeRapido.class, 4, 6f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 20, 2f)
+                .add(EnemyType.TANQUE, 5, 5f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 6, 5f)
+                .add(EnemyType.NORMAL, 15, 2f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 20, 1.8f)
+                .add(EnemyType.TANQUE, 8, 4f)
+                .add(EnemyType.RAPIDO, 4, 6f));
         }
 
         else if (level == 8) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 25, 1.8f)
-                .add(SlimeTanque.class, 6, 4.5f));
-
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 8, 4.5f)
-                .add(NormalSlime.class, 18, 1.8f));
-
-            waves.add(new Wave()
-                .add(NormalSlime.class, 25, 1.6f)
-                .add(SlimeTanque.class, 10, 3.5f)
-                .add(SlimeRapido.class, 6, 5f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 25, 1.8f)
+                .add(EnemyType.TANQUE, 6, 4.5f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 8, 4.5f)
+                .add(EnemyType.NORMAL, 18, 1.8f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 25, 1.6f)
+                .add(EnemyType.TANQUE, 10, 3.5f)
+                .add(EnemyType.RAPIDO, 6, 5f));
         }
 
         else if (level == 9) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 30, 1.7f)
-                .add(SlimeTanque.class, 8, 4f));
-
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 10, 4f)
-                .add(NormalSlime.class, 20, 1.7f));
-
-            waves.add(new Wave()
-                .add(NormalSlime.class, 30, 1.5f)
-                .add(SlimeTanque.class, 12, 3f)
-                .add(SlimeRapido.class, 8, 4f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 30, 1.7f)
+                .add(EnemyType.TANQUE, 8, 4f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 10, 4f)
+                .add(EnemyType.NORMAL, 20, 1.7f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 30, 1.5f)
+                .add(EnemyType.TANQUE, 12, 3f)
+                .add(EnemyType.RAPIDO, 8, 4f));
         }
 
         else if (level == 10) {
-            waves.add(new Wave()
-                .add(NormalSlime.class, 30, 1.8f)
-                .add(SlimeTanque.class, 8, 4f));
-
-            waves.add(new Wave()
-                .add(SlimeRapido.class, 10, 3.5f)
-                .add(NormalSlime.class, 20, 1.8f));
-
-            waves.add(new Wave()
-                .add(SlimeColossus.class, 1, 20f)
-                .add(NormalSlime.class, 20, 1.8f)
-                .add(SlimeTanque.class, 6, 4f));
-
-            waves.add(new Wave()
-                .add(SlimeColossus.class, 2, 15f)
-                .add(SlimeRapido.class, 8, 4f)
-                .add(NormalSlime.class, 15, 2f));
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.NORMAL, 30, 1.8f)
+                .add(EnemyType.TANQUE, 8, 4f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.RAPIDO, 10, 3.5f)
+                .add(EnemyType.NORMAL, 20, 1.8f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.COLOSSUS, 1, 20f)
+                .add(EnemyType.NORMAL, 20, 1.8f)
+                .add(EnemyType.TANQUE, 6, 4f));
+
+            waves.add(new Wave(rng.split())
+                .add(EnemyType.COLOSSUS, 2, 15f)
+                .add(EnemyType.RAPIDO, 8, 4f)
+                .add(EnemyType.NORMAL, 15, 2f));
         }
 
         return waves;
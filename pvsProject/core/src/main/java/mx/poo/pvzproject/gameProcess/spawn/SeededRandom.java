@@ -0,0 +1,141 @@
+package mx.poo.pvzproject.gameProcess.spawn;
+
+/**
+ * Generador pseudoaleatorio con semilla explícita y divisible (SplitMix64).
+ *
+ * <p>
+ * A diferencia de {@link java.util.Random} sin semilla, la misma semilla
+ * produce siempre la misma secuencia, en cualquier plataforma. Esto hace
+ * reproducibles las partidas, las simulaciones headless y las mediciones
+ * de rendimiento.
+ * </p>
+ *
+ * <p>
+ * {@link #split()} deriva un generador independiente a partir del actual.
+ * El nivel crea un generador raíz con la semilla de la partida y entrega
+ * uno derivado a cada {@link Wave}, en el orden en que se construyen;
+ * así cada oleada tiene su propia secuencia y agregar consultas en una
+ * no altera las demás.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class SeededRandom {
+
+    /** Incremento de Weyl de SplitMix64 (parte fraccionaria de la razón áurea). */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /** Semilla con la que se creó el generador. */
+    private final long seed;
+
+    /** Estado interno. */
+    private long state;
+
+    /**
+     * Crea un generador con la semilla indicada.
+     *
+     * @param seed semilla inicial
+     */
+    public SeededRandom(long seed) {
+        this.seed = seed;
+        this.state = seed;
+    }
+
+    /**
+     * Genera una semilla nueva a partir del reloj del sistema.
+     *
+     * <p>
+     * Se usa cuando no se pide una partida reproducible; la semilla
+     * resultante se guarda en la sesión para poder repetirla.
+     * </p>
+     *
+     * @return semilla no determinista
+     */
+    public static long randomSeed() {
+        return mix64(System.nanoTime()) ^ mix64(System.currentTimeMillis() + GOLDEN_GAMMA);
+    }
+
+    /**
+     * Siguiente valor de 64 bits.
+     *
+     * @return valor pseudoaleatorio
+     */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * Entero uniforme en {@code [0, bound)}.
+     *
+     * <p>
+     * Usa multiplicación y desplazamiento en lugar de módulo; el sesgo
+     * es despreciable para los rangos pequeños del juego.
+     * </p>
+     *
+     * @param bound límite superior (exclusivo), mayor que cero
+     * @return entero pseudoaleatorio
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound debe ser positivo: " + bound);
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Flotante uniforme en {@code [0, 1)}.
+     *
+     * @return flotante pseudoaleatorio
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * Deriva un generador independiente y avanza este.
+     *
+     * @return nuevo generador con semilla tomada de esta secuencia
+     */
+    public SeededRandom split() {
+        return new SeededRandom(nextLong());
+    }
+
+    /**
+     * Semilla con la que se creó el generador.
+     *
+     * @return semilla inicial
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Estado interno actual.
+     *
+     * <p>
+     * Junto con {@link #setState(long)} permite guardar el punto exacto
+     * de la secuencia en una instantánea y continuarla después.
+     * </p>
+     *
+     * @return estado del generador
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Restaura un estado obtenido con {@link #getState()}.
+     *
+     * @param state estado del generador
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /** Función de mezcla de SplitMix64. */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,10 +1,13 @@
 package mx.poo.pvzproject.gameProcess.spawn;
 
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
 import mx.poo.pvzproject.ui.utils.Constants;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * Representa una oleada de enemigos dentro de un nivel.
@@ -29,8 +32,9 @@ import java.util.Random;
  * </ul>
  *
  * <p>
- * La creación de enemigos se realiza mediante reflexión,
- * invocando un constructor con parámetros (x, y).
+ * Los enemigos se obtienen del {@link EnemyPool} de cada
+ * {@link EnemyType}, resuelto al construir el nivel, por lo que
+ * no se usa reflexión y se reutilizan instancias durante la partida.
  * </p>
  *
  * <p>
@@ -49,8 +53,8 @@ public class Wave {
      */
     private static class SpawnInfo {
 
-        /** Tipo de enemigo a generar. */
-        Class<? extends Enemy> type;
+        /** Pool del enemigo a generar. */
+        final EnemyPool pool;
 
         /** Cantidad total a generar. */
         int count;
@@ -67,12 +71,12 @@ public class Wave {
         /**
          * Constructor de la configuración de spawn.
          *
-         * @param type     clase del enemigo
+         * @param pool     pool del enemigo
          * @param count    cantidad total a generar
          * @param interval intervalo entre apariciones
          */
-        SpawnInfo(Class<? extends Enemy> type, int count, float interval) {
-            this.type = type;
+        SpawnInfo(EnemyPool pool, int count, float interval) {
+            this.pool = pool;
             this.count = count;
             this.interval = interval;
         }
@@ -81,20 +85,60 @@ public class Wave {
     /** Lista de configuraciones de spawn para la oleada. */
     private final ArrayList<SpawnInfo> spawns = new ArrayList<>();
 
-    /** Generador de números aleatorios para seleccionar carriles. */
-    private final Random random = new Random();
+    /** Generador con semilla para seleccionar carriles. */
+    private final SeededRandom random;
+
+    /**
+     * Crea una oleada con una semilla no determinista.
+     */
+    public Wave() {
+        this(new SeededRandom(SeededRandom.randomSeed()));
+    }
+
+    /**
+     * Crea una oleada que elige carriles con el generador indicado.
+     *
+     * <p>
+     * Con el mismo generador (misma semilla) la oleada produce
+     * siempre la misma secuencia de carriles.
+     * </p>
+     *
+     * @param random generador de carriles
+     */
+    public Wave(SeededRandom random) {
+        this.random = random;
+    }
 
     /**
      * Agrega un grupo de enemigos a la oleada.
      *
+     * @param type     tipo de enemigo
+     * @param count    cantidad total a generar
+     * @param interval intervalo entre apariciones
+     * @return instancia actual de la oleada (permite encadenamiento)
+     */
+    public Wave add(EnemyType type, int count, float interval) {
+        spawns.add(new SpawnInfo(type.getPool(), count, interval));
+        return this;
+    }
+
+    /**
+     * Agrega un grupo de enemigos a partir de su clase.
+     *
+     * <p>
+     * La clase se resuelve a su {@link EnemyType} en este momento,
+     * por lo que una clase no registrada falla al construir el nivel
+     * y no durante la partida.
+     * </p>
+     *
      * @param enemy    clase del enemigo
      * @param count    cantidad total a generar
      * @param interval intervalo entre apariciones
      * @return instancia actual de la oleada (permite encadenamiento)
+     * @throws IllegalArgumentException si la clase no está registrada
      */
     public Wave add(Class<? extends Enemy> enemy, int count, float interval) {
-        spawns.add(new SpawnInfo(enemy, count, interval));
-        return this;
+        return add(EnemyType.of(enemy), count, interval);
     }
 
     /**
@@ -125,22 +169,25 @@ public class Wave {
                 float x = 1280f + 100f;
                 float y = Constants.getPlantY(lane);
 
-                try {
-                    enemies.add(
-                        s.type
-                            .getConstructor(float.class, float.class)
-                            .newInstance(x, y)
-                    );
-
-                    s.spawned++;
-
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+                enemies.add(s.pool.obtain(x, y));
+                s.spawned++;
             }
         }
     }
 
+    /**
+     * Obtiene la cantidad total de enemigos configurados en la oleada.
+     *
+     * @return suma de las cantidades de todos los grupos
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (SpawnInfo s : spawns) {
+            total += s.count;
+        }
+        return total;
+    }
+
     /**
      * Indica si la oleada ya terminó de generar todos
      * los enemigos configurados.
@@ -157,4 +204,43 @@ public class Wave {
 
         return true;
     }
+
+    /**
+     * Escribe el progreso de la oleada para una instantánea.
+     *
+     * <p>
+     * Guarda lo generado y el temporizador de cada grupo, y el estado
+     * del generador de carriles. La composición de la oleada no se
+     * guarda: la reconstruye el nivel.
+     * </p>
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(spawns.size());
+        for (SpawnInfo s : spawns) {
+            out.writeInt(s.spawned);
+            out.writeFloat(s.timer);
+        }
+        out.writeLong(random.getState());
+    }
+
+    /**
+     * Restaura el progreso escrito por {@link #writeState(DataOutput)}.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura o la oleada tiene otra composición
+     */
+    public void readState(DataInput in) throws IOException {
+        int groups = in.readInt();
+        if (groups != spawns.size()) {
+            throw new IOException("La oleada tiene " + spawns.size() + " grupos, no " + groups);
+        }
+        for (SpawnInfo s : spawns) {
+            s.spawned = in.readInt();
+            s.timer = in.readFloat();
+        }
+        random.setState(in.readLong());
+    }
 }
@@ -2,9 +2,12 @@ package mx.poo.pvzproject.ui.render;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import mx.poo.pvzproject.gameProcess.entities.plants.PlantSpec;
 import mx.poo.pvzproject.ui.screens.IGameContext;
 import mx.poo.pvzproject.ui.utils.Assets;
 import mx.poo.pvzproject.ui.utils.Constants;
+import mx.poo.pvzproject.ui.utils.Cooldowns;
 
 /**
  * Renderizador de tarjetas de selección de plantas.
@@ -63,26 +66,25 @@ public class CardRenderer {
      */
     protected void render(SpriteBatch batch) {
 
+        int selected = ctx.getSelectedPlant();
+
         // Renderizado base de cartas
-        renderCard(batch, Assets.cardCornShooter, Constants.CARD_X1, ctx.getSelectedPlant() == 0);
-        renderCard(batch, Assets.cardPapa,        Constants.CARD_X2, ctx.getSelectedPlant() == 1);
-        renderCard(batch, Assets.cardWaterPlant,  Constants.CARD_X3, ctx.getSelectedPlant() == 2);
-        renderCard(batch, Assets.cardRedBom,      Constants.CARD_X4, ctx.getSelectedPlant() == 3);
-        renderCard(batch, Assets.cardLilyPad,     Constants.CARD_X5, ctx.getSelectedPlant() == 4);
-        renderCard(batch, Assets.cardMaceta,      Constants.CARD_X6, ctx.getSelectedPlant() == 5);
-        renderCard(batch, Assets.cardCampanilla,  Constants.CARD_X7, ctx.getSelectedPlant() == 6);
-        renderCard(batch, Assets.cardChampi,      Constants.CARD_X8, ctx.getSelectedPlant() == 7);
-        renderCard(batch, Assets.cardShovel,      Constants.CARD_X9, ctx.getSelectedPlant() == 8);
-
-        // Superposición de cooldown
-        renderCooldown(batch, Assets.cardCornShooter, Constants.CARD_X1, ctx.getCooldowns().getCorn());
-        renderCooldown(batch, Assets.cardPapa,        Constants.CARD_X2, ctx.getCooldowns().getPapa());
-        renderCooldown(batch, Assets.cardWaterPlant,  Constants.CARD_X3, ctx.getCooldowns().getWater());
-        renderCooldown(batch, Assets.cardRedBom,      Constants.CARD_X4, ctx.getCooldowns().getRedBom());
-        renderCooldown(batch, Assets.cardLilyPad,     Constants.CARD_X5, ctx.getCooldowns().getLilyPad());
-        renderCooldown(batch, Assets.cardMaceta,      Constants.CARD_X6, ctx.getCooldowns().getMaceta());
-        renderCooldown(batch, Assets.cardCampanilla,  Constants.CARD_X7, ctx.getCooldowns().getCampanilla());
-        renderCooldown(batch, Assets.cardChampi,      Constants.CARD_X8, ctx.getCooldowns().getChampi());
+        for (int slot = 0; slot < PlantSpec.count(); slot++) {
+            PlantSpec spec = PlantSpec.forSlot(slot);
+            renderCard(batch, spec.getCardTexture(), Constants.CARD_XS[slot], selected == slot);
+        }
+        renderCard(batch, Assets.cardShovel, Constants.CARD_XS[Constants.SHOVEL_SLOT],
+            selected == Constants.SHOVEL_SLOT);
+
+        // Superposición de cooldown (solo cartas en recarga)
+        Cooldowns cooldowns = ctx.getCooldowns();
+        if (cooldowns.allReady()) return;
+
+        for (int slot = 0; slot < PlantSpec.count(); slot++) {
+            if (cooldowns.isReady(slot)) continue;
+            PlantSpec spec = PlantSpec.forSlot(slot);
+            renderCooldown(batch, spec.getCardTexture(), Constants.CARD_XS[slot], cooldowns.get(slot));
+        }
     }
 
     /**
@@ -94,12 +96,12 @@ public class CardRenderer {
      * </p>
      *
      * @param batch    SpriteBatch activo
-     * @param tex      textura de la carta
+     * @param tex      región de la carta
      * @param cardX    posición horizontal base
      * @param selected indica si está seleccionada
      */
     private void renderCard(SpriteBatch batch,
-                            com.badlogic.gdx.graphics.Texture tex,
+                            TextureRegion tex,
                             float cardX,
                             boolean selected) {
 
@@ -125,12 +127,12 @@ public class CardRenderer {
      * </ul>
      *
      * @param batch     SpriteBatch activo
-     * @param tex       textura de la carta
+     * @param tex       región de la carta
      * @param cardX     posición horizontal base
      * @param cooldown  tiempo restante del enfriamiento
      */
     private void renderCooldown(SpriteBatch batch,
-                                com.badlogic.gdx.graphics.Texture tex,
+                                TextureRegion tex,
                                 float cardX,
                                 float cooldown) {
 
@@ -75,6 +75,9 @@ public class GameRenderer {
      */
     public void render() {
 
+        // Fracción del siguiente paso para interpolar posiciones
+        float alpha = ctx.getManagers().getInterpolationAlpha();
+
         batch.begin();
 
         // Fondo según nivel
@@ -103,11 +106,13 @@ public class GameRenderer {
 
         // Proyectiles
         for (Projectile p : ctx.getProjectiles()) {
+            p.interpolate(alpha);
             p.draw(batch);
         }
 
         // Enemigos
         for (Enemy e : ctx.getEnemies()) {
+            e.interpolate(alpha);
             e.draw(batch);
         }
 
@@ -120,6 +125,7 @@ public class GameRenderer {
 
         // Olas de jabón
         for (SoapWave wave : ctx.getSoapWaves()) {
+            wave.interpolate(alpha);
             wave.draw(batch);
         }
 
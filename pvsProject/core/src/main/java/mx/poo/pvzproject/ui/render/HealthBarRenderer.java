@@ -84,7 +84,7 @@ public class HealthBarRenderer {
         for (Enemy e : ctx.getEnemies()) {
             float percent = (float) e.getHealth() / e.getMaxHealth();
 
-            float barSlimeX = e.getX() - 60f;
+            float barSlimeX = e.getRenderX() - 60f;
             float barSlimeY = e.getY() + 60f;
 
             batch.draw(Assets.emptyBar,   barSlimeX,       barSlimeY, 120f,           12f);
@@ -1,9 +1,9 @@
 package mx.poo.pvzproject.ui.render;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import mx.poo.pvzproject.ui.screens.IGameContext;
+import mx.poo.pvzproject.ui.utils.Assets;
 
 /**
  * Renderizador de la barra de agua del juego.
@@ -39,7 +39,7 @@ public class WaterBarRenderer {
     private final IGameContext ctx;
 
     /** Arreglo de texturas que representan los distintos niveles de agua. */
-    private final Texture[] frames = new Texture[10];
+    private final Texture[] frames;
 
     /** Posición horizontal de la barra. */
     private static final float X = 0f;
@@ -60,20 +60,15 @@ public class WaterBarRenderer {
      * Constructor del renderizador de barra de agua.
      *
      * <p>
-     * Carga los 10 frames gráficos que representan
-     * los distintos niveles del recurso.
+     * Usa los 10 frames gráficos que representan los distintos
+     * niveles del recurso, cargados por {@link Assets}.
      * </p>
      *
      * @param ctx contexto del juego
      */
     protected WaterBarRenderer(IGameContext ctx) {
         this.ctx = ctx;
-
-        for (int i = 1; i <= 10; i++) {
-            frames[i - 1] = new Texture(
-                Gdx.files.internal("ui/waterBar/WaterBar(" + i + ").png")
-            );
-        }
+        this.frames = Assets.waterBarFrames;
     }
 
     /**
@@ -98,13 +93,9 @@ public class WaterBarRenderer {
     }
 
     /**
-     * Libera las texturas utilizadas por la barra de agua.
-     * Debe llamarse al cerrar la pantalla o finalizar el juego
-     * para evitar fugas de memoria.
+     * Libera los recursos de la barra de agua. Los frames pertenecen
+     * a {@link Assets} y se liberan con el resto de los recursos.
      */
     protected void dispose() {
-        for (Texture frame : frames) {
-            frame.dispose();
-        }
     }
 }
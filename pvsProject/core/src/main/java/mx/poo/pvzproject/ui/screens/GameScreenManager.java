@@ -2,21 +2,33 @@ package mx.poo.pvzproject.ui.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 import mx.poo.pvzproject.MainGame;
 import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
 import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
 import mx.poo.pvzproject.gameProcess.entities.soap.SoapDefense;
 import mx.poo.pvzproject.gameProcess.entities.soap.SoapWave;
+import mx.poo.pvzproject.gameProcess.input.CommandLog;
 import mx.poo.pvzproject.gameProcess.managers.RenderSystem;
 import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.ProjectilePools;
 import mx.poo.pvzproject.gameProcess.managers.SubBossManager;
+import mx.poo.pvzproject.gameProcess.spawn.SeededRandom;
 import mx.poo.pvzproject.ui.render.GameRendererManager;
 import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.BackgroundMusic;
 import mx.poo.pvzproject.ui.utils.Constants;
 import mx.poo.pvzproject.ui.utils.Cooldowns;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Pantalla principal donde se ejecuta la lógica del juego.
@@ -85,6 +97,21 @@ public class GameScreenManager implements Screen, IGameContext {
     /** Sistema de cooldowns del juego. */
     private final Cooldowns cd = new Cooldowns();
 
+    /** Semilla de la partida actual. */
+    private long seed;
+
+    /** Si es true, las partidas reutilizan la semilla fijada con {@link #setSeed(long)}. */
+    private boolean fixedSeed = false;
+
+    /** Carpeta local donde se guardan los registros de comandos. */
+    private static final String REPLAY_DIR = "replays/";
+
+    /** Extensión de los registros de comandos. */
+    private static final String REPLAY_SUFFIX = ".pvzlog";
+
+    /** Comandos de la partida actual. */
+    private CommandLog commandLog;
+
     /** Lista de plantas activas. */
     private final ArrayList<Plant> plants = new ArrayList<>();
 
@@ -107,6 +134,13 @@ public class GameScreenManager implements Screen, IGameContext {
      */
     public GameScreenManager(MainGame game) {
         this.game = game;
+        if (Constants.FIXED_SEED != null) {
+            try {
+                setSeed(Long.parseLong(Constants.FIXED_SEED));
+            } catch (NumberFormatException e) {
+                Gdx.app.error("GameScreenManager", "Semilla inválida en pvz.seed: " + Constants.FIXED_SEED);
+            }
+        }
     }
 
     /**
@@ -123,7 +157,9 @@ public class GameScreenManager implements Screen, IGameContext {
      */
     @Override
     public void show() {
+        if (!fixedSeed) seed = SeededRandom.randomSeed();
         managers = new SubBossManager(this);
+        startCommandLog();
         renderers = new GameRendererManager(
             this,
             game.renderSystem.batch,
@@ -136,7 +172,7 @@ public class GameScreenManager implements Screen, IGameContext {
             soapDefenses.add(new SoapDefense(soapX, Constants.getPlantY(i), i));
         }
 
-        updateBackgroundMusic();
+        updateBackgroundMusic(null);
     }
 
     /**
@@ -149,14 +185,17 @@ public class GameScreenManager implements Screen, IGameContext {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         game.renderSystem.updateCamera();
+        game.renderSystem.beginFrame();
 
         if (gameActive) {
             managers.update(delta);
         }
 
         renderers.renderGame();
+        game.renderSystem.endFrame();
 
         if (!gameActive) {
+            if (victory) prefetchNextLevel();
             renderers.renderGameOver(victory);
 
             if (gameOverJustTriggered) {
@@ -187,17 +226,75 @@ public class GameScreenManager implements Screen, IGameContext {
      */
     @Override
     public void dispose() {
+        saveCommandLog();
         if (renderers != null) {
             renderers.dispose();
         }
     }
 
+    // =============================
+    // Registro de comandos
+    // =============================
+
+    /**
+     * Empieza a grabar los comandos de la partida recién creada.
+     */
+    private void startCommandLog() {
+        commandLog = new CommandLog(Constants.CURRENT_LEVEL, seed);
+        managers.gameUpdater.setRecorder(commandLog);
+    }
+
+    /**
+     * Guarda los comandos de la partida en
+     * {@code replays/nivel-N-<semilla>-<milisegundos>.pvzlog} para poder
+     * reproducirla con {@link mx.poo.pvzproject.gameProcess.headless.ReplayDriver}.
+     *
+     * <p>
+     * Cada intento queda en su propio archivo, así que reintentar un
+     * nivel no pisa el registro de una partida anterior. Solo se
+     * conservan los {@link Constants#REPLAY_KEEP} más recientes.
+     * Si la plataforma no permite escribir archivos locales, el registro
+     * se descarta sin interrumpir el juego.
+     * </p>
+     */
+    private void saveCommandLog() {
+        if (commandLog == null || commandLog.size() == 0) return;
+
+        String name = "nivel-" + commandLog.getLevel()
+            + "-" + Long.toHexString(commandLog.getSeed())
+            + "-" + TimeUtils.millis() + REPLAY_SUFFIX;
+        FileHandle file = Gdx.files.local(REPLAY_DIR + name);
+        try (OutputStream out = file.write(false)) {
+            commandLog.write(out);
+            pruneCommandLogs();
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("GameScreenManager", "No se pudo guardar el registro de comandos", e);
+        }
+        commandLog = null;
+    }
+
+    /**
+     * Borra los registros más viejos hasta dejar {@link Constants#REPLAY_KEEP}.
+     */
+    private void pruneCommandLogs() {
+        FileHandle[] logs = Gdx.files.local(REPLAY_DIR).list(REPLAY_SUFFIX);
+        if (logs.length <= Constants.REPLAY_KEEP) return;
+
+        Arrays.sort(logs, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (int i = 0; i < logs.length - Constants.REPLAY_KEEP; i++) {
+            logs[i].delete();
+        }
+    }
+
     /**
      * Avanza al siguiente nivel del juego.
      *
      * <p>
      * Incrementa el nivel actual si no se ha alcanzado el máximo,
-     * actualiza la música y reinicia el estado del juego.
+     * carga el grupo de recursos del nuevo bioma (normalmente ya
+     * precargado en la pantalla de victoria), pasa a su música con
+     * una transición y reinicia el estado del juego. El grupo anterior
+     * se libera cuando su música termina de apagarse.
      * </p>
      */
     @Override
@@ -206,59 +303,76 @@ public class GameScreenManager implements Screen, IGameContext {
 
         transitioning = true;
 
+        Assets.Group previous = Assets.Group.forLevel(Constants.CURRENT_LEVEL);
         if (Constants.CURRENT_LEVEL < Constants.MAX_LEVEL) {
             Constants.CURRENT_LEVEL++;
         }
+        Assets.Group next = Assets.Group.forLevel(Constants.CURRENT_LEVEL);
+        Assets.finishLoading(next);
 
-        updateBackgroundMusic();
+        updateBackgroundMusic(next != previous ? () -> Assets.unload(previous) : null);
         restartAfterGameOver();
     }
 
+    /**
+     * Precarga el grupo de recursos del siguiente nivel mientras se
+     * muestra la pantalla de victoria, unos milisegundos por frame.
+     */
+    private void prefetchNextLevel() {
+        int nextLevel = Math.min(Constants.CURRENT_LEVEL + 1, Constants.MAX_LEVEL);
+        Assets.queue(Assets.Group.forLevel(nextLevel));
+        Assets.update(Constants.LOAD_BUDGET_MENU_MS);
+    }
+
     /**
      * Reinicia completamente el estado del juego tras derrota
      * o cambio de nivel.
      */
     @Override
     public void restartAfterGameOver() {
+        saveCommandLog();
+
         gameActive = true;
         victory = false;
         defeat = false;
 
         plants.clear();
-        enemies.clear();
-        projectiles.clear();
+        EnemyPool.releaseAll(enemies);
+        ProjectilePools.freeAll(projectiles);
         soapWaves.clear();
 
         selectedPlant = 0;
         cd.reset();
 
+        if (!fixedSeed) seed = SeededRandom.randomSeed();
         managers = new SubBossManager(this);
+        startCommandLog();
         soapDefenses.forEach(SoapDefense::reset);
         renderers.gameOverRenderer.reset();
 
-        Assets.currentBackgroundMusic.setPosition(0f);
-        Assets.currentBackgroundMusic.play();
+        BackgroundMusic.restart();
 
         transitioning = false;
     }
 
     /**
-     * Actualiza la música de fondo según el nivel actual.
+     * Pasa con una transición a la música del nivel actual.
+     *
+     * @param onFadedOut acción al apagarse la música anterior, o null
      */
-    private void updateBackgroundMusic() {
-        Assets.currentBackgroundMusic.stop();
-
+    private void updateBackgroundMusic(Runnable onFadedOut) {
+        Music track;
         if (Constants.CURRENT_LEVEL == 10) {
-            Assets.currentBackgroundMusic = Assets.bossMusic;
+            track = Assets.bossMusic;
         } else if (Constants.CURRENT_LEVEL <= 3) {
-            Assets.currentBackgroundMusic = Assets.dayMusic;
+            track = Assets.dayMusic;
         } else if (Constants.CURRENT_LEVEL <= 6) {
-            Assets.currentBackgroundMusic = Assets.jungleMusic;
+            track = Assets.jungleMusic;
         } else {
-            Assets.currentBackgroundMusic = Assets.nightMusic;
+            track = Assets.nightMusic;
         }
 
-        Assets.currentBackgroundMusic.play();
+        BackgroundMusic.crossfadeTo(track, onFadedOut);
     }
 
     // ==================== Implementación IGameContext ====================
@@ -270,8 +384,23 @@ public class GameScreenManager implements Screen, IGameContext {
     @Override public ArrayList<SoapDefense> getSoapDefenses() { return soapDefenses; }
 
     @Override public boolean isVictory() { return victory; }
+    @Override public boolean isDefeat() { return defeat; }
+    @Override public boolean isGameActive() { return gameActive; }
     @Override public int getSelectedPlant() { return selectedPlant; }
     @Override public Cooldowns getCooldowns() { return cd; }
+    @Override public long getSeed() { return seed; }
+
+    /**
+     * Fija la semilla de las partidas para reproducir una secuencia
+     * de oleadas (por ejemplo, al depurar o comparar rendimiento). Se
+     * llama al crear la pantalla si está definida {@link Constants#FIXED_SEED}.
+     *
+     * @param seed semilla a usar en la siguiente partida y en los reinicios
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        this.fixedSeed = true;
+    }
 
     @Override public void setGameActive(boolean a) { this.gameActive = a; }
     @Override public void setVictory(boolean v) { this.victory = v; }
@@ -90,6 +90,13 @@ public interface IGameContext {
      */
     boolean isVictory();
 
+    /**
+     * Indica si el jugador ha perdido la partida.
+     *
+     * @return {@code true} si el jugador perdió
+     */
+    boolean isDefeat();
+
     /**
      * Devuelve el identificador de la planta seleccionada.
      *
@@ -104,6 +111,26 @@ public interface IGameContext {
      */
     Cooldowns getCooldowns();
 
+    /**
+     * Semilla de la partida actual.
+     *
+     * <p>
+     * Determina la secuencia de carriles de las oleadas: la misma
+     * semilla con las mismas acciones produce la misma partida,
+     * tanto en modo interactivo como headless.
+     * </p>
+     *
+     * @return semilla usada para construir el nivel
+     */
+    long getSeed();
+
+    /**
+     * Indica si la lógica del juego se está ejecutando.
+     *
+     * @return {@code true} si la partida sigue activa
+     */
+    boolean isGameActive();
+
     /**
      * Activa o desactiva la ejecución del juego.
      *
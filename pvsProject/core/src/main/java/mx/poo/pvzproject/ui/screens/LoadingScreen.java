@@ -0,0 +1,109 @@
+package mx.poo.pvzproject.ui.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+
+import mx.poo.pvzproject.MainGame;
+import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.Constants;
+
+/**
+ * Pantalla de carga.
+ *
+ * <p>
+ * Avanza la carga de {@link Assets} unos milisegundos por frame y
+ * dibuja una barra de progreso del grupo esperado. No usa texturas,
+ * por lo que aparece desde el primer frame. Cuando el grupo termina
+ * de cargarse, ejecuta la acción indicada (normalmente cambiar de
+ * pantalla).
+ * </p>
+ *
+ * <p>
+ * Se usa al iniciar, esperando el grupo del menú, y al pulsar
+ * Aventura si los recursos de la partida aún no terminan.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class LoadingScreen implements Screen {
+
+    /** Dimensiones y posición de la barra de progreso. */
+    private static final float BAR_W = 600f;
+    private static final float BAR_H = 24f;
+    private static final float BAR_X = (Constants.WORLD_WIDTH - BAR_W) / 2f;
+    private static final float BAR_Y = Constants.WORLD_HEIGHT / 2f - BAR_H / 2f;
+
+    /** Referencia al controlador principal del juego. */
+    private final MainGame game;
+
+    /** Grupo cuya carga se espera. */
+    private final Assets.Group group;
+
+    /** Acción a ejecutar cuando el grupo está listo. */
+    private final Runnable onLoaded;
+
+    /**
+     * Constructor de la pantalla de carga.
+     *
+     * @param game     referencia al juego principal
+     * @param group    grupo de recursos que se espera
+     * @param onLoaded acción a ejecutar cuando el grupo está listo
+     */
+    public LoadingScreen(MainGame game, Assets.Group group, Runnable onLoaded) {
+        this.game = game;
+        this.group = group;
+        this.onLoaded = onLoaded;
+    }
+
+    @Override
+    public void show() {
+        Assets.queue(group);
+    }
+
+    /**
+     * Avanza la carga y dibuja el progreso.
+     *
+     * @param delta tiempo transcurrido desde el último frame
+     */
+    @Override
+    public void render(float delta) {
+        Assets.update(Constants.LOAD_BUDGET_MS);
+        if (Assets.isReady(group)) {
+            onLoaded.run();
+            return;
+        }
+
+        Gdx.gl.glClearColor(0, 0, 0, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        game.renderSystem.camera.update();
+        ShapeRenderer shape = game.renderSystem.shapeRenderer;
+        shape.setProjectionMatrix(game.renderSystem.camera.combined);
+
+        shape.begin(ShapeRenderer.ShapeType.Filled);
+        shape.setColor(0.25f, 0.25f, 0.25f, 1f);
+        shape.rect(BAR_X, BAR_Y, BAR_W, BAR_H);
+        shape.setColor(0.35f, 0.75f, 0.3f, 1f);
+        shape.rect(BAR_X, BAR_Y, BAR_W * Assets.getProgress(group), BAR_H);
+        shape.end();
+    }
+
+    /**
+     * Ajusta el viewport cuando cambia el tamaño de la ventana.
+     *
+     * @param w nuevo ancho
+     * @param h nuevo alto
+     */
+    @Override
+    public void resize(int w, int h) {
+        game.renderSystem.viewport.update(w, h, true);
+    }
+
+    @Override public void pause()   {}
+    @Override public void resume()  {}
+    @Override public void hide()    {}
+    @Override public void dispose() {}
+}
@@ -10,6 +10,8 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 
 import mx.poo.pvzproject.MainGame;
+import mx.poo.pvzproject.ui.utils.Assets;
+import mx.poo.pvzproject.ui.utils.BackgroundMusic;
 import mx.poo.pvzproject.ui.utils.Constants;
 import mx.poo.pvzproject.ui.utils.Language;
 
@@ -33,7 +35,8 @@ import mx.poo.pvzproject.ui.utils.Language;
  * La clase se encarga de:
  * </p>
  * <ul>
- *     <li>Cargar los recursos gráficos del menú.</li>
+ *     <li>Tomar de {@link Assets} los recursos gráficos del menú.</li>
+ *     <li>Seguir cargando en segundo plano los recursos de la partida.</li>
  *     <li>Renderizar fondo y botones.</li>
  *     <li>Detectar interacción táctil.</li>
  *     <li>Actualizar el idioma global.</li>
@@ -116,11 +119,14 @@ public class MenuScreen implements Screen {
         batch = new SpriteBatch();
         shape = new ShapeRenderer();
 
-        background    = new Texture(Gdx.files.internal("textures/Menu/Menuprincipal.png"));
-        btnAventuraEn = new Texture(Gdx.files.internal("textures/Menu/BotonAventura1_en.png"));
-        btnAventuraEs = new Texture(Gdx.files.internal("textures/Menu/BotonAventura1_es.png"));
-        btnLenguajeEn = new Texture(Gdx.files.internal("textures/Menu/BotonLenguaje1_en.png"));
-        btnLenguajeEs = new Texture(Gdx.files.internal("textures/Menu/BotonLenguaje1_es.png"));
+        // Cargados por LoadingScreen en el grupo MENU
+        background    = Assets.menuBackground;
+        btnAventuraEn = Assets.adventureButtonEn;
+        btnAventuraEs = Assets.adventureButtonEs;
+        btnLenguajeEn = Assets.languageButtonEn;
+        btnLenguajeEs = Assets.languageButtonEs;
+
+        BackgroundMusic.play(Assets.dayMusic);
 
         rectAventura = new Rectangle(BTN_AVE_X, BTN_AVE_Y, BTN_AVE_W, BTN_AVE_H);
         rectLenguaje = new Rectangle(BTN_LANG_X, BTN_LANG_Y, BTN_LANG_W, BTN_LANG_H);
@@ -133,6 +139,7 @@ public class MenuScreen implements Screen {
      * Se encarga de:
      * </p>
      * <ul>
+     *     <li>Avanzar la carga de los recursos de la partida.</li>
      *     <li>Limpiar la pantalla.</li>
      *     <li>Actualizar la cámara.</li>
      *     <li>Detectar interacción del usuario.</li>
@@ -145,6 +152,8 @@ public class MenuScreen implements Screen {
      */
     @Override
     public void render(float delta) {
+        Assets.update(Constants.LOAD_BUDGET_MENU_MS);
+
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -205,15 +214,16 @@ public class MenuScreen implements Screen {
      * Libera los recursos gráficos utilizados por esta pantalla.
      * Debe ejecutarse antes de cambiar a otra pantalla
      * para evitar fugas de memoria.
+     *
+     * <p>
+     * Las texturas del menú se descargan con su grupo; la música
+     * de día se conserva porque también pertenece a la partida.
+     * </p>
      */
     @Override
     public void dispose() {
         if (batch != null)         batch.dispose();
         if (shape != null)         shape.dispose();
-        if (background != null)    background.dispose();
-        if (btnAventuraEn != null) btnAventuraEn.dispose();
-        if (btnAventuraEs != null) btnAventuraEs.dispose();
-        if (btnLenguajeEn != null) btnLenguajeEn.dispose();
-        if (btnLenguajeEs != null) btnLenguajeEs.dispose();
+        Assets.unload(Assets.Group.MENU);
     }
 }
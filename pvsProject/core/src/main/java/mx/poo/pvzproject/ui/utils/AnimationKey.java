@@ -0,0 +1,107 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Identificadores de las animaciones compartidas del juego.
+ *
+ * <p>
+ * Cada clave corresponde a un tipo de entidad y a uno de sus estados,
+ * e indica de qué frames de {@link Assets} se construye la animación,
+ * la duración de cada frame y su modo de reproducción.
+ * </p>
+ *
+ * <p>
+ * Las animaciones se construyen una sola vez en {@link Assets}
+ * y todas las instancias de una misma entidad comparten la misma.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public enum AnimationKey {
+
+    // ===== PLANTAS =====
+
+    CORN_SHOOTER(0.08f, Animation.PlayMode.LOOP),
+    PAPA_FULL(0.1f, Animation.PlayMode.LOOP),
+    PAPA_COMIDA1(0.1f, Animation.PlayMode.LOOP),
+    PAPA_COMIDA2(0.1f, Animation.PlayMode.LOOP),
+    WATER_PLANT(0.08f, Animation.PlayMode.LOOP),
+    RED_BOM(0.1f, Animation.PlayMode.NORMAL),
+    MACETA(0.08f, Animation.PlayMode.LOOP),
+    CAMPANILLA(0.08f, Animation.PlayMode.LOOP),
+    CHAMPI_IDLE(0.1f, Animation.PlayMode.LOOP),
+    CHAMPI_ALERT(1f, Animation.PlayMode.NORMAL),
+    CHAMPI_SMASH(0.08f, Animation.PlayMode.NORMAL),
+    LILY_PAD(1f, Animation.PlayMode.NORMAL),
+
+    // ===== ENEMIGOS =====
+
+    SLIME_NORMAL(0.15f, Animation.PlayMode.LOOP),
+    SLIME_TANQUE(0.15f, Animation.PlayMode.LOOP),
+    SLIME_RAPIDO(0.15f, Animation.PlayMode.LOOP),
+    SLIME_COLOSSUS(0.15f, Animation.PlayMode.LOOP);
+
+    /** Duración de cada frame (segundos). */
+    private final float frameDuration;
+
+    /** Modo de reproducción. */
+    private final Animation.PlayMode playMode;
+
+    AnimationKey(float frameDuration, Animation.PlayMode playMode) {
+        this.frameDuration = frameDuration;
+        this.playMode = playMode;
+    }
+
+    /**
+     * Duración de cada frame.
+     *
+     * @return segundos por frame
+     */
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    /**
+     * Modo de reproducción de la animación.
+     *
+     * @return modo de reproducción
+     */
+    public Animation.PlayMode getPlayMode() {
+        return playMode;
+    }
+
+    /**
+     * Regiones del atlas que forman la animación, en orden.
+     *
+     * <p>
+     * Se consultan al construir la animación, de modo que reflejan
+     * lo cargado por {@link Assets} en ese momento.
+     * </p>
+     *
+     * @return frames de la animación (pueden ser null en modo headless)
+     */
+    public TextureRegion[] frames() {
+        switch (this) {
+            case CORN_SHOOTER: return Assets.cornShooterFrames;
+            case PAPA_FULL: return Assets.papaCompletaFrames;
+            case PAPA_COMIDA1: return Assets.papaComida1Frames;
+            case PAPA_COMIDA2: return Assets.papaComida2Frames;
+            case WATER_PLANT: return Assets.waterPlantFrames;
+            case RED_BOM: return Assets.redBomFrames;
+            case MACETA: return Assets.macetaFrames;
+            case CAMPANILLA: return Assets.campanillaFrames;
+            case CHAMPI_IDLE: return Assets.champiNeutralFrames;
+            case CHAMPI_ALERT: return new TextureRegion[]{Assets.champiDetectedFrame};
+            case CHAMPI_SMASH: return Assets.champiAttackFrames;
+            case LILY_PAD: return new TextureRegion[]{Assets.lilyPadFrame};
+            case SLIME_NORMAL: return Assets.slimeNormalFrames;
+            case SLIME_TANQUE: return Assets.slimeTanqueFrames;
+            case SLIME_RAPIDO: return Assets.slimeDivisorFrames;
+            case SLIME_COLOSSUS: return Assets.colossusStaticFrames;
+            default: throw new IllegalStateException("Animación sin frames: " + this);
+        }
+    }
+}
@@ -1,11 +1,30 @@
 package mx.poo.pvzproject.ui.utils;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Clase encargada de cargar, almacenar y liberar
@@ -13,20 +32,79 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  *
  * Se centralizan aquí para evitar cargar recursos
  * múltiples veces y mantener el proyecto organizado.
+ *
+ * Los frames de plantas y enemigos y las cartas se toman del atlas
+ * {@link #ATLAS_PATH}, que la tarea de Gradle {@code packTextures}
+ * genera al compilar a partir de {@code plants/}, {@code enemies/}
+ * y {@code textures/seeds/}. Así casi todo un frame del juego se
+ * dibuja desde las mismas páginas, con pocos cambios de textura.
+ * El coloso va en su propio atlas ({@link #BOSS_ATLAS_PATH}).
+ *
+ * La carga pasa por un {@link AssetManager} en grupos ({@link Group}):
+ * {@link #queue(Group)} los encola, {@link #update(int)} avanza unos
+ * milisegundos por frame (en escritorio las imágenes se decodifican
+ * en paralelo en {@link ParallelTextureLoader} y en el hilo de render
+ * solo se suben a la GPU) y, al
+ * completarse cada grupo, se asignan sus campos estáticos. Así la
+ * primera imagen aparece de inmediato y el menú se muestra mientras
+ * se cargan los sprites de la partida.
  */
 public class Assets {
 
+    /** Atlas generado por {@code packTextures}. */
+    public static final String ATLAS_PATH = "atlas/game.atlas";
+
+    /** Atlas del coloso, generado aparte porque solo aparece en el nivel 10. */
+    public static final String BOSS_ATLAS_PATH = "atlas/boss.atlas";
+
+    /** Atlas de sprites y cartas. */
+    public static TextureAtlas atlas;
+
+    /** Atlas del coloso; null fuera del nivel del jefe. */
+    public static TextureAtlas bossAtlas;
+
+    /* ===================== RUTAS ===================== */
+
+    private static final String[] LANGUAGES = {"es", "en"};
+
+    private static final String MENU_BACKGROUND = "textures/Menu/Menuprincipal.png";
+
+    // Pistas sin extensión: se prefiere Ogg Vorbis, que se lee del disco
+    // por bloques mientras suena, y si falta se usa el WAV original
+    private static final String DAY_MUSIC = "sounds/Fondo1";
+    private static final String JUNGLE_MUSIC = "sounds/Fondo2";
+    private static final String NIGHT_MUSIC = "sounds/Fondo3";
+    private static final String BOSS_MUSIC = "sounds/Fondo4";
+
+    private static final String BACKGROUND_DAY = "textures/background/Background_day.png";
+    private static final String BACKGROUND_JUNGLE = "textures/background/JungleBackground.png";
+    private static final String BACKGROUND_NIGHT = "textures/background/Noche_Background.png";
+
+    private static final String POPCORN = "projectiles/Popcorn.png";
+    private static final String PETALO = "projectiles/Petalo.png";
+
+    private static final String EMPTY_BAR = "ui/EmplyBar.png";
+    private static final String HEALTH_FILL = "ui/HealthFill.png";
+    private static final String HEART = "ui/Heart.png";
+    private static final String SOAP = "ui/Jabon.png";
+    private static final String SOAP_WAVE = "ui/OlaJabon.png";
+
+    /* ===================== MENÚ ===================== */
+
+    public static Texture menuBackground;
+    public static Texture adventureButtonEs;
+    public static Texture adventureButtonEn;
+    public static Texture languageButtonEs;
+    public static Texture languageButtonEn;
+
     /* ===================== AUDIO ===================== */
 
     public static Music dayMusic;
     public static Music jungleMusic;
     public static Music nightMusic;
     public static Music bossMusic;
-    public static Music currentBackgroundMusic;
 
-    public static Music cornShootSound;
-    public static Music petaloShootSound;
-    public static Music explosionSound;
+    // La música suena con BackgroundMusic y los efectos con SoundEffects
 
     /* ===================== FONDOS ===================== */
 
@@ -42,50 +120,52 @@ public class Assets {
 
     /* ===================== PLANTAS ===================== */
 
-    public static Texture[] cornShooterFrames = new Texture[11];
-    public static Animation<TextureRegion> cornShooterAnimation;
+    public static TextureRegion[] cornShooterFrames = new TextureRegion[11];
 
-    public static Texture[] papaCompletaFrames = new Texture[16];
-    public static Texture[] papaComida1Frames = new Texture[16];
-    public static Texture[] papaComida2Frames = new Texture[16];
+    public static TextureRegion[] papaCompletaFrames = new TextureRegion[16];
+    public static TextureRegion[] papaComida1Frames = new TextureRegion[16];
+    public static TextureRegion[] papaComida2Frames = new TextureRegion[16];
 
-    public static Texture[] waterPlantFrames = new Texture[8];
-    public static Texture[] redBomFrames = new Texture[11];
-    public static Texture[] macetaFrames = new Texture[7];
-    public static Texture[] campanillaFrames = new Texture[5];
+    public static TextureRegion[] waterPlantFrames = new TextureRegion[8];
+    public static TextureRegion[] redBomFrames = new TextureRegion[11];
+    public static TextureRegion[] macetaFrames = new TextureRegion[7];
+    public static TextureRegion[] campanillaFrames = new TextureRegion[5];
 
-    public static Texture[] champiNeutralFrames = new Texture[16];
-    public static Texture[] champiAttackFrames = new Texture[4];
-    public static Texture champiDetectedTexture;
+    public static TextureRegion[] champiNeutralFrames = new TextureRegion[16];
+    public static TextureRegion[] champiAttackFrames = new TextureRegion[4];
+    public static TextureRegion champiDetectedFrame;
 
-    public static Texture lilyPadTexture;
+    public static TextureRegion lilyPadFrame;
 
     /* ===================== ENEMIGOS ===================== */
 
-    public static Texture[] slimeNormalFrames = new Texture[4];
-    public static Texture[] slimeTanqueFrames = new Texture[4];
-    public static Texture[] slimeDivisorFrames = new Texture[4];
-    public static Texture[] colossusStaticFrames = new Texture[4];
+    public static TextureRegion[] slimeNormalFrames = new TextureRegion[4];
+    public static TextureRegion[] slimeTanqueFrames = new TextureRegion[4];
+    public static TextureRegion[] slimeDivisorFrames = new TextureRegion[4];
+    public static TextureRegion[] colossusStaticFrames = new TextureRegion[4];
 
     /* ===================== TARJETAS ===================== */
 
-    public static Texture cardCornShooter;
-    public static Texture cardPapa;
-    public static Texture cardWaterPlant;
-    public static Texture cardRedBom;
-    public static Texture cardMaceta;
-    public static Texture cardCampanilla;
-    public static Texture cardLilyPad;
-    public static Texture cardChampi;
-    public static Texture cardShovel;
+    public static TextureRegion cardCornShooter;
+    public static TextureRegion cardPapa;
+    public static TextureRegion cardWaterPlant;
+    public static TextureRegion cardRedBom;
+    public static TextureRegion cardMaceta;
+    public static TextureRegion cardCampanilla;
+    public static TextureRegion cardLilyPad;
+    public static TextureRegion cardChampi;
+    public static TextureRegion cardShovel;
 
     /* ===================== UI ===================== */
 
-    public static Texture selectionBarBackground;
+    public static TextureRegion selectionBarBackground;
     public static Texture emptyBar;
     public static Texture healthFill;
     public static Texture heartIcon;
 
+    /** Frames de la barra de agua, de llena a vacía. */
+    public static Texture[] waterBarFrames = new Texture[10];
+
     public static Texture victoryOverlay;
     public static Texture defeatOverlay;
     public static Texture retryButton;
@@ -94,119 +174,624 @@ public class Assets {
     public static TextureRegion soap;
     public static TextureRegion soapWaveAnimation;
 
-    public static void load() {
+    /* ===================== ANIMACIONES ===================== */
+
+    /**
+     * Animaciones compartidas, indexadas por {@link AnimationKey#ordinal()}.
+     * Se construyen una vez y las reutilizan todas las entidades.
+     */
+    private static final Animation<TextureRegion>[] animations = newAnimationTable();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Animation<TextureRegion>[] newAnimationTable() {
+        return (Animation<TextureRegion>[]) new Animation[AnimationKey.values().length];
+    }
+
+    // =============================
+    // Carga asíncrona
+    // =============================
+
+    /**
+     * Grupos de recursos que se cargan y liberan juntos.
+     *
+     * <p>
+     * Al iniciar se encolan el menú, lo común de la partida y el bioma
+     * del nivel actual. Cada nivel usa solo su grupo de bioma: al avanzar
+     * de nivel se carga el siguiente (precargado en la pantalla de
+     * victoria) y se libera el anterior.
+     * </p>
+     */
+    public enum Group {
+        /** Fondo y botones del menú, y la música que suena en él. */
+        MENU,
+        /** Atlas, proyectiles, UI y efectos, comunes a todos los niveles. */
+        GAMEPLAY,
+        /** Fondo y música de día (niveles 1-3). */
+        DAY,
+        /** Fondo y música de la jungla (niveles 4-6). */
+        JUNGLE,
+        /** Fondo y música de noche (niveles 7-9). */
+        NIGHT,
+        /** Fondo de noche, música del jefe y atlas del coloso (nivel 10). */
+        BOSS;
+
+        /**
+         * Grupo de bioma que necesita un nivel.
+         *
+         * @param level número de nivel
+         * @return grupo con el fondo, la música y los enemigos exclusivos del nivel
+         */
+        public static Group forLevel(int level) {
+            if (level == 10) return BOSS;
+            if (level <= 3) return DAY;
+            if (level <= 6) return JUNGLE;
+            return NIGHT;
+        }
+    }
+
+    /** Administrador de carga; se crea al encolar el primer grupo. */
+    private static AssetManager manager;
+
+    /**
+     * Cargador de texturas que decodifica en paralelo, o null si se usa
+     * el estándar. Se crea por nombre para que la versión web, donde
+     * la clase no se compila, no dependa de ella.
+     */
+    private static TexturePrefetcher prefetcher;
+
+    static final String PARALLEL_LOADER = "mx.poo.pvzproject.ui.utils.ParallelTextureLoader";
+
+    private static final boolean[] queued = new boolean[Group.values().length];
+    private static final boolean[] ready = new boolean[Group.values().length];
+    private static final long[] queuedMillis = new long[Group.values().length];
+
+    /** Archivo elegido para cada pista (.ogg o .wav), resuelto una vez. */
+    private static final Map<String, String> musicFiles = new HashMap<>();
+
+    /** Momento en que se encoló el primer grupo. */
+    private static long loadStartMillis;
+
+    /** Momento en que terminó el último grupo, inicio de la fase siguiente. */
+    private static long lastReadyMillis;
+
+    /**
+     * Encola la carga de un grupo. Los grupos se cargan en el orden
+     * en que se encolan; encolar un grupo ya encolado no hace nada.
+     *
+     * <p>
+     * Las imágenes del grupo (incluidas las páginas de sus atlas)
+     * empiezan a decodificarse de inmediato en paralelo; el
+     * administrador solo las sube a la GPU al llegar a ellas.
+     * </p>
+     *
+     * @param group grupo de recursos
+     */
+    public static void queue(Group group) {
+        if (queued[group.ordinal()]) return;
+        if (manager == null) {
+            manager = new AssetManager();
+            prefetcher = installParallelLoader(manager);
+            loadStartMillis = TimeUtils.millis();
+            lastReadyMillis = loadStartMillis;
+        }
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            manager.load(descriptor);
+            if (prefetcher == null) continue;
+            for (String image : imageFiles(descriptor)) {
+                if (!manager.isLoaded(image, Texture.class)) prefetcher.prefetch(image);
+            }
+        }
+        queued[group.ordinal()] = true;
+        queuedMillis[group.ordinal()] = TimeUtils.millis();
+    }
+
+    /**
+     * Avanza la carga durante un tiempo limitado. Se llama una vez por
+     * frame desde la pantalla activa; cada grupo que termina se asigna
+     * a los campos estáticos y su tiempo de carga se registra en el log.
+     *
+     * @param budgetMillis tiempo máximo a ocupar en este frame
+     * @return true si no queda nada pendiente
+     */
+    public static boolean update(int budgetMillis) {
+        if (manager == null) return true;
+        boolean finished = manager.update(budgetMillis);
+        for (Group group : Group.values()) {
+            int i = group.ordinal();
+            if (queued[i] && !ready[i] && isLoaded(group)) {
+                bind(group);
+                ready[i] = true;
+                logReady(group);
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * @param group grupo de recursos
+     * @return true si el grupo terminó de cargarse y sus campos están asignados
+     */
+    public static boolean isReady(Group group) {
+        return ready[group.ordinal()];
+    }
+
+    /**
+     * Progreso de carga de un grupo.
+     *
+     * @param group grupo de recursos
+     * @return fracción de recursos del grupo ya cargados, de 0 a 1
+     */
+    public static float getProgress(Group group) {
+        if (manager == null) return 0f;
+        List<AssetDescriptor<?>> descriptors = descriptors(group);
+        int loaded = 0;
+        for (AssetDescriptor<?> descriptor : descriptors) {
+            if (manager.isLoaded(descriptor.fileName, descriptor.type)) loaded++;
+        }
+        return descriptors.isEmpty() ? 1f : loaded / (float) descriptors.size();
+    }
+
+    /**
+     * Termina de inmediato la carga de un grupo, bloqueando el hilo
+     * actual si hace falta. Si el grupo ya se precargó no cuesta nada.
+     *
+     * @param group grupo de recursos
+     */
+    public static void finishLoading(Group group) {
+        queue(group);
+        if (isReady(group)) return;
+        manager.finishLoading();
+        update(0);
+    }
+
+    /**
+     * Libera los recursos de un grupo. Los que también pertenecen a otro
+     * grupo cargado se conservan (el administrador cuenta referencias).
+     *
+     * <p>
+     * Los campos del grupo quedan en null, salvo los que sigue
+     * aportando otro grupo listo.
+     * </p>
+     *
+     * @param group grupo de recursos
+     */
+    public static void unload(Group group) {
+        int i = group.ordinal();
+        if (manager == null || !queued[i]) return;
+        List<Music> tracks = new ArrayList<>();
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            if (descriptor.type == Music.class && manager.isLoaded(descriptor.fileName, Music.class)) {
+                tracks.add(manager.get(descriptor.fileName, Music.class));
+            }
+            if (manager.contains(descriptor.fileName, descriptor.type)) manager.unload(descriptor.fileName);
+            // Si se descargó antes de terminar, su imagen precargada sobra
+            if (prefetcher == null) continue;
+            for (String image : imageFiles(descriptor)) {
+                if (!manager.isLoaded(image, Texture.class)) prefetcher.discard(image);
+            }
+        }
+        queued[i] = false;
+        ready[i] = false;
+
+        unbind(group);
+        for (Group other : Group.values()) {
+            if (ready[other.ordinal()]) bind(other);
+        }
+        for (Music track : tracks) {
+            if (!manager.containsAsset(track)) BackgroundMusic.release(track);
+        }
+    }
 
-        /* ---------- Música ---------- */
+    /**
+     * Asigna las texturas que dependen del idioma actual. Se llama al
+     * iniciar la partida, porque el idioma puede cambiar en el menú
+     * después de cargar los recursos.
+     */
+    public static void applyLanguage() {
+        if (!isReady(Group.GAMEPLAY)) return;
+        String lang = (Constants.CURRENT_LANGUAGE == Language.EN) ? "en" : "es";
+        defeatOverlay = texture("ui/GameLose_" + lang + ".png");
+        victoryOverlay = texture("ui/GameVictory_" + lang + ".png");
+        retryButton = texture("ui/retryButton_" + lang + ".png");
+        nextLevelButton = texture("ui/NextButton_" + lang + ".png");
+    }
 
-        dayMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/Fondo1.wav"));
-        jungleMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/Fondo2.wav"));
-        nightMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/Fondo3.wav"));
-        bossMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/Fondo4.wav"));
+    /** Recursos que forman cada grupo. */
+    private static List<AssetDescriptor<?>> descriptors(Group group) {
+        List<AssetDescriptor<?>> list = new ArrayList<>();
+        switch (group) {
+            case MENU:
+                addTexture(list, MENU_BACKGROUND);
+                for (String lang : LANGUAGES) {
+                    addTexture(list, "textures/Menu/BotonAventura1_" + lang + ".png");
+                    addTexture(list, "textures/Menu/BotonLenguaje1_" + lang + ".png");
+                }
+                addMusic(list, DAY_MUSIC);
+                break;
+
+            case GAMEPLAY:
+                list.add(new AssetDescriptor<>(ATLAS_PATH, TextureAtlas.class));
+
+                for (Sfx sfx : Sfx.values()) {
+                    list.add(new AssetDescriptor<>(sfx.getPath(), Sound.class));
+                }
+
+                addTexture(list, POPCORN);
+                addTexture(list, PETALO);
+
+                for (String lang : LANGUAGES) {
+                    addTexture(list, "ui/GameLose_" + lang + ".png");
+                    addTexture(list, "ui/GameVictory_" + lang + ".png");
+                    addTexture(list, "ui/retryButton_" + lang + ".png");
+                    addTexture(list, "ui/NextButton_" + lang + ".png");
+                }
+                addTexture(list, EMPTY_BAR);
+                addTexture(list, HEALTH_FILL);
+                addTexture(list, HEART);
+                addTexture(list, SOAP);
+                addTexture(list, SOAP_WAVE);
+                for (int i = 1; i <= waterBarFrames.length; i++) {
+                    addTexture(list, waterBarPath(i));
+                }
+                break;
+
+            case DAY:
+                addTexture(list, BACKGROUND_DAY);
+                addMusic(list, DAY_MUSIC);
+                break;
+
+            case JUNGLE:
+                addTexture(list, BACKGROUND_JUNGLE);
+                addMusic(list, JUNGLE_MUSIC);
+                break;
+
+            case NIGHT:
+                addTexture(list, BACKGROUND_NIGHT);
+                addMusic(list, NIGHT_MUSIC);
+                break;
+
+            case BOSS:
+                addTexture(list, BACKGROUND_NIGHT);
+                addMusic(list, BOSS_MUSIC);
+                list.add(new AssetDescriptor<>(BOSS_ATLAS_PATH, TextureAtlas.class));
+                break;
+        }
+        return list;
+    }
 
-        dayMusic.setVolume(0.2f);
-        jungleMusic.setVolume(0.2f);
-        nightMusic.setVolume(0.2f);
-        bossMusic.setLooping(true);
-        bossMusic.setVolume(0.2f);
+    /** Asigna los campos estáticos de un grupo ya cargado. */
+    private static void bind(Group group) {
+        switch (group) {
+            case MENU:
+                menuBackground = texture(MENU_BACKGROUND);
+                adventureButtonEs = texture("textures/Menu/BotonAventura1_es.png");
+                adventureButtonEn = texture("textures/Menu/BotonAventura1_en.png");
+                languageButtonEs = texture("textures/Menu/BotonLenguaje1_es.png");
+                languageButtonEn = texture("textures/Menu/BotonLenguaje1_en.png");
+
+                dayMusic = music(DAY_MUSIC);
+                break;
+
+            case GAMEPLAY:
+                bindGameplay();
+                break;
+
+            case DAY:
+                backgroundDay = texture(BACKGROUND_DAY);
+                dayMusic = music(DAY_MUSIC);
+                break;
+
+            case JUNGLE:
+                backgroundJungle = texture(BACKGROUND_JUNGLE);
+                jungleMusic = music(JUNGLE_MUSIC);
+                break;
+
+            case NIGHT:
+                backgroundNight = texture(BACKGROUND_NIGHT);
+                nightMusic = music(NIGHT_MUSIC);
+                break;
+
+            case BOSS:
+                backgroundNight = texture(BACKGROUND_NIGHT);
+                bossMusic = music(BOSS_MUSIC);
+                bossMusic.setLooping(true);
+                bossAtlas = manager.get(BOSS_ATLAS_PATH, TextureAtlas.class);
+                atlasFrames(bossAtlas, colossusStaticFrames, "enemies/colosalSLime/static/Profe(", ")");
+                buildAnimations();
+                break;
+        }
+    }
 
-        currentBackgroundMusic = dayMusic;
-        currentBackgroundMusic.play();
+    /** Deja en null los campos de un grupo recién liberado. */
+    private static void unbind(Group group) {
+        switch (group) {
+            case MENU:
+                menuBackground = null;
+                adventureButtonEs = null;
+                adventureButtonEn = null;
+                languageButtonEs = null;
+                languageButtonEn = null;
+                dayMusic = null;
+                break;
+
+            case GAMEPLAY:
+                // Lo común de la partida vive hasta el cierre del juego
+                break;
+
+            case DAY:
+                backgroundDay = null;
+                dayMusic = null;
+                break;
+
+            case JUNGLE:
+                backgroundJungle = null;
+                jungleMusic = null;
+                break;
+
+            case NIGHT:
+                backgroundNight = null;
+                nightMusic = null;
+                break;
+
+            case BOSS:
+                backgroundNight = null;
+                bossMusic = null;
+                bossAtlas = null;
+                Arrays.fill(colossusStaticFrames, null);
+                buildAnimations();
+                break;
+        }
+    }
 
-        cornShootSound = Gdx.audio.newMusic(Gdx.files.internal("sounds/DisparoMaiz.wav"));
-        petaloShootSound = Gdx.audio.newMusic(Gdx.files.internal("sounds/DisparoPetalo.wav"));
-        explosionSound = Gdx.audio.newMusic(Gdx.files.internal("sounds/Exposion.wav"));
+    private static void bindGameplay() {
 
-        /* ---------- Fondos ---------- */
+        /* ---------- Efectos ---------- */
 
-        backgroundDay = new Texture(Gdx.files.internal("textures/background/Background_day.png"));
-        backgroundJungle = new Texture(Gdx.files.internal("textures/background/JungleBackground.png"));
-        backgroundNight = new Texture(Gdx.files.internal("textures/background/Noche_Background.png"));
+        for (Sfx sfx : Sfx.values()) {
+            SoundEffects.bind(sfx, manager.get(sfx.getPath(), Sound.class),
+                manager.getFileHandleResolver().resolve(sfx.getPath()));
+        }
 
         /* ---------- Proyectiles ---------- */
 
-        popcornProjectile = new Texture(Gdx.files.internal("projectiles/Popcorn.png"));
-        cornProjectileTexture = new Texture(Gdx.files.internal("projectiles/Popcorn.png"));
-        petaloTexture = new Texture(Gdx.files.internal("projectiles/Petalo.png"));
+        // Antes eran dos copias de la misma imagen; el administrador
+        // entrega una sola textura para ambos usos
+        popcornProjectile = texture(POPCORN);
+        cornProjectileTexture = popcornProjectile;
+        petaloTexture = texture(PETALO);
 
-        /* ---------- UI dinámica por idioma ---------- */
+        /* ---------- UI ---------- */
 
-        String lang = (Constants.CURRENT_LANGUAGE == Language.EN) ? "en" : "es";
+        applyLanguage();
 
-        defeatOverlay = new Texture(Gdx.files.internal("ui/GameLose_" + lang + ".png"));
-        victoryOverlay = new Texture(Gdx.files.internal("ui/GameVictory_" + lang + ".png"));
-        retryButton = new Texture(Gdx.files.internal("ui/retryButton_" + lang + ".png"));
-        nextLevelButton = new Texture(Gdx.files.internal("ui/NextButton_" + lang + ".png"));
+        emptyBar = texture(EMPTY_BAR);
+        healthFill = texture(HEALTH_FILL);
+        heartIcon = texture(HEART);
 
-        /* ---------- UI fija ---------- */
+        soap = new TextureRegion(texture(SOAP));
+        soapWaveAnimation = new TextureRegion(texture(SOAP_WAVE));
 
-        emptyBar = new Texture(Gdx.files.internal("ui/EmplyBar.png"));
-        healthFill = new Texture(Gdx.files.internal("ui/HealthFill.png"));
-        heartIcon = new Texture(Gdx.files.internal("ui/Heart.png"));
+        for (int i = 1; i <= waterBarFrames.length; i++) {
+            waterBarFrames[i - 1] = texture(waterBarPath(i));
+        }
 
-        selectionBarBackground = new Texture(Gdx.files.internal("textures/seeds/SeleccionDeCartas.png"));
-        cardShovel = new Texture(Gdx.files.internal("textures/seeds/Pala.png"));
+        /* ---------- Atlas: cartas ---------- */
 
-        soap = new TextureRegion(new Texture("ui/Jabon.png"));
-        soapWaveAnimation = new TextureRegion(new Texture("ui/OlaJabon.png"));
+        atlas = manager.get(ATLAS_PATH, TextureAtlas.class);
 
-        /* ---------- Tarjetas ---------- */
+        selectionBarBackground = atlasRegion("seeds/SeleccionDeCartas");
+        cardShovel = atlasRegion("seeds/Pala");
 
-        cardCornShooter = new Texture(Gdx.files.internal("textures/seeds/CornShootherCard.png"));
-        cardPapa = new Texture(Gdx.files.internal("textures/seeds/PapaCard.png"));
-        cardWaterPlant = new Texture(Gdx.files.internal("textures/seeds/WaterPlantCard.png"));
-        cardRedBom = new Texture(Gdx.files.internal("textures/seeds/RedBomCard.png"));
-        cardMaceta = new Texture(Gdx.files.internal("textures/seeds/MacetaCard.png"));
-        cardCampanilla = new Texture(Gdx.files.internal("textures/seeds/CampanillaCard.png"));
-        cardLilyPad = new Texture(Gdx.files.internal("textures/seeds/LilyPadCard.png"));
-        cardChampi = new Texture(Gdx.files.internal("textures/seeds/ChampiCard.png"));
+        cardCornShooter = atlasRegion("seeds/CornShootherCard");
+        cardPapa = atlasRegion("seeds/PapaCard");
+        cardWaterPlant = atlasRegion("seeds/WaterPlantCard");
+        cardRedBom = atlasRegion("seeds/RedBomCard");
+        cardMaceta = atlasRegion("seeds/MacetaCard");
+        cardCampanilla = atlasRegion("seeds/CampanillaCard");
+        cardLilyPad = atlasRegion("seeds/LilyPadCard");
+        cardChampi = atlasRegion("seeds/ChampiCard");
+
+        /* ---------- Atlas: frames ---------- */
+
+        lilyPadFrame = atlasRegion("plants/lilyPad/LilyPad");
+
+        atlasFrames(slimeNormalFrames, "enemies/slimeNormal/SlimeNormal(", ")");
+        atlasFrames(slimeTanqueFrames, "enemies/slimeTanque/SlimeTanque (", ")");
+        atlasFrames(slimeDivisorFrames, "enemies/slimeDivisor/SlimeDivisor (", ")");
+
+        atlasFrames(cornShooterFrames, "plants/cornshooter/popcornplant (", ")");
+        atlasFrames(papaCompletaFrames, "plants/papa/papaCompleta/PapaCompleta (", ")");
+        atlasFrames(papaComida1Frames, "plants/papa/papaComida1/PapaComida1 (", ")");
+        atlasFrames(papaComida2Frames, "plants/papa/papaComida2/PapaComida2 (", ")");
+        atlasFrames(waterPlantFrames, "plants/waterplant/WaterPLant (", ")");
+        atlasFrames(redBomFrames, "plants/redbom/Redbom (", ")");
+        atlasFrames(macetaFrames, "plants/maceta/Maceta(", ")");
+        atlasFrames(campanillaFrames, "plants/campanilla/Campanilla(", ")");
+        atlasFrames(champiNeutralFrames, "plants/champivoltear/framechampi/ChampiNeutral(", ")");
+        atlasFrames(champiAttackFrames, "plants/champivoltear/framechampiattack/ChampiAttack(", ")");
+
+        champiDetectedFrame = atlasRegion("plants/champivoltear/framchampivoltear/Champi_voltear");
+
+        /* ---------- Animaciones compartidas ---------- */
+
+        buildAnimations();
+    }
 
-        lilyPadTexture = new Texture(Gdx.files.internal("plants/lilyPad/LilyPad.png"));
+    /** Registra la duración de la fase de un grupo y el tiempo desde el inicio de la carga. */
+    private static void logReady(Group group) {
+        long now = TimeUtils.millis();
+        long phaseStart = Math.max(queuedMillis[group.ordinal()], lastReadyMillis);
+        Gdx.app.log("Assets", String.format("%s cargado en %d ms (%d ms desde el inicio de la carga)",
+            group, now - phaseStart, now - loadStartMillis));
+        lastReadyMillis = now;
+    }
 
-        /* ---------- Carga por frames ---------- */
+    /**
+     * Imágenes que decodifica un recurso: la propia textura o las
+     * páginas de un atlas, con la misma ruta que usa el administrador.
+     */
+    private static List<String> imageFiles(AssetDescriptor<?> descriptor) {
+        List<String> images = new ArrayList<>();
+        if (descriptor.type == Texture.class) {
+            images.add(descriptor.fileName);
+        } else if (descriptor.type == TextureAtlas.class) {
+            FileHandle pack = manager.getFileHandleResolver().resolve(descriptor.fileName);
+            TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(pack, pack.parent(), false);
+            for (TextureAtlas.TextureAtlasData.Page page : data.getPages()) {
+                images.add(page.textureFile.path().replace('\\', '/'));
+            }
+        }
+        return images;
+    }
 
-        for (int i = 1; i <= 4; i++)
-            colossusStaticFrames[i - 1] = new Texture(Gdx.files.internal("enemies/colosalSLime/static/Profe(" + i + ").png"));
+    /**
+     * Instala el cargador de texturas en paralelo, solo en escritorio:
+     * en el navegador no hay hilos para decodificar y se conserva el
+     * {@link TextureLoader} estándar.
+     *
+     * @return el cargador instalado, o null si se usa el estándar
+     */
+    @SuppressWarnings("unchecked")
+    private static TexturePrefetcher installParallelLoader(AssetManager manager) {
+        if (Gdx.app == null || Gdx.app.getType() != Application.ApplicationType.Desktop) return null;
+        try {
+            Object loader = ClassReflection.getConstructor(ClassReflection.forName(PARALLEL_LOADER),
+                    FileHandleResolver.class)
+                .newInstance(manager.getFileHandleResolver());
+            manager.setLoader(Texture.class,
+                (AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter>) loader);
+            return (TexturePrefetcher) loader;
+        } catch (ReflectionException e) {
+            Gdx.app.error("Assets", "Sin decodificación en paralelo", e);
+            return null;
+        }
+    }
 
-        for (int i = 1; i <= 4; i++)
-            slimeNormalFrames[i - 1] = new Texture(Gdx.files.internal("enemies/slimeNormal/SlimeNormal(" + i + ").png"));
+    private static void addTexture(List<AssetDescriptor<?>> list, String path) {
+        list.add(new AssetDescriptor<>(path, Texture.class));
+    }
 
-        for (int i = 1; i <= 4; i++)
-            slimeTanqueFrames[i - 1] = new Texture(Gdx.files.internal("enemies/slimeTanque/SlimeTanque (" + i + ").png"));
+    private static Texture texture(String path) {
+        return manager.get(path, Texture.class);
+    }
 
-        for (int i = 1; i <= 4; i++)
-            slimeDivisorFrames[i - 1] = new Texture(Gdx.files.internal("enemies/slimeDivisor/SlimeDivisor (" + i + ").png"));
+    /** Música de fondo; su volumen lo controla BackgroundMusic. */
+    private static Music music(String track) {
+        return manager.get(musicFile(track), Music.class);
+    }
 
-        for (int i = 1; i <= 11; i++)
-            cornShooterFrames[i - 1] = new Texture(Gdx.files.internal("plants/cornshooter/popcornplant (" + i + ").png"));
+    private static void addMusic(List<AssetDescriptor<?>> list, String track) {
+        list.add(new AssetDescriptor<>(musicFile(track), Music.class));
+    }
 
-        for (int i = 1; i <= 16; i++)
-            papaCompletaFrames[i - 1] = new Texture(Gdx.files.internal("plants/papa/papaCompleta/PapaCompleta (" + i + ").png"));
+    /**
+     * Archivo de una pista: la versión .ogg si existe y, si no, la .wav.
+     * Se resuelve una sola vez para que la carga, la asignación y la
+     * liberación usen siempre la misma ruta.
+     */
+    private static String musicFile(String track) {
+        String file = musicFiles.get(track);
+        if (file == null) {
+            String ogg = track + ".ogg";
+            file = manager.getFileHandleResolver().resolve(ogg).exists() ? ogg : track + ".wav";
+            musicFiles.put(track, file);
+        }
+        return file;
+    }
 
-        for (int i = 1; i <= 16; i++)
-            papaComida1Frames[i - 1] = new Texture(Gdx.files.internal("plants/papa/papaComida1/PapaComida1 (" + i + ").png"));
+    private static String waterBarPath(int frame) {
+        return "ui/waterBar/WaterBar(" + frame + ").png";
+    }
 
-        for (int i = 1; i <= 16; i++)
-            papaComida2Frames[i - 1] = new Texture(Gdx.files.internal("plants/papa/papaComida2/PapaComida2 (" + i + ").png"));
+    private static boolean isLoaded(Group group) {
+        for (AssetDescriptor<?> descriptor : descriptors(group)) {
+            if (!manager.isLoaded(descriptor.fileName, descriptor.type)) return false;
+        }
+        return true;
+    }
 
-        for (int i = 1; i <= 8; i++)
-            waterPlantFrames[i - 1] = new Texture(Gdx.files.internal("plants/waterplant/WaterPLant (" + i + ").png"));
+    /**
+     * Construye (o reconstruye) todas las animaciones compartidas
+     * a partir de las texturas cargadas.
+     */
+    public static void buildAnimations() {
+        for (AnimationKey key : AnimationKey.values()) {
+            animations[key.ordinal()] = buildAnimation(key);
+        }
+    }
 
-        for (int i = 1; i <= 11; i++)
-            redBomFrames[i - 1] = new Texture(Gdx.files.internal("plants/redbom/Redbom (" + i + ").png"));
+    /**
+     * Obtiene la animación compartida de una entidad y estado.
+     *
+     * <p>
+     * Todas las instancias reciben el mismo objeto, por lo que no debe
+     * modificarse; cada entidad lleva su propio {@code stateTime}.
+     * Si aún no se ha construido (por ejemplo en modo headless),
+     * se construye en ese momento.
+     * </p>
+     *
+     * @param key entidad y estado de la animación
+     * @return animación compartida
+     */
+    public static Animation<TextureRegion> animation(AnimationKey key) {
+        Animation<TextureRegion> animation = animations[key.ordinal()];
+        if (animation == null) {
+            animation = buildAnimation(key);
+            animations[key.ordinal()] = animation;
+        }
+        return animation;
+    }
 
-        for (int i = 1; i <= 7; i++)
-            macetaFrames[i - 1] = new Texture(Gdx.files.internal("plants/maceta/Maceta(" + i + ").png"));
+    /** Crea la animación de una clave con una región por frame. */
+    private static Animation<TextureRegion> buildAnimation(AnimationKey key) {
+        TextureRegion[] regions = key.frames();
+        TextureRegion[] frames = new TextureRegion[regions.length];
+        for (int i = 0; i < regions.length; i++) {
+            // Sin atlas (modo headless) se usa una región vacía: la animación
+            // conserva su número de frames y su duración, que algunas
+            // plantas usan como temporizador de su lógica
+            frames[i] = regions[i] != null ? regions[i] : new TextureRegion();
+        }
+        Animation<TextureRegion> animation = new Animation<>(key.getFrameDuration(), frames);
+        animation.setPlayMode(key.getPlayMode());
+        return animation;
+    }
 
-        for (int i = 1; i <= 5; i++)
-            campanillaFrames[i - 1] = new Texture(Gdx.files.internal("plants/campanilla/Campanilla(" + i + ").png"));
+    /**
+     * Busca una región del atlas.
+     *
+     * @param name nombre de la región (ruta sin extensión)
+     * @return región encontrada
+     * @throws GdxRuntimeException si el atlas no la contiene
+     */
+    private static TextureRegion atlasRegion(String name) {
+        return atlasRegion(atlas, name);
+    }
 
-        for (int i = 1; i <= 16; i++)
-            champiNeutralFrames[i - 1] = new Texture(Gdx.files.internal("plants/champivoltear/framechampi/ChampiNeutral(" + i + ").png"));
+    private static TextureRegion atlasRegion(TextureAtlas source, String name) {
+        TextureRegion region = source.findRegion(name);
+        if (region == null) {
+            String path = source == bossAtlas ? BOSS_ATLAS_PATH : ATLAS_PATH;
+            throw new GdxRuntimeException("Región no encontrada en " + path + ": " + name);
+        }
+        return region;
+    }
 
-        for (int i = 1; i <= 4; i++)
-            champiAttackFrames[i - 1] = new Texture(Gdx.files.internal("plants/champivoltear/framechampiattack/ChampiAttack(" + i + ").png"));
+    /**
+     * Llena un arreglo de frames numerados desde 1 con regiones del atlas.
+     *
+     * @param frames arreglo a llenar
+     * @param prefix nombre antes del número
+     * @param suffix nombre después del número
+     */
+    private static void atlasFrames(TextureRegion[] frames, String prefix, String suffix) {
+        atlasFrames(atlas, frames, prefix, suffix);
+    }
 
-        champiDetectedTexture = new Texture(Gdx.files.internal("plants/champivoltear/framchampivoltear/Champi_voltear.png"));
+    private static void atlasFrames(TextureAtlas source, TextureRegion[] frames, String prefix, String suffix) {
+        for (int i = 1; i <= frames.length; i++) {
+            frames[i - 1] = atlasRegion(source, prefix + i + suffix);
+        }
     }
 
     public static void drawProjectile(SpriteBatch batch, float x, float y) {
@@ -216,59 +801,18 @@ public class Assets {
         batch.draw(popcornProjectile, x - width / 2f, y - height / 2f, width, height);
     }
 
+    /**
+     * Libera todos los recursos cargados, incluidas las páginas del atlas.
+     */
     public static void dispose() {
-        backgroundDay.dispose();
-        backgroundJungle.dispose();
-        backgroundNight.dispose();
-
-        popcornProjectile.dispose();
-        cornProjectileTexture.dispose();
-        petaloTexture.dispose();
-
-        for (Texture t : cornShooterFrames) t.dispose();
-        for (Texture t : papaCompletaFrames) t.dispose();
-        for (Texture t : papaComida1Frames) t.dispose();
-        for (Texture t : papaComida2Frames) t.dispose();
-        for (Texture t : waterPlantFrames) t.dispose();
-        for (Texture t : redBomFrames) t.dispose();
-        for (Texture t : macetaFrames) t.dispose();
-        for (Texture t : campanillaFrames) t.dispose();
-        for (Texture t : champiNeutralFrames) t.dispose();
-        for (Texture t : champiAttackFrames) t.dispose();
-        for (Texture t : slimeNormalFrames) t.dispose();
-        for (Texture t : slimeTanqueFrames) t.dispose();
-        for (Texture t : slimeDivisorFrames) t.dispose();
-        for (Texture t : colossusStaticFrames) t.dispose();
-
-        champiDetectedTexture.dispose();
-        lilyPadTexture.dispose();
-
-        cardCornShooter.dispose();
-        cardPapa.dispose();
-        cardWaterPlant.dispose();
-        cardRedBom.dispose();
-        cardMaceta.dispose();
-        cardCampanilla.dispose();
-        cardLilyPad.dispose();
-        cardChampi.dispose();
-        cardShovel.dispose();
-
-        selectionBarBackground.dispose();
-        emptyBar.dispose();
-        healthFill.dispose();
-        heartIcon.dispose();
-
-        victoryOverlay.dispose();
-        defeatOverlay.dispose();
-        retryButton.dispose();
-        nextLevelButton.dispose();
-
-        cornShootSound.dispose();
-        petaloShootSound.dispose();
-        explosionSound.dispose();
-        dayMusic.dispose();
-        jungleMusic.dispose();
-        nightMusic.dispose();
-        bossMusic.dispose();
+        if (manager == null) return;
+        SoundEffects.clear();
+        BackgroundMusic.clear();
+        manager.dispose();
+        manager = null;
+        if (prefetcher != null) prefetcher.dispose();
+        prefetcher = null;
+        Arrays.fill(queued, false);
+        Arrays.fill(ready, false);
     }
 }
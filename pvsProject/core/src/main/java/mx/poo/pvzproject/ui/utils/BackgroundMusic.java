@@ -0,0 +1,168 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.audio.Music;
+
+/**
+ * Música de fondo con transiciones suaves entre pistas.
+ *
+ * <p>
+ * Al cambiar de pista no se corta la anterior: la nueva empieza en
+ * silencio y durante {@link Constants#MUSIC_FADE_SECONDS} su volumen
+ * sube hasta {@link Constants#MUSIC_VOLUME} mientras el de la anterior
+ * baja a cero. La rampa avanza en {@link #update(float)} una vez por
+ * frame y solo ajusta dos volúmenes, así que el frame nunca espera a
+ * la transición. La decodificación de las pistas ya ocurre por
+ * bloques en el sistema de audio, que las va leyendo del disco.
+ * </p>
+ *
+ * <p>
+ * Al terminar la transición, la pista anterior se detiene y se
+ * ejecuta la acción indicada, normalmente liberar el grupo de
+ * recursos al que pertenecía.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class BackgroundMusic {
+
+    /** Pista que suena o que está entrando. */
+    private static Music current;
+
+    /** Pista que está saliendo, o null si no hay transición. */
+    private static Music fadingOut;
+
+    /** Volumen de la pista saliente al empezar la transición. */
+    private static float fadeOutStart;
+
+    /** Acción a ejecutar cuando la pista saliente se detiene. */
+    private static Runnable onFadedOut;
+
+    /** Segundos transcurridos de la transición en curso. */
+    private static float elapsed;
+
+    /** true mientras hay una rampa de volumen en curso. */
+    private static boolean fading;
+
+    private BackgroundMusic() {
+    }
+
+    /**
+     * Cambia a otra pista con una transición.
+     *
+     * @param track pista nueva, o null para solo apagar la actual
+     */
+    public static void play(Music track) {
+        crossfadeTo(track, null);
+    }
+
+    /**
+     * Cambia a otra pista con una transición y avisa cuando la
+     * anterior deja de sonar. Si la pista ya es la actual, solo se
+     * asegura de que suene y la acción se ejecuta de inmediato.
+     *
+     * @param track       pista nueva, o null para solo apagar la actual
+     * @param onFadedOut  acción al detenerse la pista anterior, o null
+     */
+    public static void crossfadeTo(Music track, Runnable onFadedOut) {
+        if (track != null && track == current) {
+            if (!current.isPlaying()) current.play();
+            if (onFadedOut != null) onFadedOut.run();
+            return;
+        }
+
+        // Una transición interrumpida termina de golpe
+        finishFadeOut();
+
+        fadingOut = current;
+        fadeOutStart = current != null ? current.getVolume() : 0f;
+        BackgroundMusic.onFadedOut = onFadedOut;
+
+        current = track;
+        if (current != null) {
+            current.setVolume(0f);
+            current.play();
+        }
+        elapsed = 0f;
+        fading = true;
+
+        // Sin pista saliente no hay nada que esperar
+        if (fadingOut == null) finishFadeOut();
+    }
+
+    /**
+     * Avanza la transición en curso.
+     *
+     * @param delta tiempo transcurrido desde el último frame
+     */
+    public static void update(float delta) {
+        if (!fading) return;
+
+        elapsed = Math.min(elapsed + delta, Constants.MUSIC_FADE_SECONDS);
+        float t = elapsed / Constants.MUSIC_FADE_SECONDS;
+
+        if (current != null) current.setVolume(Constants.MUSIC_VOLUME * t);
+        if (fadingOut != null) fadingOut.setVolume(fadeOutStart * (1f - t));
+
+        if (t >= 1f) {
+            fading = false;
+            finishFadeOut();
+        }
+    }
+
+    /**
+     * Vuelve a empezar la pista actual desde el inicio.
+     */
+    public static void restart() {
+        if (current == null) return;
+        current.setPosition(0f);
+        current.play();
+    }
+
+    /**
+     * Olvida una pista que está por liberarse, deteniéndola si suena.
+     *
+     * @param track pista que se liberará
+     */
+    public static void release(Music track) {
+        if (track == null) return;
+        if (track == fadingOut) finishFadeOut();
+        if (track == current) {
+            current.stop();
+            current = null;
+        }
+    }
+
+    /**
+     * Olvida todas las pistas sin ejecutar acciones pendientes. Las
+     * pistas las libera su dueño ({@link Assets}).
+     */
+    public static void clear() {
+        current = null;
+        fadingOut = null;
+        onFadedOut = null;
+        fading = false;
+    }
+
+    /**
+     * Pista que suena o que está entrando.
+     *
+     * @return pista actual, o null si no hay música
+     */
+    public static Music getCurrent() {
+        return current;
+    }
+
+    /** Detiene la pista saliente y ejecuta su acción pendiente. */
+    private static void finishFadeOut() {
+        if (fadingOut != null) {
+            fadingOut.stop();
+            fadingOut = null;
+        }
+        if (onFadedOut != null) {
+            Runnable action = onFadedOut;
+            onFadedOut = null;
+            action.run();
+        }
+    }
+}
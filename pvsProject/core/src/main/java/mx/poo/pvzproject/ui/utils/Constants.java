@@ -86,8 +86,62 @@ public class Constants {
         return GRID_START_Y + lane * CELL_HEIGHT + CELL_HEIGHT / 2f;
     }
 
+    /**
+     * Calcula la línea del grid que contiene una coordenada Y.
+     *
+     * <p>
+     * Las coordenadas fuera del grid se ajustan a la línea más cercana.
+     * </p>
+     *
+     * @param y coordenada Y en el mundo
+     * @return índice de la línea (0 a LANES - 1)
+     */
+    public static int getLane(float y) {
+        int lane = (int) Math.floor((y - GRID_START_Y) / CELL_HEIGHT);
+        return Math.max(0, Math.min(LANES - 1, lane));
+    }
+
+    /**
+     * Calcula la columna del grid que contiene una coordenada X.
+     *
+     * <p>
+     * Las coordenadas fuera del grid se ajustan a la columna más cercana.
+     * </p>
+     *
+     * @param x coordenada X en el mundo
+     * @return índice de la columna (0 a COLUMNS - 1)
+     */
+    public static int getColumn(float x) {
+        int column = (int) Math.floor((x - GRID_START_X) / CELL_WIDTH);
+        return Math.max(0, Math.min(COLUMNS - 1, column));
+    }
+
     // ===== COLISIONES / INPUT =====
 
+    /**
+     * Obtiene la línea del grid bajo una coordenada Y de entrada.
+     *
+     * @param touchY coordenada Y del toque
+     * @return índice de la línea, o -1 si está fuera del grid
+     */
+    public static int laneAt(float touchY) {
+        if (touchY < GRID_START_Y) return -1;
+        int lane = (int) ((touchY - GRID_START_Y) / CELL_HEIGHT);
+        return lane < LANES ? lane : -1;
+    }
+
+    /**
+     * Obtiene la columna del grid bajo una coordenada X de entrada.
+     *
+     * @param touchX coordenada X del toque
+     * @return índice de la columna, o -1 si está fuera del grid
+     */
+    public static int columnAt(float touchX) {
+        if (touchX < GRID_START_X) return -1;
+        int column = (int) ((touchX - GRID_START_X) / CELL_WIDTH);
+        return column < COLUMNS ? column : -1;
+    }
+
     /**
      * Verifica si una coordenada táctil se encuentra dentro
      * de una celda específica del grid.
@@ -129,6 +183,78 @@ public class Constants {
         return false;
     }
 
+    // ===== SIMULACIÓN =====
+
+    /** Pasos de simulación por segundo (paso fijo). */
+    public static final int SIM_TICK_RATE = 60;
+
+    /**
+     * Máximo de pasos de simulación por frame. Si un frame tarda más,
+     * el tiempo excedente se descarta en lugar de acumularse.
+     */
+    public static final int MAX_SIM_STEPS_PER_FRAME = 8;
+
+    // ===== CARGA =====
+
+    /** Milisegundos por frame dedicados a cargar recursos en la pantalla de carga. */
+    public static final int LOAD_BUDGET_MS = 30;
+
+    /**
+     * Milisegundos por frame dedicados a cargar recursos en segundo
+     * plano (la partida durante el menú, el siguiente bioma durante la
+     * pantalla de victoria), para no bajar de 60 FPS.
+     */
+    public static final int LOAD_BUDGET_MENU_MS = 8;
+
+    // ===== AUDIO =====
+
+    /**
+     * Voces simultáneas para efectos de sonido. OpenAL ofrece 16 fuentes
+     * en escritorio; las restantes quedan para la música. Es menor que
+     * la suma de los límites de cada efecto, así que en oleadas grandes
+     * los efectos compiten por prioridad.
+     */
+    public static final int SFX_MAX_VOICES = 8;
+
+    /** Volumen de la música de fondo, de 0 a 1. */
+    public static final float MUSIC_VOLUME = 0.2f;
+
+    /** Segundos que dura la transición entre dos pistas de música. */
+    public static final float MUSIC_FADE_SECONDS = 1.5f;
+
+    // ===== SPRITES =====
+
+    /**
+     * Resolución de los sprites reescalados en el build respecto a su
+     * tamaño en pantalla. {@code stageAtlasSources} reduce las fuentes
+     * grandes (CornShooter, WaterPlant, LilyPad, Maceta, SlimeColossus)
+     * a este múltiplo del tamaño con que se dibujan, y esas entidades
+     * las dibujan a {@code 1 / SPRITE_SUPERSAMPLE}. Debe coincidir con
+     * {@code spriteSupersample} en {@code build.gradle}.
+     */
+    public static final float SPRITE_SUPERSAMPLE = 2f;
+
+    // ===== DIAGNÓSTICO =====
+
+    /**
+     * Activa el conteo de llamadas GL por frame (cambios de textura,
+     * draw calls). Se enciende con {@code -Dpvz.profileGl=true}.
+     */
+    public static final boolean PROFILE_GL = "true".equals(System.getProperty("pvz.profileGl"));
+
+    /** Frames promediados en cada línea del registro de {@link #PROFILE_GL}. */
+    public static final int PROFILE_GL_FRAMES = 300;
+
+    /**
+     * Semilla fija para todas las partidas, o null para una semilla al
+     * azar en cada una. Se fija con {@code -Dpvz.seed=<número>} para
+     * repetir la misma secuencia de oleadas al depurar o medir.
+     */
+    public static final String FIXED_SEED = System.getProperty("pvz.seed");
+
+    /** Registros de comandos que se conservan en {@code replays/}; los más viejos se borran. */
+    public static final int REPLAY_KEEP = 20;
+
     // ===== WORLD =====
 
     /** Ancho total del mundo del juego. */
@@ -177,6 +303,16 @@ public class Constants {
     public static final float CARD_X8 = CARD_X7 + CARD_WIDTH + CARD_PADDING;
     public static final float CARD_X9 = CARD_X8 + CARD_WIDTH + 20f + CARD_PADDING;
 
+    /** Posición X de cada carta, en el orden de sus índices (la pala al final). */
+    public static final float[] CARD_XS = {
+        CARD_X1, CARD_X2, CARD_X3,
+        CARD_X4, CARD_X5, CARD_X6,
+        CARD_X7, CARD_X8, CARD_X9
+    };
+
+    /** Índice de la carta de la pala. */
+    public static final int SHOVEL_SLOT = 8;
+
     // ===== PROYECTILES =====
 
     /**
@@ -185,4 +321,11 @@ public class Constants {
      */
     public static final float PROJECTILE_END_X =
         getPlantX(COLUMNS - 1) + CELL_WIDTH;
+
+    /**
+     * Coordenada X a partir de la cual un proyectil se considera fuera
+     * de pantalla. Se expresa en coordenadas del mundo para no depender
+     * del tamaño de la ventana.
+     */
+    public static final float PROJECTILE_MAX_X = WORLD_WIDTH;
 }
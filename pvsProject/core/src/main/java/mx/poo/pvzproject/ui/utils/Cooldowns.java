@@ -1,12 +1,28 @@
 package mx.poo.pvzproject.ui.utils;
 
+import mx.poo.pvzproject.gameProcess.entities.plants.PlantSpec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
- * Clase que gestiona los tiempos de recarga (cooldowns)
- * de las diferentes plantas del juego.
+ * Tabla de tiempos de recarga (cooldowns) de las cartas del juego.
+ * <p>
+ * Cada posición del arreglo representa el tiempo restante antes de que
+ * una carta pueda volver a ser utilizada, indexada por su índice de
+ * carta (el de su {@link PlantSpec}).
+ * </p>
+ *
  * <p>
- * Cada atributo representa el tiempo restante antes de que
- * una planta pueda volver a ser utilizada.
+ * Características:
  * </p>
+ * <ul>
+ *     <li>Un solo recorrido por frame ({@link #tick(float)}) para todas las cartas.</li>
+ *     <li>Máscara de cartas listas ({@link #readyMask()}) mantenida al vuelo,
+ *     de modo que el HUD puede omitir las cartas sin recarga.</li>
+ *     <li>Aviso opcional ({@link Listener}) cuando una recarga termina.</li>
+ * </ul>
  *
  * <p>
  * Los valores se manejan en segundos y se actualizan
@@ -18,29 +34,54 @@ package mx.poo.pvzproject.ui.utils;
  */
 public class Cooldowns {
 
-    /** Tiempo de recarga de la planta tipo corn. */
-    private float corn      = 0f;
+    /**
+     * Receptor de avisos de recarga terminada.
+     */
+    public interface Listener {
+
+        /**
+         * Se invoca cuando la recarga de una carta llega a cero durante {@link #tick(float)}.
+         *
+         * @param slot índice de la carta
+         */
+        void onReady(int slot);
+    }
 
-    /** Tiempo de recarga de la planta tipo papa. */
-    private float papa      = 0f;
+    /** Máximo de cartas representables en la máscara. */
+    public static final int MAX_SLOTS = 64;
 
-    /** Tiempo de recarga de la planta tipo water. */
-    private float water     = 0f;
+    /** Tiempo de recarga restante de cada carta. */
+    private final float[] remaining;
 
-    /** Tiempo de recarga de la planta tipo redBom. */
-    private float redBom    = 0f;
+    /** Máscara con todas las cartas listas. */
+    private final long allReady;
 
-    /** Tiempo de recarga de la planta tipo lilyPad. */
-    private float lilyPad   = 0f;
+    /** Bit i encendido si la carta i está lista (recarga en cero). */
+    private long readyMask;
 
-    /** Tiempo de recarga de la planta tipo maceta. */
-    private float maceta    = 0f;
+    /** Receptor de avisos (puede ser null). */
+    private Listener listener;
 
-    /** Tiempo de recarga de la planta tipo campanilla. */
-    private float campanilla = 0f;
+    /**
+     * Crea una tabla con una posición por cada {@link PlantSpec}.
+     */
+    public Cooldowns() {
+        this(PlantSpec.count());
+    }
 
-    /** Tiempo de recarga de la planta tipo champi. */
-    private float champi    = 0f;
+    /**
+     * Crea una tabla con el número de cartas indicado.
+     *
+     * @param slots número de cartas (1 a {@link #MAX_SLOTS})
+     */
+    public Cooldowns(int slots) {
+        if (slots <= 0 || slots > MAX_SLOTS) {
+            throw new IllegalArgumentException("slots debe estar entre 1 y " + MAX_SLOTS + ": " + slots);
+        }
+        this.remaining = new float[slots];
+        this.allReady = slots == MAX_SLOTS ? -1L : (1L << slots) - 1L;
+        this.readyMask = allReady;
+    }
 
     /**
      * Reinicia todos los tiempos de recarga a cero.
@@ -50,70 +91,170 @@ public class Cooldowns {
      * </p>
      */
     public void reset() {
-        corn = papa = water = redBom = lilyPad = maceta = campanilla = champi = 0f;
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = 0f;
+        }
+        readyMask = allReady;
     }
 
-    public float getCorn() {
-        return corn;
-    }
+    /**
+     * Descuenta el tiempo transcurrido de todas las recargas activas.
+     *
+     * <p>
+     * Si todas las cartas están listas no recorre la tabla. Las recargas
+     * que llegan a cero se fijan en cero, se marcan como listas y se
+     * notifican al {@link Listener}.
+     * </p>
+     *
+     * @param delta tiempo del paso de simulación
+     */
+    public void tick(float delta) {
+        if (readyMask == allReady) return;
 
-    public void setCorn(float corn) {
-        this.corn = corn;
-    }
+        final float[] remaining = this.remaining;
+        long expired = 0L;
 
-    public float getPapa() {
-        return papa;
-    }
+        for (int i = 0; i < remaining.length; i++) {
+            float r = remaining[i] - delta;
+            // Las cartas listas ya valen 0 y siguen en 0
+            remaining[i] = Math.max(0f, r);
+            if (r <= 0f) expired |= 1L << i;
+        }
 
-    public void setPapa(float papa) {
-        this.papa = papa;
-    }
+        long newlyReady = expired & ~readyMask;
+        readyMask |= expired;
 
-    public float getWater() {
-        return water;
+        if (listener != null && newlyReady != 0L) {
+            for (int i = 0; i < remaining.length; i++) {
+                if ((newlyReady & (1L << i)) != 0L) listener.onReady(i);
+            }
+        }
     }
 
-    public void setWater(float water) {
-        this.water = water;
+    // ===== CONSULTAS =====
+
+    /**
+     * Máscara de cartas listas para usarse.
+     *
+     * @return bit i encendido si la carta i no tiene recarga pendiente
+     */
+    public long readyMask() {
+        return readyMask;
     }
 
-    public float getRedBom() {
-        return redBom;
+    /**
+     * Indica si todas las cartas están listas.
+     *
+     * @return true si ninguna carta tiene recarga pendiente
+     */
+    public boolean allReady() {
+        return readyMask == allReady;
     }
 
-    public void setRedBom(float redBom) {
-        this.redBom = redBom;
+    /**
+     * Indica si una carta está lista.
+     *
+     * @param slot índice de la carta
+     * @return true si su recarga es cero
+     */
+    public boolean isReady(int slot) {
+        return (readyMask & (1L << slot)) != 0L;
     }
 
-    public float getLilyPad() {
-        return lilyPad;
+    /**
+     * Número de cartas de la tabla.
+     *
+     * @return tamaño de la tabla
+     */
+    public int size() {
+        return remaining.length;
     }
 
-    public void setLilyPad(float lilyPad) {
-        this.lilyPad = lilyPad;
+    /**
+     * Tiempo de recarga restante de una carta.
+     *
+     * @param slot índice de la carta
+     * @return segundos restantes
+     */
+    public float get(int slot) {
+        return remaining[slot];
     }
 
-    public float getMaceta() {
-        return maceta;
+    /**
+     * Asigna el tiempo de recarga de una carta.
+     *
+     * @param slot  índice de la carta
+     * @param value segundos restantes (0 o menos la deja lista)
+     */
+    public void set(int slot, float value) {
+        long bit = 1L << slot;
+        if (value > 0f) {
+            remaining[slot] = value;
+            readyMask &= ~bit;
+        } else {
+            remaining[slot] = 0f;
+            readyMask |= bit;
+        }
     }
 
-    public void setMaceta(float maceta) {
-        this.maceta = maceta;
+    /**
+     * Tiempo de recarga restante de una planta.
+     *
+     * @param spec ficha de la planta
+     * @return segundos restantes
+     */
+    public float get(PlantSpec spec) {
+        return get(spec.getSlot());
     }
 
-    public float getCampanilla() {
-        return campanilla;
+    /**
+     * Asigna el tiempo de recarga de una planta.
+     *
+     * @param spec  ficha de la planta
+     * @param value segundos restantes
+     */
+    public void set(PlantSpec spec, float value) {
+        set(spec.getSlot(), value);
     }
 
-    public void setCampanilla(float campanilla) {
-        this.campanilla = campanilla;
+    /**
+     * Registra el receptor de avisos de recarga terminada.
+     *
+     * @param listener receptor, o null para quitarlo
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
     }
 
-    public float getChampi() {
-        return champi;
+    // ===== INSTANTÁNEAS =====
+
+    /**
+     * Escribe el tiempo restante de cada carta.
+     *
+     * @param out destino
+     * @throws IOException si falla la escritura
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeByte(remaining.length);
+        for (float r : remaining) {
+            out.writeFloat(r);
+        }
     }
 
-    public void setChampi(float champi) {
-        this.champi = champi;
+    /**
+     * Restaura los tiempos escritos por {@link #writeState(DataOutput)}
+     * y recalcula la máscara de cartas listas.
+     *
+     * @param in origen
+     * @throws IOException si falla la lectura o el número de cartas no coincide
+     */
+    public void readState(DataInput in) throws IOException {
+        int slots = in.readUnsignedByte();
+        if (slots != remaining.length) {
+            throw new IOException("Se esperaban " + remaining.length + " cartas, no " + slots);
+        }
+        for (int i = 0; i < slots; i++) {
+            set(i, in.readFloat());
+        }
     }
 }
@@ -0,0 +1,200 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cargador de texturas para {@link AssetManager} que decodifica los
+ * PNG en paralelo.
+ *
+ * <p>
+ * El administrador procesa sus tareas de una en una: con el
+ * {@link TextureLoader} estándar, cada imagen se lee y decodifica en
+ * su único hilo de fondo antes de pasar a la siguiente. Con este
+ * cargador, {@link #prefetch(String)} envía la decodificación de cada
+ * textura encolada a un pool acotado en cuanto se encola, de modo que
+ * todas las imágenes de un grupo se decodifican a la vez. Cuando el
+ * administrador llega a la textura, solo recoge el {@link Pixmap} ya
+ * decodificado y en el hilo de render hace la subida a la GPU.
+ * </p>
+ *
+ * <p>
+ * Las texturas sin precarga se decodifican como con el cargador
+ * estándar. Las texturas resultantes siguen siendo administradas:
+ * tras una pérdida de contexto se recargan desde su archivo.
+ * </p>
+ *
+ * <p>
+ * Solo se usa en escritorio; la versión web no compila esta clase
+ * y {@link Assets} la crea por nombre.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public class ParallelTextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter>
+    implements TexturePrefetcher {
+
+    /**
+     * Hilos de decodificación por defecto. Deja un núcleo libre para el
+     * hilo de render, que sube las texturas a la GPU.
+     */
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    /** Hilos que decodifican las imágenes. */
+    private final ExecutorService pool;
+
+    /** Decodificaciones en curso o terminadas, por nombre de archivo. */
+    private final ConcurrentHashMap<String, Future<Pixmap>> pending = new ConcurrentHashMap<>();
+
+    /** Datos preparados en {@code loadAsync} para el {@code loadSync} siguiente. */
+    private TextureData data;
+
+    /**
+     * Crea el cargador con {@link #DEFAULT_THREADS} hilos.
+     *
+     * @param resolver resolutor de archivos del administrador
+     */
+    public ParallelTextureLoader(FileHandleResolver resolver) {
+        this(resolver, DEFAULT_THREADS);
+    }
+
+    /**
+     * Crea el cargador y su pool de decodificación.
+     *
+     * @param resolver resolutor de archivos del administrador
+     * @param threads  número de hilos de decodificación
+     */
+    public ParallelTextureLoader(FileHandleResolver resolver, int threads) {
+        super(resolver);
+        AtomicInteger count = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "pixmap-decode-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // =============================
+    // Precarga
+    // =============================
+
+    /**
+     * Empieza a decodificar una imagen en el pool. Llamar de nuevo con
+     * el mismo archivo antes de que se cargue no hace nada.
+     *
+     * @param fileName ruta de la imagen, igual que en el descriptor del administrador
+     */
+    @Override
+    public void prefetch(String fileName) {
+        pending.computeIfAbsent(fileName, name -> pool.submit(() -> new Pixmap(resolve(name))));
+    }
+
+    /**
+     * Descarta una precarga que ya no se usará y libera su imagen.
+     *
+     * @param fileName ruta de la imagen
+     */
+    @Override
+    public void discard(String fileName) {
+        Future<Pixmap> future = pending.remove(fileName);
+        if (future == null || future.cancel(false)) return;
+        // Ya en curso o terminada: se libera cuando termine
+        pool.execute(() -> {
+            try {
+                future.get().dispose();
+            } catch (InterruptedException | ExecutionException e) {
+                // La decodificación falló o se interrumpió: no hay imagen que liberar
+            }
+        });
+    }
+
+    /**
+     * Detiene el pool y libera las imágenes precargadas que no se usaron.
+     */
+    @Override
+    public void dispose() {
+        for (String fileName : pending.keySet()) {
+            discard(fileName);
+        }
+        pool.shutdown();
+    }
+
+    // =============================
+    // AsynchronousAssetLoader
+    // =============================
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file,
+                          TextureLoader.TextureParameter parameter) {
+        Pixmap.Format format = parameter != null ? parameter.format : null;
+        boolean genMipMaps = parameter != null && parameter.genMipMaps;
+
+        if (parameter != null && parameter.textureData != null) {
+            data = parameter.textureData;
+        } else {
+            Pixmap pixmap = take(fileName);
+            data = pixmap != null
+                ? new FileTextureData(file, pixmap, format, genMipMaps)
+                : TextureData.Factory.loadFromFile(file, format, genMipMaps);
+        }
+        if (!data.isPrepared()) data.prepare();
+    }
+
+    @Override
+    public Texture loadSync(AssetManager manager, String fileName, FileHandle file,
+                            TextureLoader.TextureParameter parameter) {
+        TextureData prepared = data;
+        data = null;
+
+        Texture texture = parameter != null ? parameter.texture : null;
+        if (texture != null) {
+            texture.load(prepared);
+        } else {
+            texture = new Texture(prepared);
+        }
+        if (parameter != null) {
+            texture.setFilter(parameter.minFilter, parameter.magFilter);
+            texture.setWrap(parameter.wrapU, parameter.wrapV);
+        }
+        return texture;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file,
+                                                  TextureLoader.TextureParameter parameter) {
+        return null;
+    }
+
+    /** Recoge la imagen precargada, esperando si aún se decodifica. */
+    private Pixmap take(String fileName) {
+        Future<Pixmap> future = pending.remove(fileName);
+        if (future == null) return null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Decodificación interrumpida: " + fileName, e);
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("No se pudo decodificar " + fileName, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package mx.poo.pvzproject.ui.utils;
+
+/**
+ * Efectos de sonido del juego.
+ *
+ * <p>
+ * Cada efecto indica su archivo, su volumen y cómo comparte las
+ * voces de audio en {@link SoundEffects}: cuántas copias pueden
+ * sonar a la vez, qué prioridad tiene para quitar la voz a otro
+ * efecto cuando no quedan libres y cuánto tiempo mínimo debe pasar
+ * entre dos disparos para que el segundo se escuche.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public enum Sfx {
+
+    CORN_SHOOT("sounds/DisparoMaiz.wav", 0.8f, 4, 1, 50),
+    PETALO_SHOOT("sounds/DisparoPetalo.wav", 0.7f, 4, 1, 50),
+    EXPLOSION("sounds/Exposion.wav", 1.0f, 3, 3, 30);
+
+    /** Ruta del archivo de sonido. */
+    private final String path;
+
+    /** Volumen de reproducción, de 0 a 1. */
+    private final float volume;
+
+    /** Máximo de copias del efecto sonando a la vez. */
+    private final int maxVoices;
+
+    /** Prioridad para quitar voces a otros efectos (mayor gana). */
+    private final int priority;
+
+    /** Milisegundos mínimos entre dos disparos que suenan. */
+    private final int minIntervalMillis;
+
+    Sfx(String path, float volume, int maxVoices, int priority, int minIntervalMillis) {
+        this.path = path;
+        this.volume = volume;
+        this.maxVoices = maxVoices;
+        this.priority = priority;
+        this.minIntervalMillis = minIntervalMillis;
+    }
+
+    public String getPath() { return path; }
+
+    public float getVolume() { return volume; }
+
+    public int getMaxVoices() { return maxVoices; }
+
+    public int getPriority() { return priority; }
+
+    public int getMinIntervalMillis() { return minIntervalMillis; }
+}
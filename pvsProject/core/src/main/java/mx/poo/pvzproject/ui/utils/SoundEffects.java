@@ -0,0 +1,232 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reproducción de efectos de sonido con voces limitadas.
+ *
+ * <p>
+ * Los efectos se cargan como {@link Sound}: se decodifican una vez a
+ * un búfer en memoria y cada disparo solo ocupa una voz, sin tocar el
+ * decodificador. Para que el costo del audio no crezca con el número
+ * de plantas, cada disparo pasa por tres filtros:
+ * </p>
+ * <ul>
+ *     <li>Antirrebote: un efecto que se repite antes de
+ *     {@link Sfx#getMinIntervalMillis()} se ignora, porque sonaría
+ *     encima del anterior sin distinguirse.</li>
+ *     <li>Límite por efecto: si ya suenan {@link Sfx#getMaxVoices()}
+ *     copias, la más antigua se corta y su voz se reutiliza.</li>
+ *     <li>Límite global de {@link Constants#SFX_MAX_VOICES} voces: si
+ *     no queda ninguna libre, se corta la de menor prioridad (y entre
+ *     iguales, la más antigua); si todas tienen más prioridad que el
+ *     nuevo efecto, este no suena.</li>
+ * </ul>
+ *
+ * <p>
+ * Cada voz se da por terminada al cumplirse la duración del sonido,
+ * leída de la cabecera WAV al registrarlo. Sin sonidos registrados
+ * (modo headless) todas las llamadas son inocuas.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class SoundEffects {
+
+    /** Duración supuesta si el archivo no es un WAV legible. */
+    private static final long DEFAULT_DURATION_NANOS = 1_000_000_000L;
+
+    private static final Sound[] sounds = new Sound[Sfx.values().length];
+    private static final long[] durationNanos = new long[Sfx.values().length];
+    private static final long[] lastPlayNanos = new long[Sfx.values().length];
+    private static final boolean[] played = new boolean[Sfx.values().length];
+
+    // =============================
+    // Tabla de voces
+    // =============================
+
+    private static final Sfx[] voiceSfx = new Sfx[Constants.SFX_MAX_VOICES];
+    private static final long[] voiceId = new long[Constants.SFX_MAX_VOICES];
+    private static final long[] voiceStart = new long[Constants.SFX_MAX_VOICES];
+    private static final long[] voiceEnd = new long[Constants.SFX_MAX_VOICES];
+
+    private SoundEffects() {
+    }
+
+    /**
+     * Registra el sonido cargado de un efecto.
+     *
+     * @param sfx   efecto
+     * @param sound sonido ya cargado
+     * @param file  archivo del sonido, para conocer su duración
+     */
+    public static void bind(Sfx sfx, Sound sound, FileHandle file) {
+        bind(sfx, sound, wavDurationNanos(file));
+    }
+
+    /**
+     * Registra el sonido de un efecto con una duración conocida.
+     *
+     * @param sfx           efecto
+     * @param sound         sonido ya cargado
+     * @param durationNanos duración del sonido en nanosegundos
+     */
+    static void bind(Sfx sfx, Sound sound, long durationNanos) {
+        sounds[sfx.ordinal()] = sound;
+        SoundEffects.durationNanos[sfx.ordinal()] = durationNanos;
+        played[sfx.ordinal()] = false;
+    }
+
+    /**
+     * Olvida todos los sonidos y voces. Los sonidos los libera su dueño
+     * ({@link Assets}).
+     */
+    public static void clear() {
+        Arrays.fill(sounds, null);
+        Arrays.fill(played, false);
+        Arrays.fill(voiceSfx, null);
+    }
+
+    /**
+     * Reproduce un efecto si los límites lo permiten.
+     *
+     * @param sfx efecto
+     * @return true si empezó a sonar
+     */
+    public static boolean play(Sfx sfx) {
+        return play(sfx, TimeUtils.nanoTime());
+    }
+
+    /**
+     * Reproduce un efecto en un instante dado.
+     *
+     * @param sfx efecto
+     * @param now instante actual en nanosegundos
+     * @return true si empezó a sonar
+     */
+    static boolean play(Sfx sfx, long now) {
+        int i = sfx.ordinal();
+        Sound sound = sounds[i];
+        if (sound == null) return false;
+
+        if (played[i] && now - lastPlayNanos[i] < sfx.getMinIntervalMillis() * 1_000_000L) return false;
+
+        int slot = pickVoice(sfx, now);
+        if (slot < 0) return false;
+
+        Sfx stolen = voiceSfx[slot];
+        if (stolen != null && voiceEnd[slot] > now) {
+            sounds[stolen.ordinal()].stop(voiceId[slot]);
+        }
+        voiceSfx[slot] = null;
+
+        long id = sound.play(sfx.getVolume());
+        if (id == -1) return false; // el dispositivo no tiene fuentes libres
+
+        voiceSfx[slot] = sfx;
+        voiceId[slot] = id;
+        voiceStart[slot] = now;
+        voiceEnd[slot] = now + durationNanos[i];
+        lastPlayNanos[i] = now;
+        played[i] = true;
+        return true;
+    }
+
+    /**
+     * Voces que siguen sonando de un efecto.
+     *
+     * @param sfx efecto
+     * @param now instante actual en nanosegundos
+     * @return número de voces activas
+     */
+    static int activeVoices(Sfx sfx, long now) {
+        int count = 0;
+        for (int v = 0; v < voiceSfx.length; v++) {
+            if (voiceSfx[v] == sfx && voiceEnd[v] > now) count++;
+        }
+        return count;
+    }
+
+    // =============================
+    // Internos
+    // =============================
+
+    /** Elige la voz para un efecto nuevo, o -1 si no debe sonar. */
+    private static int pickVoice(Sfx sfx, long now) {
+        int free = -1;
+        int same = 0;
+        int oldestSame = -1;
+        int victim = -1;
+
+        for (int v = 0; v < voiceSfx.length; v++) {
+            Sfx current = voiceSfx[v];
+            if (current == null || voiceEnd[v] <= now) {
+                if (free < 0) free = v;
+                continue;
+            }
+            if (current == sfx) {
+                same++;
+                if (oldestSame < 0 || voiceStart[v] < voiceStart[oldestSame]) oldestSame = v;
+            }
+            if (current.getPriority() <= sfx.getPriority() && (victim < 0 || weaker(v, victim))) {
+                victim = v;
+            }
+        }
+
+        if (same >= sfx.getMaxVoices()) return oldestSame;
+        if (free >= 0) return free;
+        return victim;
+    }
+
+    /** true si la voz a es mejor candidata a cortarse que la voz b. */
+    private static boolean weaker(int a, int b) {
+        int pa = voiceSfx[a].getPriority();
+        int pb = voiceSfx[b].getPriority();
+        if (pa != pb) return pa < pb;
+        return voiceStart[a] < voiceStart[b];
+    }
+
+    /**
+     * Duración de un WAV PCM según su cabecera.
+     *
+     * @param file archivo de sonido
+     * @return duración en nanosegundos, o un segundo si no es un WAV legible
+     */
+    private static long wavDurationNanos(FileHandle file) {
+        try (InputStream stream = file.read()) {
+            DataInputStream in = new DataInputStream(stream);
+            byte[] id = new byte[4];
+            in.readFully(id);
+            if (!new String(id, "US-ASCII").equals("RIFF")) return DEFAULT_DURATION_NANOS;
+            in.skipBytes(8); // tamaño y "WAVE"
+
+            long byteRate = 0;
+            while (true) {
+                in.readFully(id);
+                long size = Integer.reverseBytes(in.readInt()) & 0xFFFFFFFFL;
+                String chunk = new String(id, "US-ASCII");
+                if (chunk.equals("fmt ")) {
+                    in.skipBytes(4); // formato y canales
+                    in.skipBytes(4); // frecuencia de muestreo
+                    byteRate = Integer.reverseBytes(in.readInt()) & 0xFFFFFFFFL;
+                    in.skipBytes((int) size - 12);
+                } else if (chunk.equals("data")) {
+                    return byteRate > 0 ? size * 1_000_000_000L / byteRate : DEFAULT_DURATION_NANOS;
+                } else {
+                    in.skipBytes((int) (size + (size & 1)));
+                }
+            }
+        } catch (IOException | GdxRuntimeException e) {
+            return DEFAULT_DURATION_NANOS;
+        }
+    }
+}
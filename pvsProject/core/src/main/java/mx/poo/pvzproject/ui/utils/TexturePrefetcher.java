@@ -0,0 +1,37 @@
+package mx.poo.pvzproject.ui.utils;
+
+/**
+ * Decodificación anticipada de las imágenes encoladas en
+ * {@link Assets}.
+ *
+ * <p>
+ * Solo existe en escritorio ({@link ParallelTextureLoader}); en el
+ * navegador no hay hilos para decodificar, {@link Assets} usa el
+ * cargador estándar y no hay precarga.
+ * </p>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public interface TexturePrefetcher {
+
+    /**
+     * Empieza a decodificar una imagen antes de que el administrador
+     * llegue a ella.
+     *
+     * @param fileName ruta de la imagen
+     */
+    void prefetch(String fileName);
+
+    /**
+     * Descarta una precarga que ya no se usará.
+     *
+     * @param fileName ruta de la imagen
+     */
+    void discard(String fileName);
+
+    /**
+     * Libera los hilos y las imágenes precargadas sin usar.
+     */
+    void dispose();
+}
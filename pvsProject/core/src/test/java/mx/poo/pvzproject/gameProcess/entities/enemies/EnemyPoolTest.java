@@ -0,0 +1,64 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.NormalSlime;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeRapido;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyPoolTest {
+
+    @Test
+    void releasedEnemyShouldBeReusedWithFullState() {
+        EnemyPool pool = new EnemyPool(SlimeRapido::new);
+        Enemy first = pool.obtain(1380f, 128f);
+        first.setEating(true);
+        first.update(1f);
+        first.takeDamage(first.getMaxHealth());
+        assertTrue(first.isDead());
+
+        EnemyPool.release(first);
+        Enemy second = pool.obtain(1000f, 238f);
+
+        assertSame(first, second);
+        assertEquals(1000f, second.getX());
+        assertEquals(238f, second.getY());
+        assertEquals(second.getMaxHealth(), second.getHealth());
+        assertFalse(second.isDead());
+
+        // Vuelve a avanzar: ya no está comiendo
+        second.update(1f);
+        assertTrue(second.getX() < 1000f);
+    }
+
+    @Test
+    void reuseShouldChangeGeneration() {
+        EnemyPool pool = new EnemyPool(NormalSlime::new);
+        Enemy e = pool.obtain(0f, 0f);
+        int generation = e.getGeneration();
+        EnemyPool.release(e);
+        assertNotEquals(generation, pool.obtain(0f, 0f).getGeneration());
+    }
+
+    @Test
+    void enemiesCreatedOutsidePoolShouldBeIgnored() {
+        EnemyPool pool = new EnemyPool(NormalSlime::new);
+        Enemy standalone = new NormalSlime(0f, 0f);
+        EnemyPool.release(standalone);
+        assertEquals(0, pool.getFree());
+    }
+
+    @Test
+    void releaseAllShouldReturnEveryEnemyAndClearList() {
+        EnemyPool pool = new EnemyPool(NormalSlime::new);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) enemies.add(pool.obtain(i, 0f));
+
+        EnemyPool.releaseAll(enemies);
+
+        assertTrue(enemies.isEmpty());
+        assertEquals(5, pool.getFree());
+    }
+}
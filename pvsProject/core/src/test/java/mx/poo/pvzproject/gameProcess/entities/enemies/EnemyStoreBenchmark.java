@@ -0,0 +1,81 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.NormalSlime;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeRapido;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeTanque;
+
+import java.util.ArrayList;
+
+/**
+ * Micro-benchmark del movimiento de enemigos.
+ *
+ * <p>
+ * Compara la actualización objeto por objeto ({@link Enemy#update(float)}
+ * sobre una lista con slimes de varios tipos) contra el recorrido en bloque
+ * de {@link EnemyStore#advance(float)}. No forma parte de la suite de tests;
+ * se ejecuta a mano:
+ * </p>
+ *
+ * <pre>
+ * java -cp core/build/classes/java/main:core/build/classes/java/test:gdx.jar \
+ *     mx.poo.pvzproject.gameProcess.entities.enemies.EnemyStoreBenchmark [enemigos]
+ * </pre>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class EnemyStoreBenchmark {
+
+    private static final int ROUNDS = 10;
+    private static final int STEPS_PER_ROUND = 2_000;
+    private static final float STEP = 1f / 60f;
+
+    private EnemyStoreBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+
+        ArrayList<Enemy> objects = spawn(count);
+        ArrayList<Enemy> stored = spawn(count);
+        EnemyStore store = new EnemyStore(count);
+        store.sync(stored);
+
+        long objectBest = Long.MAX_VALUE;
+        long storeBest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int s = 0; s < STEPS_PER_ROUND; s++) {
+                for (int i = 0, n = objects.size(); i < n; i++) objects.get(i).update(STEP);
+            }
+            objectBest = Math.min(objectBest, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int s = 0; s < STEPS_PER_ROUND; s++) store.advance(STEP);
+            storeBest = Math.min(storeBest, System.nanoTime() - start);
+        }
+
+        double updates = (double) count * STEPS_PER_ROUND;
+        System.out.printf("enemigos: %d%n", count);
+        System.out.printf("objetos:  %.2f ns/enemigo%n", objectBest / updates);
+        System.out.printf("arreglos: %.2f ns/enemigo%n", storeBest / updates);
+        System.out.println("(control " + (objects.get(0).getX() + stored.get(0).getX()) + ")");
+    }
+
+    private static ArrayList<Enemy> spawn(int count) {
+        ArrayList<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float x = 1380f + (i % 97);
+            float y = 128f + (i % 5) * 110f;
+            Enemy e;
+            switch (i % 3) {
+                case 0: e = new NormalSlime(x, y); break;
+                case 1: e = new SlimeTanque(x, y); break;
+                default: e = new SlimeRapido(x, y); break;
+            }
+            if (i % 7 == 0) e.setEating(true);
+            enemies.add(e);
+        }
+        return enemies;
+    }
+}
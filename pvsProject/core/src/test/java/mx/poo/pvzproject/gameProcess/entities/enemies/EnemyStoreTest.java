@@ -0,0 +1,140 @@
+package mx.poo.pvzproject.gameProcess.entities.enemies;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyStoreTest {
+
+    private static Enemy enemy(float x, float y, int health, float speed) {
+        return new Enemy(x, y, health, speed) {
+            @Override
+            protected void loadAnimation() {
+            }
+        };
+    }
+
+    @Test
+    void syncShouldBindEnemiesKeepingTheirState() {
+        Enemy e = enemy(500f, 128f, 80, 30f);
+        e.setEating(true);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(e);
+
+        EnemyStore store = new EnemyStore(1);
+        store.sync(enemies);
+
+        assertEquals(1, store.size());
+        assertSame(e, store.get(0));
+        assertEquals(500f, e.getX());
+        assertEquals(128f, e.getY());
+        assertEquals(80, e.getHealth());
+        assertTrue(e.isEating());
+    }
+
+    @Test
+    void advanceShouldMoveOnlyEnemiesThatAreNotEating() {
+        Enemy walking = enemy(500f, 0f, 100, 30f);
+        Enemy eating = enemy(500f, 0f, 100, 30f);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(walking);
+        enemies.add(eating);
+
+        EnemyStore store = new EnemyStore();
+        store.sync(enemies);
+        eating.setEating(true);
+        store.advance(0.5f);
+
+        assertEquals(485f, walking.getX(), 0.0001f);
+        assertEquals(500f, eating.getX(), 0.0001f);
+        assertEquals(0.5f, walking.getStateTime(), 0.0001f);
+    }
+
+    @Test
+    void damageShouldGoThroughTheStore() {
+        Enemy e = enemy(500f, 0f, 100, 30f);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(e);
+        EnemyStore store = new EnemyStore();
+        store.sync(enemies);
+
+        e.takeDamage(40);
+        store.applyDamage(0, 60);
+
+        assertTrue(e.isDead());
+    }
+
+    @Test
+    void compactShouldRemoveFinishedEnemiesInOrderAndDetachThem() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) enemies.add(enemy(100f * i, 0f, 100, 30f));
+        EnemyStore store = new EnemyStore();
+        store.sync(enemies);
+
+        Enemy dead = enemies.get(1);
+        dead.takeDamage(100);
+
+        assertEquals(1, store.compact());
+        assertEquals(4, store.size());
+        assertSame(enemies.get(0), store.get(0));
+        assertSame(enemies.get(2), store.get(1));
+        assertEquals(200f, store.get(1).getX());
+
+        // El enemigo retirado conserva su estado final
+        assertTrue(dead.isDead());
+        assertEquals(100f, dead.getX());
+    }
+
+    @Test
+    void syncShouldFollowListRemovalsAndAppends() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 4; i++) enemies.add(enemy(100f * i, 0f, 100, 30f));
+        EnemyStore store = new EnemyStore(2);
+        store.sync(enemies);
+
+        Enemy removed = enemies.remove(0);
+        enemies.add(enemy(900f, 0f, 50, 10f));
+        store.sync(enemies);
+
+        assertEquals(4, store.size());
+        for (int i = 0; i < enemies.size(); i++) {
+            assertSame(enemies.get(i), store.get(i));
+        }
+        assertEquals(100f, enemies.get(0).getX());
+        assertEquals(900f, enemies.get(3).getX());
+        assertEquals(0f, removed.getX());
+    }
+
+    @Test
+    void bulkAdvanceShouldMatchPerObjectUpdate() {
+        Random random = new Random(3);
+        ArrayList<Enemy> viaStore = new ArrayList<>();
+        ArrayList<Enemy> viaObjects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            float x = 300f + random.nextFloat() * 900f;
+            float speed = 5f + random.nextFloat() * 40f;
+            boolean eating = random.nextInt(4) == 0;
+            Enemy a = enemy(x, 0f, 100, speed);
+            Enemy b = enemy(x, 0f, 100, speed);
+            a.setEating(eating);
+            b.setEating(eating);
+            viaStore.add(a);
+            viaObjects.add(b);
+        }
+
+        EnemyStore store = new EnemyStore();
+        store.sync(viaStore);
+        for (int step = 0; step < 120; step++) {
+            store.advance(1f / 60f);
+            for (Enemy e : viaObjects) e.update(1f / 60f);
+        }
+
+        for (int i = 0; i < viaStore.size(); i++) {
+            assertEquals(viaObjects.get(i).getX(), viaStore.get(i).getX());
+            assertEquals(viaObjects.get(i).getStateTime(), viaStore.get(i).getStateTime());
+        }
+    }
+}
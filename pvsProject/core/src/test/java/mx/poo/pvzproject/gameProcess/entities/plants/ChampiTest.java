@@ -0,0 +1,70 @@
+package mx.poo.pvzproject.gameProcess.entities.plants;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.managers.EnemyLaneIndex;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChampiTest {
+
+    private static final int LANE = 2;
+    private static final float X = 500f;
+
+    // Enemigo sin animación para no depender de texturas
+    private Enemy enemy(float x) {
+        return new Enemy(x, Constants.getPlantY(LANE), 100, 30f) {
+            @Override
+            protected void loadAnimation() { }
+        };
+    }
+
+    @Test
+    void shouldPreferEnemyAheadOverEnemyBehind() throws IOException {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(X - 100f));
+        enemies.add(enemy(X + 130f));
+        enemies.add(enemy(X + 40f));
+
+        assertEquals(2, targetAfterIdle(enemies));
+    }
+
+    @Test
+    void shouldTakeEnemyBehindWhenNoneAhead() throws IOException {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(X + 200f)); // fuera de rango
+        enemies.add(enemy(X - 60f));
+
+        assertEquals(1, targetAfterIdle(enemies));
+    }
+
+    @Test
+    void shouldIgnoreEnemiesOutOfRange() throws IOException {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(X - 200f));
+        enemies.add(enemy(X + 200f));
+
+        assertEquals(-1, targetAfterIdle(enemies));
+    }
+
+    /** Índice del objetivo elegido tras un paso en IDLE, o -1. */
+    private int targetAfterIdle(ArrayList<Enemy> enemies) throws IOException {
+        Champi champi = new Champi(X, Constants.getPlantY(LANE));
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+        champi.act(0f, new ArrayList<>(), index);
+
+        // El objetivo es lo último que escribe la instantánea
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        champi.writeState(new DataOutputStream(bytes), enemies);
+        byte[] state = bytes.toByteArray();
+        return ByteBuffer.wrap(state, state.length - 4, 4).getInt();
+    }
+}
@@ -0,0 +1,42 @@
+package mx.poo.pvzproject.gameProcess.entities.plants;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlantSpecTest {
+
+    // --- fichas por carta ---
+
+    @Test
+    void slotsShouldFollowCardOrder() {
+        assertSame(PlantSpec.CORN_SHOOTER, PlantSpec.forSlot(0));
+        assertSame(PlantSpec.LILY_PAD, PlantSpec.forSlot(4));
+        assertSame(PlantSpec.CHAMPI, PlantSpec.forSlot(7));
+        assertEquals(8, PlantSpec.count());
+    }
+
+    @Test
+    void forSlotOutsideRangeShouldReturnNull() {
+        assertNull(PlantSpec.forSlot(-1));
+        assertNull(PlantSpec.forSlot(8)); // pala
+    }
+
+    // --- fábrica ---
+
+    @Test
+    void createShouldBuildPlantAtPosition() {
+        Plant p = PlantSpec.CAMPANILLA.create(100f, 200f);
+        assertInstanceOf(Campanilla.class, p);
+        assertEquals(100f, p.getX(), 0.01f);
+        assertEquals(200f, p.getY(), 0.01f);
+    }
+
+    @Test
+    void supportsShouldDeclareTerrain() {
+        assertEquals(PlantSpec.Terrain.WATER_SUPPORT, PlantSpec.LILY_PAD.getTerrain());
+        assertEquals(PlantSpec.Terrain.STONE_SUPPORT, PlantSpec.MACETA.getTerrain());
+        assertFalse(PlantSpec.CORN_SHOOTER.isSupport());
+        assertEquals(2, PlantSpec.LILY_PAD.getCost());
+    }
+}
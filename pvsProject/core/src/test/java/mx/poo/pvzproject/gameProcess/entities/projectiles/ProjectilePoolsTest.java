@@ -0,0 +1,65 @@
+package mx.poo.pvzproject.gameProcess.entities.projectiles;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectilePoolsTest {
+
+    @Test
+    void freedProjectileShouldBeReusedAndReinitialized() {
+        Projectile first = ProjectilePools.obtain(100f, 200f, 15, 300f);
+        ProjectilePools.free(first);
+
+        Projectile second = ProjectilePools.obtain(50f, 80f, 30, 400f);
+        assertSame(first, second);
+        assertEquals(50f, second.getX());
+        assertEquals(80f, second.getY());
+        assertEquals(30, second.getDamage());
+        ProjectilePools.free(second);
+    }
+
+    @Test
+    void resetShouldClearState() {
+        Projectile p = ProjectilePools.obtain(100f, 200f, 15, 300f);
+        p.reset();
+        assertEquals(0f, p.getX());
+        assertEquals(0f, p.getY());
+        assertEquals(0, p.getDamage());
+        ProjectilePools.free(p);
+    }
+
+    @Test
+    void petalsShouldReturnToTheirOwnPool() {
+        int freeBefore = ProjectilePools.getFreePetals();
+        PetalProjectile petal = ProjectilePools.obtainPetal(10f, 20f, 20);
+        ProjectilePools.free(petal);
+        assertEquals(Math.max(freeBefore, 1), ProjectilePools.getFreePetals());
+        assertSame(petal, ProjectilePools.obtainPetal(0f, 0f, 20));
+        ProjectilePools.free(petal);
+    }
+
+    @Test
+    void freeAllShouldEmptyList() {
+        ArrayList<Projectile> list = new ArrayList<>();
+        list.add(ProjectilePools.obtain(0f, 0f, 1, 1f));
+        list.add(ProjectilePools.obtainPetal(0f, 0f, 1));
+        ProjectilePools.freeAll(list);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void prewarmShouldOnlyTopUpToTarget() {
+        ProjectilePools.prewarm(40);
+        int projectiles = ProjectilePools.getFreeProjectiles();
+        int petals = ProjectilePools.getFreePetals();
+        assertTrue(projectiles >= 80);
+        assertTrue(petals >= 120);
+
+        ProjectilePools.prewarm(40);
+        assertEquals(projectiles, ProjectilePools.getFreeProjectiles());
+        assertEquals(petals, ProjectilePools.getFreePetals());
+    }
+}
@@ -0,0 +1,151 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.entities.plants.CornShooter;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
+import mx.poo.pvzproject.gameProcess.spawn.EnemyType;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessSimulationTest {
+
+    @AfterEach
+    void resetLevel() {
+        Constants.CURRENT_LEVEL = 1;
+    }
+
+    @Test
+    void levelWithoutDefensesShouldEndInDefeat() {
+        HeadlessSimulation sim = new HeadlessSimulation(1);
+        assertEquals(HeadlessSimulation.Outcome.DEFEAT, sim.run(3600f));
+    }
+
+    @Test
+    void runShouldStopAtTimeLimit() {
+        HeadlessSimulation sim = new HeadlessSimulation(1);
+        assertEquals(HeadlessSimulation.Outcome.TIMEOUT, sim.run(1f));
+        assertEquals(Constants.SIM_TICK_RATE, sim.getTick());
+    }
+
+    @Test
+    void scheduledCommandsShouldPlacePlants() {
+        HeadlessSimulation sim = new HeadlessSimulation(1);
+        sim.schedule(0, InputCommand.selectCard(0));
+        sim.schedule(0, InputCommand.place(2, 3));
+        sim.step();
+
+        assertEquals(1, sim.getContext().getPlants().size());
+        Plant plant = sim.getContext().getPlants().get(0);
+        assertTrue(plant instanceof CornShooter);
+        assertEquals(Constants.getPlantX(3), plant.getX(), 0.001f);
+        assertEquals(Constants.getPlantY(2), plant.getY(), 0.001f);
+    }
+
+    @Test
+    void shovelShouldRemovePlacedPlant() {
+        HeadlessSimulation sim = new HeadlessSimulation(1);
+        sim.schedule(0, InputCommand.selectCard(0));
+        sim.schedule(0, InputCommand.place(1, 1));
+        sim.schedule(1, InputCommand.selectCard(8));
+        sim.schedule(1, InputCommand.place(1, 1));
+        sim.step();
+        sim.step();
+
+        assertTrue(sim.getContext().getPlants().isEmpty());
+        assertTrue(sim.getContext().getManagers().grid.isEmpty(1, 1));
+    }
+
+    @Test
+    void sameSeedAndCommandsShouldReplayIdentically() {
+        HeadlessSimulation a = cornSimulation(2, 2024L);
+        HeadlessSimulation b = cornSimulation(2, 2024L);
+
+        assertEquals(a.run(900f), b.run(900f));
+        assertEquals(a.getTick(), b.getTick());
+        assertEquals(a.getContext().getSeed(), b.getContext().getSeed());
+    }
+
+    @Test
+    void parallelModeShouldMatchSerialRun() {
+        HeadlessSimulation serial = cornSimulation(3, 77L);
+        HeadlessSimulation parallel = cornSimulation(3, 77L);
+        assertSameStateEveryTicks(serial, parallel, 900f, 30);
+    }
+
+    @Test
+    void parallelModeShouldMatchSerialRunWithChunkedHorde() {
+        HeadlessSimulation serial = cornSimulation(1, 5L);
+        HeadlessSimulation parallel = cornSimulation(1, 5L);
+        int horde = 3 * ParallelTick.MIN_CHUNK + 123;
+        addHorde(serial, horde);
+        addHorde(parallel, horde);
+
+        assertSameStateEveryTicks(serial, parallel, 5f, 30);
+        // El almacén superó 2 * MIN_CHUNK: el avance de enemigos se repartió en tramos
+        assertTrue(serial.getContext().getManagers().enemyStore.size() >= 2 * ParallelTick.MIN_CHUNK);
+    }
+
+    @Test
+    void parallelTickShouldSurviveRestart() {
+        HeadlessSimulation sim = cornSimulation(1, 3L);
+        ParallelTick tick = new ParallelTick(2);
+        try {
+            sim.setParallelTick(tick);
+            sim.getContext().restartAfterGameOver();
+            assertSame(tick, sim.getContext().getManagers().gameUpdater.getParallelTick());
+
+            sim.setParallelTick(null);
+            sim.getContext().restartAfterGameOver();
+            assertNull(sim.getContext().getManagers().gameUpdater.getParallelTick());
+        } finally {
+            tick.shutdown();
+        }
+    }
+
+    /**
+     * Avanza ambas simulaciones (la segunda en modo paralelo) y compara
+     * la instantánea completa del estado cada {@code every} pasos.
+     */
+    private void assertSameStateEveryTicks(HeadlessSimulation serial, HeadlessSimulation parallel,
+                                           float seconds, int every) {
+        ParallelTick tick = new ParallelTick(3);
+        try {
+            parallel.setParallelTick(tick);
+            int maxTicks = (int) Math.ceil(seconds * Constants.SIM_TICK_RATE);
+            while (serial.getContext().isGameActive() && serial.getTick() < maxTicks) {
+                serial.step();
+                parallel.step();
+                if (serial.getTick() % every == 0) {
+                    assertArrayEquals(serial.snapshot(), parallel.snapshot(), "paso " + serial.getTick());
+                }
+            }
+            assertEquals(serial.getOutcome(), parallel.getOutcome());
+            assertArrayEquals(serial.snapshot(), parallel.snapshot(), "paso " + serial.getTick());
+        } finally {
+            tick.shutdown();
+        }
+    }
+
+    /** Agrega una horda de enemigos repartida en todas las líneas. */
+    private void addHorde(HeadlessSimulation sim, int count) {
+        EnemyType[] types = {EnemyType.NORMAL, EnemyType.TANQUE, EnemyType.RAPIDO};
+        for (int i = 0; i < count; i++) {
+            int lane = i % Constants.LANES;
+            float x = Constants.WORLD_WIDTH + (i * 37 % 2000);
+            sim.getContext().getEnemies().add(types[i % types.length].obtain(x, Constants.getPlantY(lane)));
+        }
+    }
+
+    /** Simulación que coloca un CornShooter por segundo en la primera columna. */
+    private HeadlessSimulation cornSimulation(int level, long seed) {
+        HeadlessSimulation sim = new HeadlessSimulation(level, seed);
+        sim.schedule(0, InputCommand.selectCard(0));
+        for (int t = 0; t < 900 * Constants.SIM_TICK_RATE; t += Constants.SIM_TICK_RATE) {
+            sim.schedule(t, InputCommand.place((t / Constants.SIM_TICK_RATE) % Constants.LANES, 0));
+        }
+        return sim;
+    }
+}
@@ -0,0 +1,55 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTickTest {
+
+    private ParallelTick parallel;
+
+    @BeforeEach
+    void setUp() {
+        parallel = new ParallelTick(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallel.shutdown();
+    }
+
+    @Test
+    void forEachLaneShouldRunEveryLaneOnce() {
+        int[] runs = new int[Constants.LANES];
+        parallel.forEachLane(lane -> runs[lane]++);
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            assertEquals(1, runs[lane]);
+        }
+    }
+
+    @Test
+    void forRangeShouldCoverEveryIndexExactlyOnce() {
+        int size = ParallelTick.MIN_CHUNK * 5 + 17;
+        int[] hits = new int[size];
+        AtomicInteger chunks = new AtomicInteger();
+        parallel.forRange(size, (from, to) -> {
+            chunks.incrementAndGet();
+            for (int i = from; i < to; i++) hits[i]++;
+        });
+        for (int i = 0; i < size; i++) assertEquals(1, hits[i]);
+        assertTrue(chunks.get() > 1);
+    }
+
+    @Test
+    void smallRangeShouldRunInline() {
+        AtomicInteger chunks = new AtomicInteger();
+        parallel.forRange(10, (from, to) -> chunks.incrementAndGet());
+        parallel.forRange(0, (from, to) -> chunks.incrementAndGet());
+        assertEquals(1, chunks.get());
+    }
+}
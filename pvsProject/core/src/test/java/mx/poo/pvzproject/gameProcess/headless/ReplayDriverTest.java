@@ -0,0 +1,44 @@
+package mx.poo.pvzproject.gameProcess.headless;
+
+import mx.poo.pvzproject.gameProcess.input.CommandLog;
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayDriverTest {
+
+    @AfterEach
+    void resetLevel() {
+        Constants.CURRENT_LEVEL = 1;
+    }
+
+    @Test
+    void replayOfRecordedSessionShouldMatchOriginal() throws IOException {
+        // Sesión original grabando los comandos aplicados
+        HeadlessSimulation original = new HeadlessSimulation(2, 31L);
+        CommandLog recorded = new CommandLog(2, 31L);
+        original.getContext().getManagers().gameUpdater.setRecorder(recorded);
+        original.schedule(0, InputCommand.selectCard(0));
+        for (int t = 0; t < 600 * Constants.SIM_TICK_RATE; t += Constants.SIM_TICK_RATE) {
+            original.schedule(t, InputCommand.place((t / Constants.SIM_TICK_RATE) % Constants.LANES, 0));
+        }
+        HeadlessSimulation.Outcome outcome = original.run(600f);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorded.write(out);
+        CommandLog log = CommandLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        ReplayDriver driver = new ReplayDriver(log);
+        assertEquals(outcome, driver.runMaxSpeed(600f));
+        assertEquals(original.getTick(), driver.getSimulation().getTick());
+        assertEquals(original.getContext().getPlants().size(), driver.getSimulation().getContext().getPlants().size());
+        assertTrue(driver.getSlowestTick() >= 0);
+    }
+}
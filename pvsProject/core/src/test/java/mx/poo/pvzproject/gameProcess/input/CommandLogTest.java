@@ -0,0 +1,59 @@
+package mx.poo.pvzproject.gameProcess.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandLogTest {
+
+    private static byte[] bytes(CommandLog log) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void writeAndReadShouldRoundTrip() throws IOException {
+        CommandLog log = new CommandLog(4, -123456789L);
+        log.record(0, InputCommand.selectCard(3));
+        log.record(0, InputCommand.place(2, 7));
+        log.record(450, InputCommand.selectCard(8));
+        log.record(100_000, InputCommand.place(4, 0));
+
+        CommandLog read = CommandLog.read(new ByteArrayInputStream(bytes(log)));
+
+        assertEquals(4, read.getLevel());
+        assertEquals(-123456789L, read.getSeed());
+        assertEquals(log.size(), read.size());
+        for (int i = 0; i < log.size(); i++) {
+            assertEquals(log.getTick(i), read.getTick(i));
+            assertEquals(log.getCommand(i), read.getCommand(i));
+        }
+    }
+
+    @Test
+    void commandsShouldBeCompact() throws IOException {
+        CommandLog log = new CommandLog(1, 0L);
+        for (int t = 0; t < 1000; t++) log.record(t * 60, InputCommand.place(t % 5, t % 10));
+
+        // cabecera de 14 bytes + 4 bytes por colocación
+        assertEquals(14 + 1000 * 4, bytes(log).length);
+    }
+
+    @Test
+    void recordShouldRejectTicksGoingBackwards() {
+        CommandLog log = new CommandLog(1, 0L);
+        log.record(10, InputCommand.selectCard(0));
+        assertThrows(IllegalArgumentException.class, () -> log.record(9, InputCommand.selectCard(1)));
+    }
+
+    @Test
+    void readShouldRejectForeignData() {
+        byte[] garbage = {'N', 'O', 'P', 'E', 1, 1};
+        assertThrows(IOException.class, () -> CommandLog.read(new ByteArrayInputStream(garbage)));
+    }
+}
@@ -0,0 +1,168 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.projectiles.Projectile;
+import mx.poo.pvzproject.gameProcess.headless.ParallelTick;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollisionSystemTest {
+
+    // Enemigo sin animación para no depender de texturas
+    private Enemy enemy(float x, float y, int health) {
+        return new Enemy(x, y, health, 30f) {
+            @Override
+            protected void loadAnimation() { }
+        };
+    }
+
+    /** Algoritmo original de GameUpdater (todos contra todos). */
+    private void resolveLinear(ArrayList<Projectile> projectiles, ArrayList<Enemy> enemies) {
+        Iterator<Projectile> projIter = projectiles.iterator();
+        while (projIter.hasNext()) {
+            Projectile p = projIter.next();
+            Iterator<Enemy> enemyIter = enemies.iterator();
+            while (enemyIter.hasNext()) {
+                Enemy e = enemyIter.next();
+                if (Math.abs(p.getX() - e.getX()) < 50 &&
+                    Math.abs(p.getY() - e.getY()) < 50) {
+
+                    e.takeDamage(p.getDamage());
+                    projIter.remove();
+
+                    if (e.isDead()) enemyIter.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test
+    void projectileShouldHitFirstEnemyInListOrder() {
+        float y = Constants.getPlantY(2);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        Enemy first = enemy(520f, y, 100);
+        Enemy second = enemy(490f, y, 100);
+        enemies.add(first);
+        enemies.add(second);
+
+        ArrayList<Projectile> projectiles = new ArrayList<>();
+        projectiles.add(new Projectile(500f, y, 15, 300f));
+
+        new CollisionSystem().resolve(projectiles, enemies, new EnemyLaneIndex());
+
+        assertTrue(projectiles.isEmpty());
+        assertEquals(85, first.getHealth());
+        assertEquals(100, second.getHealth());
+    }
+
+    @Test
+    void killedEnemyShouldBeRemovedAndStopLaterProjectiles() {
+        float y = Constants.getPlantY(1);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(500f, y, 10));
+
+        ArrayList<Projectile> projectiles = new ArrayList<>();
+        projectiles.add(new Projectile(480f, y, 15, 300f));
+        projectiles.add(new Projectile(490f, y, 15, 300f));
+
+        new CollisionSystem().resolve(projectiles, enemies, new EnemyLaneIndex());
+
+        assertTrue(enemies.isEmpty());
+        assertEquals(1, projectiles.size());
+        assertEquals(490f, projectiles.get(0).getX(), 0.001f);
+    }
+
+    @Test
+    void resultsShouldMatchLinearScan() {
+        Random random = new Random(42);
+        CollisionSystem system = new CollisionSystem();
+        EnemyLaneIndex index = new EnemyLaneIndex();
+
+        for (int round = 0; round < 50; round++) {
+            ArrayList<Enemy> enemiesA = new ArrayList<>();
+            ArrayList<Enemy> enemiesB = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                float x = 200f + random.nextFloat() * 1000f;
+                float y = Constants.getPlantY(random.nextInt(Constants.LANES)) + (random.nextFloat() - 0.5f) * 20f;
+                int health = 5 + random.nextInt(60);
+                enemiesA.add(enemy(x, y, health));
+                enemiesB.add(enemy(x, y, health));
+            }
+
+            ArrayList<Projectile> projectilesA = new ArrayList<>();
+            ArrayList<Projectile> projectilesB = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                float x = 200f + random.nextFloat() * 1000f;
+                float y = Constants.getPlantY(random.nextInt(Constants.LANES)) + (random.nextInt(3) - 1) * 110f;
+                projectilesA.add(new Projectile(x, y, 20, 300f));
+                projectilesB.add(new Projectile(x, y, 20, 300f));
+            }
+
+            resolveLinear(projectilesA, enemiesA);
+            system.resolve(projectilesB, enemiesB, index);
+
+            assertEquals(enemiesA.size(), enemiesB.size());
+            assertEquals(projectilesA.size(), projectilesB.size());
+            for (int i = 0; i < enemiesA.size(); i++) {
+                assertEquals(enemiesA.get(i).getX(), enemiesB.get(i).getX());
+                assertEquals(enemiesA.get(i).getHealth(), enemiesB.get(i).getHealth());
+            }
+            for (int i = 0; i < projectilesA.size(); i++) {
+                assertEquals(projectilesA.get(i).getX(), projectilesB.get(i).getX());
+            }
+        }
+    }
+
+    @Test
+    void parallelResolveShouldMatchSerial() {
+        Random random = new Random(99);
+        CollisionSystem serial = new CollisionSystem();
+        CollisionSystem parallelSystem = new CollisionSystem();
+        ParallelTick parallel = new ParallelTick(4);
+
+        try {
+            for (int round = 0; round < 30; round++) {
+                ArrayList<Enemy> enemiesA = new ArrayList<>();
+                ArrayList<Enemy> enemiesB = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    float x = 200f + random.nextFloat() * 1000f;
+                    float y = Constants.getPlantY(random.nextInt(Constants.LANES)) + (random.nextFloat() - 0.5f) * 20f;
+                    int health = 5 + random.nextInt(60);
+                    enemiesA.add(enemy(x, y, health));
+                    enemiesB.add(enemy(x, y, health));
+                }
+
+                ArrayList<Projectile> projectilesA = new ArrayList<>();
+                ArrayList<Projectile> projectilesB = new ArrayList<>();
+                for (int i = 0; i < 500; i++) {
+                    float x = 200f + random.nextFloat() * 1000f;
+                    float y = Constants.getPlantY(random.nextInt(Constants.LANES));
+                    projectilesA.add(new Projectile(x, y, 20, 300f));
+                    projectilesB.add(new Projectile(x, y, 20, 300f));
+                }
+
+                serial.resolve(projectilesA, enemiesA, new EnemyLaneIndex());
+                parallelSystem.resolve(projectilesB, enemiesB, new EnemyLaneIndex(), parallel);
+
+                assertEquals(enemiesA.size(), enemiesB.size());
+                assertEquals(projectilesA.size(), projectilesB.size());
+                for (int i = 0; i < enemiesA.size(); i++) {
+                    assertEquals(enemiesA.get(i).getX(), enemiesB.get(i).getX());
+                    assertEquals(enemiesA.get(i).getHealth(), enemiesB.get(i).getHealth());
+                }
+                for (int i = 0; i < projectilesA.size(); i++) {
+                    assertEquals(projectilesA.get(i).getX(), projectilesB.get(i).getX());
+                }
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.plants.CornShooter;
+import mx.poo.pvzproject.gameProcess.entities.plants.LilyPad;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.headless.ParallelTick;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContactResolverTest {
+
+    // Enemigo sin animación para no depender de texturas
+    private Enemy enemy(float x, float y) {
+        return enemy(x, y, 30f);
+    }
+
+    private Enemy enemy(float x, float y, float speed) {
+        return new Enemy(x, y, 100, speed) {
+            @Override
+            protected void loadAnimation() { }
+        };
+    }
+
+    @Test
+    void enemyTouchingPlantShouldEatIt() {
+        float y = Constants.getPlantY(1);
+        ArrayList<Plant> plants = new ArrayList<>();
+        Plant corn = new CornShooter(Constants.getPlantX(3), y);
+        plants.add(corn);
+
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        Enemy e = enemy(corn.getX() + 10f, y);
+        enemies.add(e);
+
+        int eating = new ContactResolver().resolve(plants, enemies, 0.5f);
+
+        assertEquals(1, eating);
+        assertTrue(e.isEating());
+        assertEquals(0.5f, corn.getResistanceTimer(), 0.001f);
+    }
+
+    @Test
+    void distantEnemyOrOtherLaneShouldKeepWalking() {
+        float y = Constants.getPlantY(1);
+        ArrayList<Plant> plants = new ArrayList<>();
+        Plant corn = new CornShooter(Constants.getPlantX(3), y);
+        plants.add(corn);
+
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        Enemy far = enemy(corn.getX() + 100f, y);
+        Enemy otherLane = enemy(corn.getX(), Constants.getPlantY(2));
+        far.setEating(true);
+        enemies.add(far);
+        enemies.add(otherLane);
+
+        assertEquals(0, new ContactResolver().resolve(plants, enemies, 0.5f));
+        assertFalse(far.isEating());
+        assertFalse(otherLane.isEating());
+        assertEquals(0f, corn.getResistanceTimer(), 0.001f);
+    }
+
+    @Test
+    void enemyShouldEatTopPlantBeforeSupport() {
+        float x = Constants.getPlantX(4);
+        float y = Constants.getPlantY(0);
+        ArrayList<Plant> plants = new ArrayList<>();
+        Plant pad = new LilyPad(x, y);
+        Plant corn = new CornShooter(x, y);
+        plants.add(pad);
+        plants.add(corn);
+
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(x + 5f, y));
+
+        new ContactResolver().resolve(plants, enemies, 1f);
+
+        assertEquals(1f, corn.getResistanceTimer(), 0.001f);
+        assertEquals(0f, pad.getResistanceTimer(), 0.001f);
+    }
+
+    @Test
+    void deadPlantShouldReleaseEnemy() {
+        float y = Constants.getPlantY(1);
+        ArrayList<Plant> plants = new ArrayList<>();
+        Plant corn = new CornShooter(Constants.getPlantX(3), y);
+        plants.add(corn);
+
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        Enemy e = enemy(corn.getX() + 10f, y);
+        enemies.add(e);
+
+        ContactResolver resolver = new ContactResolver();
+        resolver.resolve(plants, enemies, 5f);
+        assertTrue(corn.isDead());
+
+        resolver.resolve(plants, enemies, 0.1f);
+        assertFalse(e.isEating());
+    }
+
+    @Test
+    void mergeShouldMatchPairwiseSearch() {
+        Random random = new Random(7);
+        ArrayList<Plant> plants = new ArrayList<>();
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            for (int column = 0; column < Constants.COLUMNS; column++) {
+                if (random.nextInt(3) == 0) {
+                    plants.add(new CornShooter(Constants.getPlantX(column), Constants.getPlantY(lane)));
+                }
+            }
+        }
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            enemies.add(enemy(Constants.GRID_START_X + random.nextFloat() * 700f,
+                Constants.getPlantY(random.nextInt(Constants.LANES))));
+        }
+
+        new ContactResolver().resolve(plants, enemies, 0.01f);
+        assertMatchesPairwiseSearch(plants, enemies);
+    }
+
+    @Test
+    void reusedResolverShouldTrackMovesRemovalsAndArrivals() {
+        Random random = new Random(3);
+        ArrayList<Plant> plants = new ArrayList<>();
+        // Colocadas de derecha a izquierda: el peor orden para un relleno desde la lista
+        for (int column = Constants.COLUMNS - 1; column >= 0; column--) {
+            for (int lane = 0; lane < Constants.LANES; lane++) {
+                if (random.nextInt(3) == 0) {
+                    plants.add(new CornShooter(Constants.getPlantX(column), Constants.getPlantY(lane)));
+                }
+            }
+        }
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        ContactResolver resolver = new ContactResolver();
+
+        for (int step = 0; step < 200; step++) {
+            for (int i = 0; i < 3; i++) {
+                enemies.add(enemy(Constants.GRID_START_X + 200f + random.nextFloat() * 600f,
+                    Constants.getPlantY(random.nextInt(Constants.LANES)), 20f + random.nextFloat() * 40f));
+            }
+            if (!enemies.isEmpty() && random.nextInt(4) == 0) enemies.remove(random.nextInt(enemies.size()));
+            if (!enemies.isEmpty() && random.nextInt(4) == 0) enemies.get(random.nextInt(enemies.size())).takeDamage(1000);
+            for (Enemy e : enemies) e.update(0.05f);
+
+            // Sin daño: ninguna planta muere a mitad del paso
+            resolver.resolve(plants, enemies, 0f);
+            assertMatchesPairwiseSearch(plants, enemies);
+        }
+    }
+
+    @Test
+    void topPlantAddedLaterShouldStillBeEatenFirst() {
+        float x = Constants.getPlantX(4);
+        float y = Constants.getPlantY(0);
+        ArrayList<Plant> plants = new ArrayList<>();
+        Plant pad = new LilyPad(x, y);
+        plants.add(pad);
+
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(x + 5f, y));
+
+        ContactResolver resolver = new ContactResolver();
+        resolver.resolve(plants, enemies, 0.5f);
+        assertEquals(0.5f, pad.getResistanceTimer(), 0.001f);
+
+        Plant corn = new CornShooter(x, y);
+        plants.add(corn);
+        resolver.resolve(plants, enemies, 1f);
+
+        assertEquals(1f, corn.getResistanceTimer(), 0.001f);
+        assertEquals(0.5f, pad.getResistanceTimer(), 0.001f);
+    }
+
+    /** Búsqueda de todos contra todos: la planta de mayor X al alcance. */
+    private static void assertMatchesPairwiseSearch(ArrayList<Plant> plants, ArrayList<Enemy> enemies) {
+        for (Enemy e : enemies) {
+            if (e.isDead()) continue;
+            Plant expected = null;
+            for (Plant p : plants) {
+                if (p.isDead()) continue;
+                if (Constants.getLane(p.getY()) != Constants.getLane(e.getY())) continue;
+                // Mismas comparaciones que el resolutor, para redondear igual en el borde
+                if (p.getX() >= e.getX() + ContactResolver.CONTACT_RANGE) continue;
+                if (p.getX() <= e.getX() - ContactResolver.CONTACT_RANGE) continue;
+                if (expected == null || p.getX() >= expected.getX()) expected = p;
+            }
+            assertEquals(expected != null, e.isEating());
+        }
+    }
+
+    @Test
+    void parallelResolveShouldMatchSerial() {
+        Random random = new Random(11);
+        ArrayList<Plant> plantsA = new ArrayList<>();
+        ArrayList<Plant> plantsB = new ArrayList<>();
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            for (int column = 0; column < Constants.COLUMNS; column++) {
+                if (random.nextBoolean()) {
+                    plantsA.add(new CornShooter(Constants.getPlantX(column), Constants.getPlantY(lane)));
+                    plantsB.add(new CornShooter(Constants.getPlantX(column), Constants.getPlantY(lane)));
+                }
+            }
+        }
+        ArrayList<Enemy> enemiesA = new ArrayList<>();
+        ArrayList<Enemy> enemiesB = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            float x = Constants.GRID_START_X + random.nextFloat() * 700f;
+            float y = Constants.getPlantY(random.nextInt(Constants.LANES));
+            enemiesA.add(enemy(x, y));
+            enemiesB.add(enemy(x, y));
+        }
+
+        ParallelTick parallel = new ParallelTick(4);
+        try {
+            int serialEating = new ContactResolver().resolve(plantsA, enemiesA, 0.02f);
+            int parallelEating = new ContactResolver().resolve(plantsB, enemiesB, 0.02f, parallel);
+
+            assertEquals(serialEating, parallelEating);
+            for (int i = 0; i < enemiesA.size(); i++) {
+                assertEquals(enemiesA.get(i).isEating(), enemiesB.get(i).isEating());
+            }
+            for (int i = 0; i < plantsA.size(); i++) {
+                assertEquals(plantsA.get(i).getResistanceTimer(), plantsB.get(i).getResistanceTimer());
+            }
+        } finally {
+            parallel.shutdown();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyLaneIndexTest {
+
+    // Enemigo sin animación para no depender de texturas
+    private Enemy enemy(float x, int lane) {
+        return new Enemy(x, Constants.getPlantY(lane), 100, 30f) {
+            @Override
+            protected void loadAnimation() { }
+        };
+    }
+
+    @Test
+    void frontmostShouldReturnSmallestXInLane() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(900f, 2));
+        Enemy front = enemy(400f, 2);
+        enemies.add(front);
+        enemies.add(enemy(100f, 1));
+
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+
+        assertSame(front, index.frontmost(2));
+        assertNull(index.frontmost(0));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void anyAheadShouldIgnoreOtherLanesAndEnemiesBehind() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(300f, 2));
+        enemies.add(enemy(900f, 3));
+
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+
+        float laneY = Constants.getPlantY(2);
+        assertTrue(index.anyAhead(250f, laneY, 50f));
+        assertFalse(index.anyAhead(300f, laneY, 50f));
+    }
+
+    @Test
+    void addShouldKeepLaneSorted() {
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(new ArrayList<>());
+
+        index.add(enemy(800f, 0));
+        Enemy front = enemy(200f, 0);
+        index.add(front);
+        index.add(enemy(500f, 0));
+
+        assertSame(front, index.frontmost(0));
+
+        List<Float> xs = new ArrayList<>();
+        index.forEachInLanes(0, 0, 0f, 1000f, e -> xs.add(e.getX()));
+        assertEquals(Arrays.asList(200f, 500f, 800f), xs);
+    }
+
+    @Test
+    void refreshAfterMovingShouldMatchRebuild() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            enemies.add(enemy((i * 53) % 1100, i % Constants.LANES));
+        }
+        EnemyLaneIndex refreshed = new EnemyLaneIndex();
+        refreshed.rebuild(enemies);
+
+        // Altas con posición, avances distintos (con adelantos y empates)
+        for (int i = 0; i < 5; i++) {
+            enemies.add(enemy(1200f + i, i));
+            refreshed.add(enemies.get(enemies.size() - 1), enemies.size() - 1);
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy e = enemies.get(i);
+            e.reset(e.getX() - (i % 7) * 20f, e.getY());
+        }
+        refreshed.refresh(enemies);
+
+        EnemyLaneIndex rebuilt = new EnemyLaneIndex();
+        rebuilt.rebuild(enemies);
+
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            List<Enemy> a = new ArrayList<>();
+            List<Enemy> b = new ArrayList<>();
+            refreshed.forEachInLanes(lane, lane, -1000f, 2000f, a::add);
+            rebuilt.forEachInLanes(lane, lane, -1000f, 2000f, b::add);
+            assertEquals(b, a, "carril " + lane);
+        }
+        for (float x = 0f; x < 1300f; x += 35f) {
+            float y = Constants.getPlantY(3);
+            assertEquals(rebuilt.firstListIndexNear(x, y, 50f, null),
+                refreshed.firstListIndexNear(x, y, 50f, null));
+        }
+    }
+
+    @Test
+    void refreshWithUnregisteredChangesShouldRebuild() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        enemies.add(enemy(300f, 1));
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+
+        Enemy late = enemy(100f, 1);
+        enemies.add(late);
+        index.add(late); // sin posición en la lista
+        index.refresh(enemies);
+
+        assertEquals(1, index.firstListIndexNear(100f, Constants.getPlantY(1), 50f, null));
+    }
+
+    @Test
+    void forEachInRangeShouldMatchLinearScan() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            enemies.add(enemy((i * 37) % 1300, i % Constants.LANES));
+        }
+
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+
+        float x = 600f;
+        float y = Constants.getPlantY(2);
+
+        int expected = 0;
+        for (Enemy e : enemies) {
+            if (Math.abs(e.getX() - x) < 150f && Math.abs(e.getY() - y) < 150f) expected++;
+        }
+
+        int[] found = {0};
+        index.forEachInRange(x - 150f, x + 150f, y, 150f, e -> found[0]++);
+        assertEquals(expected, found[0]);
+    }
+
+    @Test
+    void firstAliveInRangeShouldSkipDeadEnemies() {
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        Enemy dead = enemy(500f, 1);
+        dead.takeDamage(1000);
+        Enemy alive = enemy(560f, 1);
+        enemies.add(dead);
+        enemies.add(alive);
+
+        EnemyLaneIndex index = new EnemyLaneIndex();
+        index.rebuild(enemies);
+
+        assertSame(alive, index.firstAliveInRange(400f, 700f, Constants.getPlantY(1), 60f));
+    }
+}
@@ -0,0 +1,50 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepClockTest {
+
+    @Test
+    void shortFramesShouldAccumulateUntilOneStep() {
+        FixedStepClock clock = new FixedStepClock(60, 5);
+        assertEquals(0, clock.advance(0.01f));
+        assertEquals(1, clock.advance(0.01f));
+    }
+
+    @Test
+    void stepsPerSimulatedSecondShouldNotDependOnFrameRate() {
+        FixedStepClock slow = new FixedStepClock(60, 8);
+        FixedStepClock fast = new FixedStepClock(60, 8);
+
+        int slowSteps = 0;
+        for (int i = 0; i < 30; i++) slowSteps += slow.advance(1f / 30f);
+
+        int fastSteps = 0;
+        for (int i = 0; i < 144; i++) fastSteps += fast.advance(1f / 144f);
+
+        assertEquals(60, slowSteps, 1);
+        assertEquals(60, fastSteps, 1);
+    }
+
+    @Test
+    void longStallShouldBeCappedAndBacklogDropped() {
+        FixedStepClock clock = new FixedStepClock(60, 4);
+        assertEquals(4, clock.advance(0.5f));
+        assertTrue(clock.getAlpha() < 1f);
+        assertEquals(0, clock.advance(0f));
+    }
+
+    @Test
+    void alphaShouldReflectRemainder() {
+        FixedStepClock clock = new FixedStepClock(10, 5);
+        clock.advance(0.15f);
+        assertEquals(0.5f, clock.getAlpha(), 0.01f);
+    }
+
+    @Test
+    void invalidConfigurationShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepClock(0, 5));
+    }
+}
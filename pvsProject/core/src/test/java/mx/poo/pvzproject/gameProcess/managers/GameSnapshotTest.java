@@ -0,0 +1,97 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.headless.HeadlessSimulation;
+import mx.poo.pvzproject.gameProcess.input.InputCommand;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    /** Cartas que se van alternando: maíz, papa, agua, campanilla, champi, bomba. */
+    private static final int[] CARDS = {0, 0, 1, 2, 6, 7, 3};
+
+    @AfterEach
+    void resetLevel() {
+        Constants.CURRENT_LEVEL = 1;
+    }
+
+    @Test
+    void restoredSimulationShouldContinueIdentically() throws IOException {
+        HeadlessSimulation original = mixedSimulation(2, 99L);
+        runTicks(original, 60 * Constants.SIM_TICK_RATE);
+        byte[] snapshot = original.snapshot();
+
+        HeadlessSimulation copy = mixedSimulation(2, 99L);
+        copy.restore(snapshot);
+        assertEquals(original.getTick(), copy.getTick());
+        assertArrayEquals(snapshot, copy.snapshot());
+
+        assertEquals(original.run(900f), copy.run(900f));
+        assertEquals(original.getTick(), copy.getTick());
+        assertArrayEquals(original.snapshot(), copy.snapshot());
+    }
+
+    @Test
+    void rewindShouldReplayTheSameFuture() throws IOException {
+        HeadlessSimulation sim = mixedSimulation(1, 5L);
+        runTicks(sim, 45 * Constants.SIM_TICK_RATE);
+        byte[] checkpoint = sim.snapshot();
+
+        runTicks(sim, 30 * Constants.SIM_TICK_RATE);
+        byte[] later = sim.snapshot();
+        int laterTick = sim.getTick();
+
+        sim.restore(checkpoint);
+        runTicks(sim, laterTick - sim.getTick());
+        assertArrayEquals(later, sim.snapshot());
+    }
+
+    @Test
+    void snapshotShouldCaptureEntities() {
+        HeadlessSimulation sim = mixedSimulation(1, 5L);
+        runTicks(sim, 60 * Constants.SIM_TICK_RATE);
+
+        assertFalse(sim.getContext().getPlants().isEmpty());
+        assertFalse(sim.getContext().getEnemies().isEmpty());
+        assertTrue(sim.snapshot().length < 16 * 1024);
+    }
+
+    @Test
+    void snapshotFromAnotherLevelShouldBeRejected() {
+        HeadlessSimulation level1 = new HeadlessSimulation(1, 1L);
+        byte[] snapshot = level1.snapshot();
+
+        HeadlessSimulation level2 = new HeadlessSimulation(2, 1L);
+        assertThrows(IOException.class, () -> level2.restore(snapshot));
+    }
+
+    @Test
+    void invalidDataShouldBeRejected() {
+        HeadlessSimulation sim = new HeadlessSimulation(1, 1L);
+        assertThrows(IOException.class, () -> sim.restore(new byte[]{'P', 'V', 'Z', 'L', 1}));
+    }
+
+    private static void runTicks(HeadlessSimulation sim, int ticks) {
+        for (int i = 0; i < ticks && sim.getContext().isGameActive(); i++) {
+            sim.step();
+        }
+    }
+
+    /** Coloca cada segundo una planta distinta recorriendo carriles y columnas. */
+    private static HeadlessSimulation mixedSimulation(int level, long seed) {
+        HeadlessSimulation sim = new HeadlessSimulation(level, seed);
+        for (int s = 0; s < 900; s++) {
+            int t = s * Constants.SIM_TICK_RATE;
+            int card = CARDS[s % CARDS.length];
+            int column = card == 7 || card == 3 ? 5 : s / Constants.LANES % 3;
+            sim.schedule(t, InputCommand.selectCard(card));
+            sim.schedule(t, InputCommand.place(s % Constants.LANES, column));
+        }
+        return sim;
+    }
+}
@@ -0,0 +1,71 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.plants.CornShooter;
+import mx.poo.pvzproject.gameProcess.entities.plants.LilyPad;
+import mx.poo.pvzproject.gameProcess.entities.plants.Papa;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.ui.utils.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridModelTest {
+
+    private static float x(int column) { return Constants.getPlantX(column); }
+    private static float y(int lane) { return Constants.getPlantY(lane); }
+
+    @Test
+    void plantsShouldStackInPlacementOrder() {
+        GridModel grid = new GridModel();
+        LilyPad pad = new LilyPad(x(3), y(0));
+        CornShooter corn = new CornShooter(x(3), y(0));
+        grid.add(pad);
+        grid.add(corn);
+
+        assertEquals(2, grid.size(0, 3));
+        assertSame(pad, grid.base(0, 3));
+        assertSame(corn, grid.top(0, 3));
+        assertSame(corn, grid.get(0, 3, 1));
+        assertTrue(grid.isEmpty(0, 4));
+        assertTrue(grid.isEmpty(1, 3));
+    }
+
+    @Test
+    void removingBaseShouldShiftRemainingPlantDown() {
+        GridModel grid = new GridModel();
+        LilyPad pad = new LilyPad(x(5), y(4));
+        CornShooter corn = new CornShooter(x(5), y(4));
+        grid.add(pad);
+        grid.add(corn);
+
+        assertTrue(grid.remove(pad));
+        assertEquals(1, grid.size(4, 5));
+        assertSame(corn, grid.base(4, 5));
+        assertFalse(grid.remove(pad));
+    }
+
+    @Test
+    void rebuildShouldMatchPlantList() {
+        ArrayList<Plant> plants = new ArrayList<>();
+        plants.add(new Papa(x(0), y(2)));
+        plants.add(new CornShooter(x(9), y(1)));
+
+        GridModel grid = new GridModel();
+        grid.add(new Papa(x(4), y(4)));
+        grid.rebuild(plants);
+
+        assertEquals(1, grid.size(2, 0));
+        assertEquals(1, grid.size(1, 9));
+        assertTrue(grid.isEmpty(4, 4));
+    }
+
+    @Test
+    void emptyCellShouldHaveNoBaseOrTop() {
+        GridModel grid = new GridModel();
+        assertNull(grid.base(2, 2));
+        assertNull(grid.top(2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.get(2, 2, 0));
+    }
+}
@@ -0,0 +1,58 @@
+package mx.poo.pvzproject.gameProcess.managers;
+
+import mx.poo.pvzproject.gameProcess.entities.plants.CornShooter;
+import mx.poo.pvzproject.gameProcess.entities.plants.Papa;
+import mx.poo.pvzproject.gameProcess.entities.plants.Plant;
+import mx.poo.pvzproject.gameProcess.entities.plants.WaterPlant;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlantCensusTest {
+
+    @Test
+    void shouldCountAddsAndRemovesPerType() {
+        PlantCensus census = new PlantCensus();
+        WaterPlant water = new WaterPlant(0, 0);
+        census.onAdded(water);
+        census.onAdded(new WaterPlant(0, 0));
+        census.onAdded(new CornShooter(0, 0));
+
+        assertEquals(2, census.count(WaterPlant.class));
+        assertEquals(1, census.count(CornShooter.class));
+        assertEquals(0, census.count(Papa.class));
+        assertEquals(3, census.total());
+
+        census.onRemoved(water);
+        assertEquals(1, census.count(WaterPlant.class));
+        assertEquals(2, census.total());
+    }
+
+    @Test
+    void rebuildShouldMatchList() {
+        ArrayList<Plant> plants = new ArrayList<>();
+        plants.add(new Papa(0, 0));
+        plants.add(new WaterPlant(0, 0));
+        plants.add(new Papa(0, 0));
+
+        PlantCensus census = new PlantCensus();
+        census.onAdded(new CornShooter(0, 0));
+        census.rebuild(plants);
+
+        assertEquals(2, census.count(Papa.class));
+        assertEquals(1, census.count(WaterPlant.class));
+        assertEquals(0, census.count(CornShooter.class));
+        assertEquals(3, census.total());
+    }
+
+    @Test
+    void clearShouldEmptyCensus() {
+        PlantCensus census = new PlantCensus();
+        census.onAdded(new WaterPlant(0, 0));
+        census.clear();
+        assertEquals(0, census.count(WaterPlant.class));
+        assertEquals(0, census.total());
+    }
+}
@@ -1,10 +1,9 @@
 package mx.poo.pvzproject.gameProcess.managers;
 
+import mx.poo.pvzproject.gameProcess.entities.plants.WaterPlant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.ArrayList;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 class WaterManagerTest{
@@ -47,7 +46,7 @@ class WaterManagerTest{
     @Test
     void updateShouldRegenWaterAfterOneSecond() {
         float before = waterManager.getCurrentWater();
-        waterManager.update(1.0f, new ArrayList<>());
+        waterManager.update(1.0f);
         assertTrue(waterManager.getCurrentWater() > before);
     }
 
@@ -55,10 +54,25 @@ class WaterManagerTest{
     void waterShouldNotExceedMax() {
         // Forzar agua al máximo y seguir regenerando
         for (int i = 0; i < 100; i++) {
-            waterManager.update(1.0f, new ArrayList<>());
+            waterManager.update(1.0f);
         }
         assertTrue(waterManager.getCurrentWater() <= waterManager.MAX_WATER);
     }
 
+    @Test
+    void waterPlantsInCensusShouldSpeedUpRegen() {
+        PlantCensus census = new PlantCensus();
+        census.onAdded(new WaterPlant(0, 0));
+        census.onAdded(new WaterPlant(0, 0));
+        WaterManager boosted = new WaterManager(census);
+
+        // 0.7 s * (1 + 0.3 * 2) = 1.12 s de regeneración
+        boosted.update(0.7f);
+        waterManager.update(0.7f);
+
+        assertEquals(4.5f, boosted.getCurrentWater(), 0.01f);
+        assertEquals(4f, waterManager.getCurrentWater(), 0.01f);
+    }
+
 
 }
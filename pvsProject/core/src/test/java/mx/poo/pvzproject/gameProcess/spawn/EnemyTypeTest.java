@@ -0,0 +1,49 @@
+package mx.poo.pvzproject.gameProcess.spawn;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.slimes.SlimeTanque;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnemyTypeTest {
+
+    @Test
+    void factoryShouldCreateRegisteredClassAtPosition() {
+        for (EnemyType type : EnemyType.values()) {
+            Enemy e = type.create(300f, 128f);
+            assertSame(type.getEnemyClass(), e.getClass());
+            assertEquals(300f, e.getX());
+            assertEquals(128f, e.getY());
+        }
+    }
+
+    @Test
+    void ofShouldResolveEachRegisteredClass() {
+        for (EnemyType type : EnemyType.values()) {
+            assertSame(type, EnemyType.of(type.getEnemyClass()));
+        }
+    }
+
+    @Test
+    void unregisteredClassShouldFailWhenBuildingWave() {
+        Enemy unknown = new Enemy(0f, 0f, 10, 10f) {
+            @Override
+            protected void loadAnimation() {
+            }
+        };
+        assertThrows(IllegalArgumentException.class,
+            () -> new Wave().add(unknown.getClass(), 1, 1f));
+    }
+
+    @Test
+    void classOverloadShouldSpawnSameTypeAsEnumOverload() {
+        Wave wave = new Wave().add(SlimeTanque.class, 1, 1f);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        wave.update(1f, enemies);
+        assertEquals(1, enemies.size());
+        assertInstanceOf(SlimeTanque.class, enemies.get(0));
+    }
+}
@@ -1,5 +1,7 @@
 package mx.poo.pvzproject.gameProcess.spawn;
 
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -38,4 +40,22 @@ class LevelFactoryTest {
 
         assertEquals(3, waves.size());
     }
+
+    @Test
+    void sameSeedShouldSpawnSameLanes() {
+        assertArrayEquals(spawnYs(2, 42L), spawnYs(2, 42L));
+    }
+
+    /** Posiciones Y de todos los enemigos generados por un nivel. */
+    private float[] spawnYs(int level, long seed) {
+        ArrayList<Wave> waves = LevelFactory.getLevel(level, seed);
+        ArrayList<Enemy> enemies = new ArrayList<>();
+        for (Wave wave : waves) {
+            while (!wave.isComplete()) wave.update(1f, enemies);
+        }
+        float[] ys = new float[enemies.size()];
+        for (int i = 0; i < ys.length; i++) ys[i] = enemies.get(i).getY();
+        EnemyPool.releaseAll(enemies);
+        return ys;
+    }
 }
@@ -0,0 +1,53 @@
+package mx.poo.pvzproject.gameProcess.spawn;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededRandomTest {
+
+    @Test
+    void sameSeedShouldProduceSameSequence() {
+        SeededRandom a = new SeededRandom(1234L);
+        SeededRandom b = new SeededRandom(1234L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+        assertEquals(1234L, a.getSeed());
+    }
+
+    @Test
+    void differentSeedsShouldDiverge() {
+        assertNotEquals(new SeededRandom(1L).nextLong(), new SeededRandom(2L).nextLong());
+    }
+
+    @Test
+    void splitShouldBeDeterministicAndIndependent() {
+        SeededRandom rootA = new SeededRandom(7L);
+        SeededRandom rootB = new SeededRandom(7L);
+        SeededRandom childA = rootA.split();
+        SeededRandom childB = rootB.split();
+
+        // Consumir el hijo no altera al padre
+        for (int i = 0; i < 10; i++) childA.nextLong();
+        assertEquals(rootA.nextLong(), rootB.nextLong());
+
+        for (int i = 0; i < 10; i++) childB.nextLong();
+        assertEquals(childA.nextLong(), childB.nextLong());
+    }
+
+    @Test
+    void nextIntAndFloatShouldStayInRange() {
+        SeededRandom random = new SeededRandom(99L);
+        int[] hits = new int[5];
+        for (int i = 0; i < 10_000; i++) {
+            int v = random.nextInt(5);
+            assertTrue(v >= 0 && v < 5);
+            hits[v]++;
+            float f = random.nextFloat();
+            assertTrue(f >= 0f && f < 1f);
+        }
+        for (int count : hits) assertTrue(count > 1500);
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+}
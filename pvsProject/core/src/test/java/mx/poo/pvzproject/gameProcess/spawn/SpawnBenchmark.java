@@ -0,0 +1,92 @@
+package mx.poo.pvzproject.gameProcess.spawn;
+
+import mx.poo.pvzproject.gameProcess.entities.enemies.Enemy;
+import mx.poo.pvzproject.gameProcess.entities.enemies.EnemyPool;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Micro-benchmark del costo de generar enemigos.
+ *
+ * <p>
+ * Compara la creación por reflexión que usaba {@link Wave}
+ * ({@code getConstructor(...).newInstance(x, y)} en cada spawn)
+ * con las fábricas precompiladas de {@link EnemyType} y con sus pools
+ * (que tras el calentamiento no reservan memoria).
+ * No forma parte de la suite de tests; se ejecuta a mano:
+ * </p>
+ *
+ * <pre>
+ * java -cp core/build/classes/java/main:core/build/classes/java/test:gdx.jar \
+ *     mx.poo.pvzproject.gameProcess.spawn.SpawnBenchmark
+ * </pre>
+ *
+ * @author SmallJunior
+ * @version 1.0
+ */
+public final class SpawnBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 5;
+    private static final int SPAWNS_PER_ROUND = 200_000;
+
+    /** Evita que el JIT elimine las creaciones. */
+    private static int sink;
+
+    private SpawnBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        EnemyType[] types = EnemyType.values();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            reflective(types);
+            factory(types);
+            pooled(types);
+        }
+
+        long reflectiveBest = Long.MAX_VALUE;
+        long factoryBest = Long.MAX_VALUE;
+        long pooledBest = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            reflectiveBest = Math.min(reflectiveBest, reflective(types));
+            factoryBest = Math.min(factoryBest, factory(types));
+            pooledBest = Math.min(pooledBest, pooled(types));
+        }
+
+        System.out.printf("reflexión: %.1f ns/spawn%n", (double) reflectiveBest / SPAWNS_PER_ROUND);
+        System.out.printf("fábrica:   %.1f ns/spawn%n", (double) factoryBest / SPAWNS_PER_ROUND);
+        System.out.printf("pool:      %.1f ns/spawn%n", (double) pooledBest / SPAWNS_PER_ROUND);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static long reflective(EnemyType[] types) throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < SPAWNS_PER_ROUND; i++) {
+            Class<? extends Enemy> type = types[i % types.length].getEnemyClass();
+            Constructor<? extends Enemy> c = type.getConstructor(float.class, float.class);
+            Enemy e = c.newInstance(1380f, (float) (i & 511));
+            sink += e.getHealth();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long factory(EnemyType[] types) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SPAWNS_PER_ROUND; i++) {
+            Enemy e = types[i % types.length].create(1380f, (float) (i & 511));
+            sink += e.getHealth();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long pooled(EnemyType[] types) {
+        long start = System.nanoTime();
+        for (int i = 0; i < SPAWNS_PER_ROUND; i++) {
+            Enemy e = types[i % types.length].obtain(1380f, (float) (i & 511));
+            sink += e.getHealth();
+            EnemyPool.release(e);
+        }
+        return System.nanoTime() - start;
+    }
+}
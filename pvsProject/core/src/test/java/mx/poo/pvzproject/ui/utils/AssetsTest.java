@@ -0,0 +1,52 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+import com.badlogic.gdx.utils.reflect.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssetsTest {
+
+    @Test
+    void animationShouldBeSharedBetweenCalls() {
+        assertSame(Assets.animation(AnimationKey.CORN_SHOOTER),
+            Assets.animation(AnimationKey.CORN_SHOOTER));
+    }
+
+    @Test
+    void animationShouldKeepFrameCountAndTiming() {
+        Animation<TextureRegion> redBom = Assets.animation(AnimationKey.RED_BOM);
+        assertEquals(Assets.redBomFrames.length, redBom.getKeyFrames().length);
+        assertEquals(Animation.PlayMode.NORMAL, redBom.getPlayMode());
+        assertEquals(1.1f, redBom.getAnimationDuration(), 0.0001f);
+    }
+
+    @Test
+    void everyKeyShouldBuildAnAnimation() {
+        for (AnimationKey key : AnimationKey.values()) {
+            Animation<TextureRegion> animation = Assets.animation(key);
+            assertEquals(key.frames().length, animation.getKeyFrames().length, key.name());
+            assertEquals(key.getPlayMode(), animation.getPlayMode(), key.name());
+        }
+    }
+
+    @Test
+    void levelGroupsShouldFollowBiomes() {
+        for (int level = 1; level <= 3; level++) assertEquals(Assets.Group.DAY, Assets.Group.forLevel(level));
+        for (int level = 4; level <= 6; level++) assertEquals(Assets.Group.JUNGLE, Assets.Group.forLevel(level));
+        for (int level = 7; level <= 9; level++) assertEquals(Assets.Group.NIGHT, Assets.Group.forLevel(level));
+        assertEquals(Assets.Group.BOSS, Assets.Group.forLevel(Constants.MAX_LEVEL));
+    }
+
+    @Test
+    void parallelLoaderShouldBeReachableByName() throws ReflectionException {
+        Class<?> type = ClassReflection.forName(Assets.PARALLEL_LOADER);
+        assertSame(ParallelTextureLoader.class, type);
+        assertTrue(TexturePrefetcher.class.isAssignableFrom(type));
+        assertNotNull(ClassReflection.getConstructor(type, FileHandleResolver.class));
+    }
+}
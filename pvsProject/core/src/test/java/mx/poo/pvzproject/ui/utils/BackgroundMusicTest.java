@@ -0,0 +1,102 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.audio.Music;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BackgroundMusicTest {
+
+    private static final float FADE = Constants.MUSIC_FADE_SECONDS;
+
+    @AfterEach
+    void clear() {
+        BackgroundMusic.clear();
+    }
+
+    @Test
+    void firstTrackShouldFadeInToMusicVolume() {
+        Music day = mock(Music.class);
+        BackgroundMusic.play(day);
+
+        verify(day).setVolume(0f);
+        verify(day).play();
+
+        BackgroundMusic.update(FADE / 2f);
+        verify(day).setVolume(Constants.MUSIC_VOLUME / 2f);
+        BackgroundMusic.update(FADE);
+        verify(day).setVolume(Constants.MUSIC_VOLUME);
+    }
+
+    @Test
+    void crossfadeShouldRampBothTracksAndStopTheOldOne() {
+        Music day = mock(Music.class);
+        Music night = mock(Music.class);
+        when(day.getVolume()).thenReturn(Constants.MUSIC_VOLUME);
+        BackgroundMusic.play(day);
+        BackgroundMusic.update(FADE);
+
+        Runnable onFadedOut = mock(Runnable.class);
+        BackgroundMusic.crossfadeTo(night, onFadedOut);
+        assertSame(night, BackgroundMusic.getCurrent());
+
+        BackgroundMusic.update(FADE / 2f);
+        verify(day).setVolume(Constants.MUSIC_VOLUME / 2f);
+        verify(night).setVolume(Constants.MUSIC_VOLUME / 2f);
+        verify(day, never()).stop();
+        verify(onFadedOut, never()).run();
+
+        BackgroundMusic.update(FADE / 2f);
+        verify(day).stop();
+        verify(onFadedOut).run();
+        verify(night).setVolume(Constants.MUSIC_VOLUME);
+    }
+
+    @Test
+    void sameTrackShouldKeepPlayingWithoutFade() {
+        Music day = mock(Music.class);
+        BackgroundMusic.play(day);
+        when(day.isPlaying()).thenReturn(true);
+
+        Runnable onFadedOut = mock(Runnable.class);
+        BackgroundMusic.crossfadeTo(day, onFadedOut);
+
+        verify(day, times(1)).play();
+        verify(day, never()).stop();
+        verify(onFadedOut).run();
+    }
+
+    @Test
+    void interruptedCrossfadeShouldFinishPreviousAtOnce() {
+        Music day = mock(Music.class);
+        Music jungle = mock(Music.class);
+        Music night = mock(Music.class);
+        BackgroundMusic.play(day);
+        BackgroundMusic.update(FADE);
+
+        Runnable first = mock(Runnable.class);
+        BackgroundMusic.crossfadeTo(jungle, first);
+        BackgroundMusic.update(FADE / 4f);
+        BackgroundMusic.crossfadeTo(night, null);
+
+        verify(day).stop();
+        verify(first).run();
+        verify(jungle, never()).stop();
+        assertSame(night, BackgroundMusic.getCurrent());
+    }
+
+    @Test
+    void releasedTrackShouldBeStoppedAndForgotten() {
+        Music day = mock(Music.class);
+        BackgroundMusic.play(day);
+
+        BackgroundMusic.release(day);
+        verify(day).stop();
+        assertNull(BackgroundMusic.getCurrent());
+
+        BackgroundMusic.update(FADE);
+        verify(day, never()).setVolume(Constants.MUSIC_VOLUME);
+    }
+}
@@ -42,6 +42,21 @@ class ConstantsTest {
         assertEquals(expected, Constants.getPlantY(1), 0.01f);
     }
 
+    // --- getLane ---
+
+    @Test
+    void getLaneShouldMatchGetPlantY() {
+        for (int lane = 0; lane < Constants.LANES; lane++) {
+            assertEquals(lane, Constants.getLane(Constants.getPlantY(lane)));
+        }
+    }
+
+    @Test
+    void getLaneShouldClampOutsideGrid() {
+        assertEquals(0, Constants.getLane(-500f));
+        assertEquals(Constants.LANES - 1, Constants.getLane(5000f));
+    }
+
     // --- isInCell ---
 
     @Test
@@ -94,4 +109,41 @@ class ConstantsTest {
         Constants.CURRENT_LEVEL = 7;
         assertFalse(Constants.isWaterLane(0));
     }
+
+    // --- getColumn / laneAt / columnAt ---
+
+    @Test
+    void getColumnShouldMatchPlantX() {
+        for (int column = 0; column < Constants.COLUMNS; column++) {
+            assertEquals(column, Constants.getColumn(Constants.getPlantX(column)));
+        }
+    }
+
+    @Test
+    void getColumnShouldClampOutsideGrid() {
+        assertEquals(0, Constants.getColumn(-500f));
+        assertEquals(Constants.COLUMNS - 1, Constants.getColumn(5000f));
+    }
+
+    @Test
+    void laneAtAndColumnAtShouldAgreeWithIsInCell() {
+        for (float x = 150f; x < 1000f; x += 7.3f) {
+            for (float y = 40f; y < 700f; y += 9.1f) {
+                int lane = Constants.laneAt(y);
+                int column = Constants.columnAt(x);
+                boolean inside = lane >= 0 && column >= 0;
+                boolean expected = false;
+                for (int l = 0; l < Constants.LANES; l++) {
+                    for (int c = 0; c < Constants.COLUMNS; c++) {
+                        if (Constants.isInCell(x, y, c, l)) {
+                            expected = true;
+                            assertEquals(l, lane);
+                            assertEquals(c, column);
+                        }
+                    }
+                }
+                assertEquals(expected, inside, "x=" + x + " y=" + y);
+            }
+        }
+    }
 }
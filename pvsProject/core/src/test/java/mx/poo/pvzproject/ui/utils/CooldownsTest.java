@@ -1,5 +1,6 @@
 package mx.poo.pvzproject.ui.utils;// ============================================================
 
+import mx.poo.pvzproject.gameProcess.entities.plants.PlantSpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -18,65 +19,106 @@ class CooldownsTest {
 
     @Test
     void allCooldownsShouldStartAtZero() {
-        assertEquals(0f, cd.getCorn(),       0.01f);
-        assertEquals(0f, cd.getPapa(),       0.01f);
-        assertEquals(0f, cd.getWater(),      0.01f);
-        assertEquals(0f, cd.getRedBom(),     0.01f);
-        assertEquals(0f, cd.getLilyPad(),    0.01f);
-        assertEquals(0f, cd.getMaceta(),     0.01f);
-        assertEquals(0f, cd.getCampanilla(), 0.01f);
-        assertEquals(0f, cd.getChampi(),     0.01f);
+        for (PlantSpec spec : PlantSpec.values()) {
+            assertEquals(0f, cd.get(spec), 0.01f, spec.name());
+        }
     }
 
     // --- setters/getters ---
 
     @Test
     void setCornShouldUpdateValue() {
-        cd.setCorn(5f);
-        assertEquals(5f, cd.getCorn(), 0.01f);
+        cd.set(PlantSpec.CORN_SHOOTER, 5f);
+        assertEquals(5f, cd.get(PlantSpec.CORN_SHOOTER), 0.01f);
     }
 
     @Test
     void setPapaShouldUpdateValue() {
-        cd.setPapa(12f);
-        assertEquals(12f, cd.getPapa(), 0.01f);
+        cd.set(PlantSpec.PAPA, 12f);
+        assertEquals(12f, cd.get(PlantSpec.PAPA), 0.01f);
     }
 
     @Test
     void setWaterShouldUpdateValue() {
-        cd.setWater(3f);
-        assertEquals(3f, cd.getWater(), 0.01f);
+        cd.set(PlantSpec.WATER_PLANT, 3f);
+        assertEquals(3f, cd.get(PlantSpec.WATER_PLANT), 0.01f);
     }
 
     @Test
     void setRedBomShouldUpdateValue() {
-        cd.setRedBom(15f);
-        assertEquals(15f, cd.getRedBom(), 0.01f);
+        cd.set(PlantSpec.RED_BOM, 15f);
+        assertEquals(15f, cd.get(PlantSpec.RED_BOM), 0.01f);
+    }
+
+    @Test
+    void specAccessShouldShareSlots() {
+        cd.set(PlantSpec.CHAMPI, 10f);
+        assertEquals(10f, cd.get(PlantSpec.CHAMPI.getSlot()), 0.01f);
+
+        cd.set(PlantSpec.LILY_PAD.getSlot(), 3f);
+        assertEquals(3f, cd.get(PlantSpec.LILY_PAD), 0.01f);
     }
 
     // --- reset ---
 
     @Test
     void resetShouldSetAllToZero() {
-        cd.setCorn(5f);
-        cd.setPapa(10f);
-        cd.setWater(3f);
-        cd.setRedBom(15f);
-        cd.setLilyPad(3f);
-        cd.setMaceta(3f);
-        cd.setCampanilla(7f);
-        cd.setChampi(10f);
+        for (PlantSpec spec : PlantSpec.values()) {
+            cd.set(spec, spec.getCooldown());
+        }
 
         cd.reset();
 
-        assertEquals(0f, cd.getCorn(),       0.01f);
-        assertEquals(0f, cd.getPapa(),       0.01f);
-        assertEquals(0f, cd.getWater(),      0.01f);
-        assertEquals(0f, cd.getRedBom(),     0.01f);
-        assertEquals(0f, cd.getLilyPad(),    0.01f);
-        assertEquals(0f, cd.getMaceta(),     0.01f);
-        assertEquals(0f, cd.getCampanilla(), 0.01f);
-        assertEquals(0f, cd.getChampi(),     0.01f);
+        for (PlantSpec spec : PlantSpec.values()) {
+            assertEquals(0f, cd.get(spec), 0.01f, spec.name());
+        }
+    }
+
+    // --- tick / máscara / listener ---
+
+    @Test
+    void tickShouldCountDownAndClampAtZero() {
+        cd.set(PlantSpec.PAPA, 1f);
+        cd.tick(0.4f);
+        assertEquals(0.6f, cd.get(PlantSpec.PAPA), 0.01f);
+        cd.tick(1f);
+        assertEquals(0f, cd.get(PlantSpec.PAPA), 0.0001f);
+    }
+
+    @Test
+    void readyMaskShouldTrackPendingCooldowns() {
+        assertTrue(cd.allReady());
+        cd.set(PlantSpec.RED_BOM, 2f);
+        assertFalse(cd.isReady(PlantSpec.RED_BOM.getSlot()));
+        assertEquals(0L, cd.readyMask() & (1L << PlantSpec.RED_BOM.getSlot()));
+        assertTrue(cd.isReady(PlantSpec.CORN_SHOOTER.getSlot()));
+
+        cd.tick(2f);
+        assertTrue(cd.allReady());
+    }
+
+    @Test
+    void listenerShouldFireOnceWhenCooldownExpires() {
+        int[] fired = new int[PlantSpec.count()];
+        cd.setListener(slot -> fired[slot]++);
+        cd.set(PlantSpec.WATER_PLANT, 1f);
+
+        cd.tick(0.5f);
+        assertEquals(0, fired[PlantSpec.WATER_PLANT.getSlot()]);
+        cd.tick(0.5f);
+        cd.tick(0.5f);
+        assertEquals(1, fired[PlantSpec.WATER_PLANT.getSlot()]);
+        assertEquals(0, fired[PlantSpec.CORN_SHOOTER.getSlot()]);
+    }
+
+    @Test
+    void tableShouldSupportCustomSlotCount() {
+        Cooldowns big = new Cooldowns(Cooldowns.MAX_SLOTS);
+        big.set(63, 1f);
+        assertFalse(big.allReady());
+        big.tick(1f);
+        assertTrue(big.allReady());
+        assertThrows(IllegalArgumentException.class, () -> new Cooldowns(0));
     }
 
     @Test
@@ -0,0 +1,113 @@
+package mx.poo.pvzproject.ui.utils;
+
+import com.badlogic.gdx.audio.Sound;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SoundEffectsTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long LONG_SOUND = 10_000 * MS;
+
+    /** Sonido falso que devuelve ids consecutivos. */
+    private static Sound sound() {
+        Sound sound = mock(Sound.class);
+        long[] next = {0};
+        when(sound.play(anyFloat())).thenAnswer(invocation -> next[0]++);
+        return sound;
+    }
+
+    @AfterEach
+    void clear() {
+        SoundEffects.clear();
+    }
+
+    @Test
+    void playWithoutBoundSoundShouldBeIgnored() {
+        assertFalse(SoundEffects.play(Sfx.CORN_SHOOT, 0));
+    }
+
+    @Test
+    void repeatsWithinMinIntervalShouldBeThrottled() {
+        Sound sound = sound();
+        SoundEffects.bind(Sfx.CORN_SHOOT, sound, LONG_SOUND);
+
+        long interval = Sfx.CORN_SHOOT.getMinIntervalMillis() * MS;
+        assertTrue(SoundEffects.play(Sfx.CORN_SHOOT, 0));
+        assertFalse(SoundEffects.play(Sfx.CORN_SHOOT, interval - 1));
+        assertTrue(SoundEffects.play(Sfx.CORN_SHOOT, interval));
+        verify(sound, times(2)).play(anyFloat());
+    }
+
+    @Test
+    void perEffectCapShouldStealOldestVoice() {
+        Sound sound = sound();
+        SoundEffects.bind(Sfx.CORN_SHOOT, sound, LONG_SOUND);
+
+        long step = Sfx.CORN_SHOOT.getMinIntervalMillis() * MS;
+        int max = Sfx.CORN_SHOOT.getMaxVoices();
+        for (int i = 0; i <= max; i++) {
+            assertTrue(SoundEffects.play(Sfx.CORN_SHOOT, i * step));
+        }
+
+        assertEquals(max, SoundEffects.activeVoices(Sfx.CORN_SHOOT, max * step));
+        verify(sound).stop(0L);
+        verify(sound, times(1)).stop(anyLong());
+    }
+
+    @Test
+    void finishedVoicesShouldBeReused() {
+        Sound sound = sound();
+        SoundEffects.bind(Sfx.CORN_SHOOT, sound, 100 * MS);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(SoundEffects.play(Sfx.CORN_SHOOT, i * 200 * MS));
+        }
+        verify(sound, never()).stop(anyLong());
+        assertEquals(1, SoundEffects.activeVoices(Sfx.CORN_SHOOT, 9 * 200 * MS));
+    }
+
+    @Test
+    void fullVoiceTableShouldStealLowerPriority() {
+        Sound corn = sound();
+        Sound petalo = sound();
+        Sound explosion = sound();
+        SoundEffects.bind(Sfx.CORN_SHOOT, corn, LONG_SOUND);
+        SoundEffects.bind(Sfx.PETALO_SHOOT, petalo, LONG_SOUND);
+        SoundEffects.bind(Sfx.EXPLOSION, explosion, LONG_SOUND);
+
+        long now = fillVoices();
+
+        // La explosión tiene más prioridad: corta el disparo más antiguo
+        assertTrue(SoundEffects.play(Sfx.EXPLOSION, now));
+        verify(corn).stop(0L);
+        assertEquals(1, SoundEffects.activeVoices(Sfx.EXPLOSION, now));
+    }
+
+    @Test
+    void failedPlayShouldNotTakeAVoice() {
+        Sound sound = mock(Sound.class);
+        when(sound.play(anyFloat())).thenReturn(-1L);
+        SoundEffects.bind(Sfx.EXPLOSION, sound, LONG_SOUND);
+
+        assertFalse(SoundEffects.play(Sfx.EXPLOSION, 0));
+        assertEquals(0, SoundEffects.activeVoices(Sfx.EXPLOSION, 0));
+    }
+
+    /** Llena la tabla de voces con disparos de prioridad baja. */
+    private static long fillVoices() {
+        long now = 0;
+        for (int v = 0; v < Constants.SFX_MAX_VOICES; v++) {
+            Sfx sfx = SoundEffects.activeVoices(Sfx.CORN_SHOOT, now) < Sfx.CORN_SHOOT.getMaxVoices()
+                ? Sfx.CORN_SHOOT : Sfx.PETALO_SHOOT;
+            assertTrue(SoundEffects.play(sfx, now));
+            now += 100 * MS;
+        }
+        return now;
+    }
+}